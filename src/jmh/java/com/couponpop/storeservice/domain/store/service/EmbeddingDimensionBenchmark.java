@@ -0,0 +1,80 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임베딩 차원별 비용 벤치마크
+ *
+ * script_score의 cosineSimilarity와 같은 연산을 후보 문서 수만큼 수행해 차원별 CPU 비용을 비교합니다.
+ * 문서당 벡터 크기(dims * 4바이트)가 인덱스 메모리와 응답 크기에 그대로 비례하므로
+ * 이 결과와 검색 품질을 함께 보고 openai.embedding.dimension을 정합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmbeddingDimensionBenchmark {
+
+    private static final int CANDIDATE_DOCUMENTS = 1_000;
+
+    @Param({"256", "512", "768", "1536"})
+    private int dimension;
+
+    private float[] queryVector;
+    private float[][] documentVectors;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        queryVector = randomVector(random);
+        documentVectors = new float[CANDIDATE_DOCUMENTS][];
+        for (int i = 0; i < CANDIDATE_DOCUMENTS; i++) {
+            documentVectors[i] = randomVector(random);
+        }
+    }
+
+    @Benchmark
+    public void cosineSimilarityScoring(Blackhole blackhole) {
+        for (float[] documentVector : documentVectors) {
+            blackhole.consume(cosineSimilarity(queryVector, documentVector));
+        }
+    }
+
+    private static double cosineSimilarity(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    private float[] randomVector(Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,77 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.couponpopcoremodule.enums.StoreCategory;
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bulk 색인 문서 source 생성 벤치마크: 변환기 매핑(List&lt;Float&gt;) vs 벡터만 float[] 그대로
+ *
+ * StoreBulkIndexer와 같이 문서를 source 맵으로 만든 뒤 JSON으로 직렬화하는 비용을 비교합니다.
+ *
+ * 실행: ./gradlew jmh
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 연산당 할당 바이트를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreDocumentSourceBenchmark {
+
+    private static final int DIMENSION = 1536;
+
+    private MappingElasticsearchConverter converter;
+    private ObjectMapper objectMapper;
+    private StoreDocument document;
+
+    @Setup
+    public void setUp() {
+        SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+        converter = new MappingElasticsearchConverter(mappingContext);
+        converter.afterPropertiesSet();
+        objectMapper = new ObjectMapper();
+
+        Random random = new Random(42);
+        float[] embedding = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            embedding[i] = random.nextFloat() * 2 - 1;
+        }
+        Store store = Store.createStore(1L, "커피팝 강남점", "02-123-4567", "원두를 직접 볶는 동네 카페",
+                "123-45-67890", "서울특별시 강남구 테헤란로 123", "역삼동", 37.5665, 126.9780, null,
+                StoreCategory.CAFE, LocalTime.of(9, 0), LocalTime.of(21, 0), LocalTime.of(10, 0), LocalTime.of(20, 0));
+        document = StoreDocument.from(store, "owner", embedding);
+    }
+
+    @Benchmark
+    public byte[] convertedBoxedEmbedding() throws Exception {
+        Map<String, Object> source = converter.mapObject(document);
+        return objectMapper.writeValueAsBytes(source);
+    }
+
+    @Benchmark
+    public byte[] primitiveEmbedding() throws Exception {
+        Map<String, Object> source = converter.mapObject(document.withoutEmbedding());
+        source.put("embedding", document.getEmbedding());
+        return objectMapper.writeValueAsBytes(source);
+    }
+}
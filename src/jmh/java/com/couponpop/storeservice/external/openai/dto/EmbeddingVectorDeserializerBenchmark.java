@@ -0,0 +1,103 @@
+package com.couponpop.storeservice.external.openai.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 임베딩 응답 역직렬화 벤치마크: List&lt;Float&gt; vs float[] (스트리밍) vs base64
+ *
+ * 실행: ./gradlew jmh
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 연산당 할당 바이트를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmbeddingVectorDeserializerBenchmark {
+
+    private static final int DIMENSION = 1536;
+
+    @Param({"1", "32"})
+    private int batchSize;
+
+    private byte[] responseJson;
+    private byte[] base64ResponseJson;
+    private ObjectReader boxedReader;
+    private ObjectReader primitiveReader;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        StringBuilder base64Json = new StringBuilder("{\"data\":[");
+        for (int item = 0; item < batchSize; item++) {
+            float[] vector = new float[DIMENSION];
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = random.nextFloat() * 2 - 1;
+            }
+
+            json.append(item > 0 ? "," : "").append("{\"object\":\"embedding\",\"index\":").append(item).append(",\"embedding\":[");
+            for (int i = 0; i < DIMENSION; i++) {
+                json.append(i > 0 ? "," : "").append(vector[i]);
+            }
+            json.append("]}");
+
+            ByteBuffer bytes = ByteBuffer.allocate(DIMENSION * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asFloatBuffer().put(vector);
+            base64Json.append(item > 0 ? "," : "").append("{\"object\":\"embedding\",\"index\":").append(item)
+                    .append(",\"embedding\":\"").append(Base64.getEncoder().encodeToString(bytes.array())).append("\"}");
+        }
+        String tail = "],\"model\":\"text-embedding-3-small\",\"usage\":{\"prompt_tokens\":8,\"total_tokens\":8}}";
+        responseJson = json.append(tail).toString().getBytes(StandardCharsets.UTF_8);
+        base64ResponseJson = base64Json.append(tail).toString().getBytes(StandardCharsets.UTF_8);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        boxedReader = objectMapper.readerFor(BoxedEmbeddingResponse.class);
+        primitiveReader = objectMapper.readerFor(EmbeddingResponse.class);
+    }
+
+    @Benchmark
+    public BoxedEmbeddingResponse boxedFloatList() throws Exception {
+        return boxedReader.readValue(responseJson);
+    }
+
+    @Benchmark
+    public EmbeddingResponse primitiveFloatArray() throws Exception {
+        return primitiveReader.readValue(responseJson);
+    }
+
+    @Benchmark
+    public EmbeddingResponse base64FloatArray() throws Exception {
+        return primitiveReader.readValue(base64ResponseJson);
+    }
+
+    // 변경 전 표현 (비교 기준)
+    public record BoxedEmbeddingResponse(List<BoxedEmbeddingData> data, String model) {
+    }
+
+    public record BoxedEmbeddingData(List<Float> embedding, int index) {
+    }
+}
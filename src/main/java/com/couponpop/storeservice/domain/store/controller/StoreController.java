@@ -15,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -88,13 +89,13 @@ public class StoreController {
     /**
      * 하이브리드 검색 (BM25 + 벡터 검색)
      * 키워드 검색과 의미론적 검색을 결합하여 더 정확한 결과를 제공합니다.
+     * 임베딩 생성을 기다리는 동안 서블릿 스레드를 점유하지 않도록 비동기(Mono)로 응답합니다.
      */
     @GetMapping("/stores/search")
-    public ResponseEntity<ApiResponse<List<StoreSearchResponse>>> searchStores(@RequestParam String keyword) {
+    public Mono<ResponseEntity<ApiResponse<List<StoreSearchResponse>>>> searchStores(@RequestParam String keyword) {
 
-        List<StoreSearchResponse> stores = storeSearchService.executeHybridSearch(keyword);
-
-        return ApiResponse.success(stores);
+        return storeSearchService.executeHybridSearch(keyword)
+                .map(ApiResponse::success);
     }
 
     /**
@@ -102,11 +103,10 @@ public class StoreController {
      * 의미적으로 유사한 매장을 찾을 때 유용합니다.
      */
     @GetMapping("/stores/search/semantic")
-    public ResponseEntity<ApiResponse<List<StoreSearchResponse>>> searchStoresSemantic(@RequestParam String keyword) {
+    public Mono<ResponseEntity<ApiResponse<List<StoreSearchResponse>>>> searchStoresSemantic(@RequestParam String keyword) {
 
-        List<StoreSearchResponse> stores = storeSearchService.executeSemanticSearch(keyword);
-
-        return ApiResponse.success(stores);
+        return storeSearchService.executeSemanticSearch(keyword)
+                .map(ApiResponse::success);
     }
 
     /**
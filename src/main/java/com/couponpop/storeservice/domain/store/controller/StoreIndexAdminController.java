@@ -4,13 +4,18 @@ import com.couponpop.security.annotation.CurrentMember;
 import com.couponpop.security.dto.AuthMember;
 import com.couponpop.storeservice.common.exception.GlobalException;
 import com.couponpop.storeservice.common.response.ApiResponse;
+import com.couponpop.storeservice.domain.store.dto.response.StoreSyncDeadLetterResponse;
 import com.couponpop.storeservice.domain.store.exception.StoreErrorCode;
+import com.couponpop.storeservice.domain.store.service.StoreDeltaReindexService;
 import com.couponpop.storeservice.domain.store.service.StoreIndexInitService;
+import com.couponpop.storeservice.domain.store.service.StoreSyncDeadLetterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -23,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class StoreIndexAdminController {
 
     private final StoreIndexInitService storeIndexInitService;
+    private final StoreDeltaReindexService storeDeltaReindexService;
+    private final StoreSyncDeadLetterService storeSyncDeadLetterService;
 
     /**
      * 전체 매장 데이터를 Elasticsearch에 재색인합니다.
@@ -44,14 +51,34 @@ public class StoreIndexAdminController {
     }
 
     /**
-     * Elasticsearch 인덱스 전체 삭제 후 전체 재색인을 수행합니다.
+     * 마지막 증분 재색인 이후 변경(수정/삭제)된 매장만 Elasticsearch에 반영합니다.
+     */
+    @PostMapping("/delta-reindex")
+    public ResponseEntity<ApiResponse<String>> reindexDelta(@CurrentMember AuthMember authMember) {
+
+        validateAdminRole(authMember);
+
+        log.info("Admin request: Starting delta reindex of changed stores... (Admin: {})", authMember.username());
+
+        try {
+            storeDeltaReindexService.reindexDeltaAsync();
+            return ApiResponse.success("Delta reindexing initiated successfully. Check logs for progress.");
+        } catch (Exception e) {
+            log.error("Delta reindexing failed via admin endpoint", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 새 버전 인덱스에 전체 재색인한 뒤 검색 별칭을 교체합니다. (재색인 중에도 검색 유지)
+     * 중단된 전체 재색인이 있으면 체크포인트부터 이어서 처리합니다.
      */
     @PostMapping("/full-reindex")
     public ResponseEntity<ApiResponse<String>> fullReindex(@CurrentMember AuthMember authMember) {
 
         validateAdminRole(authMember);
 
-        log.warn("Admin request: Starting FULL REINDEX (Delete and Recreate)... (Admin: {})", authMember.username());
+        log.warn("Admin request: Starting FULL REINDEX (Blue/Green)... (Admin: {})", authMember.username());
 
         try {
             storeIndexInitService.fullReindex();
@@ -81,6 +108,38 @@ public class StoreIndexAdminController {
         }
     }
 
+    /**
+     * 반영되지 못한 동기화 항목(dead letter) 수와 오래된 항목 목록을 조회합니다.
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<ApiResponse<StoreSyncDeadLetterResponse>> getDeadLetters(
+            @CurrentMember AuthMember authMember,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        validateAdminRole(authMember);
+
+        return ApiResponse.success(storeSyncDeadLetterService.getBacklog(limit));
+    }
+
+    /**
+     * 모든 dead letter를 대기 항목으로 되돌려 다시 반영합니다.
+     */
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<ApiResponse<String>> replayDeadLetters(@CurrentMember AuthMember authMember) {
+
+        validateAdminRole(authMember);
+
+        log.info("Admin request: Replaying store sync dead letters... (Admin: {})", authMember.username());
+
+        try {
+            int replayed = storeSyncDeadLetterService.replayAll();
+            return ApiResponse.success("Replayed " + replayed + " dead letter(s). Check logs for progress.");
+        } catch (Exception e) {
+            log.error("Dead letter replay failed via admin endpoint", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     private void validateAdminRole(AuthMember authMember) {
 
         String memberType = authMember.memberType();
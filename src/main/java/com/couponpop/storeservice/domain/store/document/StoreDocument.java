@@ -11,9 +11,9 @@ import org.springframework.data.elasticsearch.annotations.*;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneOffset;
 
-@Document(indexName = "stores")
+@Document(indexName = "stores", createIndex = false)
 @Setting(
     refreshInterval = "1s",
     replicas = 1,
@@ -24,6 +24,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StoreDocument {
 
+    private static final String DATE_TIME_PATTERN = "uuuu-MM-dd'T'HH:mm:ss.SSS";
+
     @Id
     private String id;
 
@@ -84,18 +86,19 @@ public class StoreDocument {
     @Field(type = FieldType.Text, name = "weekend_close_time")
     private String weekendCloseTime;
 
-    @Field(type = FieldType.Date, name = "created_at", format = {}, pattern = "uuuu-MM-dd'T'HH:mm:ss.SSS")
+    @Field(type = FieldType.Date, name = "created_at", format = {}, pattern = DATE_TIME_PATTERN)
     private LocalDateTime createdAt;
 
-    @Field(type = FieldType.Date, name = "updated_at", format = {}, pattern = "uuuu-MM-dd'T'HH:mm:ss.SSS")
+    @Field(type = FieldType.Date, name = "updated_at", format = {}, pattern = DATE_TIME_PATTERN)
     private LocalDateTime updatedAt;
 
     /**
-     * OpenAI 임베딩 벡터 (1536 차원)
+     * OpenAI 임베딩 벡터
      * 시맨틱 검색(Semantic Search)에 사용됨
+     * 차원(dims)은 openai.embedding.dimension 설정을 따르며 인덱스 생성 시 StoreIndexMappingService가 주입합니다.
      */
-    @Field(type = FieldType.Dense_Vector, dims = 1536)
-    private List<Float> embedding;
+    @Field(type = FieldType.Dense_Vector)
+    private float[] embedding;
 
     @Builder(access = AccessLevel.PRIVATE)
     private StoreDocument(String id,
@@ -117,7 +120,7 @@ public class StoreDocument {
                           String weekendCloseTime,
                           LocalDateTime createdAt,
                           LocalDateTime updatedAt,
-                          List<Float> embedding) {
+                          float[] embedding) {
         this.id = id;
         this.storeId = storeId;
         this.memberId = memberId;
@@ -153,12 +156,12 @@ public class StoreDocument {
      * 
      * @param store Store 엔티티
      * @param memberUsername 회원 사용자명 (선택)
-     * @param embedding OpenAI 임베딩 벡터 (선택, 1536차원)
+     * @param embedding OpenAI 임베딩 벡터 (선택, openai.embedding.dimension 차원)
      * @return StoreDocument
      */
-    public static StoreDocument from(Store store, String memberUsername, List<Float> embedding) {
+    public static StoreDocument from(Store store, String memberUsername, float[] embedding) {
         return StoreDocument.builder()
-                .id(String.valueOf(store.getId())) // Elasticsearch 문서 ID를 storeId로 설정하여 업데이트 시 덮어쓰기 가능
+                .id(documentId(store.getId())) // Elasticsearch 문서 ID를 storeId로 설정하여 업데이트 시 덮어쓰기 가능
                 .storeId(store.getId())
                 .memberId(store.getMemberId())
                 .memberUsername(memberUsername)
@@ -180,5 +183,54 @@ public class StoreDocument {
                 .embedding(embedding)  // 임베딩 벡터 추가
                 .build();
     }
-}
 
+    /**
+     * 임베딩 벡터만 뺀 사본
+     * bulk 색인 시 나머지 필드는 변환기로 매핑하고 벡터는 float[] 그대로 넣기 위해 사용합니다.
+     */
+    public StoreDocument withoutEmbedding() {
+        return StoreDocument.builder()
+                .id(id)
+                .storeId(storeId)
+                .memberId(memberId)
+                .memberUsername(memberUsername)
+                .name(name)
+                .phone(phone)
+                .description(description)
+                .businessNumber(businessNumber)
+                .address(address)
+                .dong(dong)
+                .location(location)
+                .imageUrl(imageUrl)
+                .storeCategory(storeCategory)
+                .weekdayOpenTime(weekdayOpenTime)
+                .weekdayCloseTime(weekdayCloseTime)
+                .weekendOpenTime(weekendOpenTime)
+                .weekendCloseTime(weekendCloseTime)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * 매장 ID에 해당하는 Elasticsearch 문서 ID
+     * 문서를 조회하지 않고 ID로 바로 수정/삭제할 때 사용합니다.
+     */
+    public static String documentId(Long storeId) {
+        return String.valueOf(storeId);
+    }
+
+    /**
+     * 문서 외부 버전 (updated_at의 마이크로초 값)
+     * 색인 시 외부 버전으로 보내면, 더 최근 상태가 이미 반영된 문서를 재시도나 지연된 요청이 이전 상태로 덮어쓰지 못합니다.
+     *
+     * @param updatedAt 매장 수정일시 (DB 저장 값)
+     * @return 외부 버전 (수정일시가 없으면 null)
+     */
+    public static Long versionOf(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+    }
+}
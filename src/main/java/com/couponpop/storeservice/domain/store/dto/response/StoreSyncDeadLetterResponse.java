@@ -0,0 +1,40 @@
+package com.couponpop.storeservice.domain.store.dto.response;
+
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOperation;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장 동기화 dead letter 현황 응답 DTO
+ * 관리자가 반영되지 못한 동기화 항목의 규모와 실패 사유를 확인하는 데 사용
+ */
+public record StoreSyncDeadLetterResponse(
+        long backlog,
+        List<Entry> entries
+) {
+
+    public record Entry(
+            Long id,
+            Long storeId,
+            StoreSyncOperation operation,
+            int attemptCount,
+            String lastError,
+            LocalDateTime createdAt,
+            LocalDateTime nextRetryAt
+    ) {
+
+        public static Entry from(StoreSyncOutbox outbox) {
+            return new Entry(
+                    outbox.getId(),
+                    outbox.getStoreId(),
+                    outbox.getOperation(),
+                    outbox.getAttemptCount(),
+                    outbox.getLastError(),
+                    outbox.getCreatedAt(),
+                    outbox.getAvailableAt()
+            );
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.locationtech.jts.geom.Point;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "stores")
@@ -144,20 +145,40 @@ public class Store extends BaseEntity {
                 .build();
     }
 
-    public void updateStoreInfo(String name, 
-                                String phone, 
-                                String description, 
-                                String businessNumber,
-                                String address, 
-                                String dong,
-                                double latitude, 
-                                double longitude, 
-                                String imageUrl,
-                                StoreCategory storeCategory, 
-                                LocalTime weekdayOpenTime, 
-                                LocalTime weekdayCloseTime,
-                                LocalTime weekendOpenTime, 
-                                LocalTime weekendCloseTime) {
+    /**
+     * 매장 정보 수정
+     *
+     * @return 실제로 바뀐 값이 있는지 여부 (없으면 검색 인덱스 동기화 생략)
+     */
+    public boolean updateStoreInfo(String name,
+                                   String phone,
+                                   String description,
+                                   String businessNumber,
+                                   String address,
+                                   String dong,
+                                   double latitude,
+                                   double longitude,
+                                   String imageUrl,
+                                   StoreCategory storeCategory,
+                                   LocalTime weekdayOpenTime,
+                                   LocalTime weekdayCloseTime,
+                                   LocalTime weekendOpenTime,
+                                   LocalTime weekendCloseTime) {
+        boolean changed = !Objects.equals(this.name, name)
+                || !Objects.equals(this.phone, phone)
+                || !Objects.equals(this.description, description)
+                || !Objects.equals(this.businessNumber, businessNumber)
+                || !Objects.equals(this.address, address)
+                || !Objects.equals(this.dong, dong)
+                || Double.compare(this.latitude, latitude) != 0
+                || Double.compare(this.longitude, longitude) != 0
+                || !Objects.equals(this.imageUrl, imageUrl)
+                || this.storeCategory != storeCategory
+                || !Objects.equals(this.weekdayOpenTime, weekdayOpenTime)
+                || !Objects.equals(this.weekdayCloseTime, weekdayCloseTime)
+                || !Objects.equals(this.weekendOpenTime, weekendOpenTime)
+                || !Objects.equals(this.weekendCloseTime, weekendCloseTime);
+
         this.name = name;
         this.phone = phone;
         this.description = description;
@@ -172,6 +193,8 @@ public class Store extends BaseEntity {
         this.weekdayCloseTime = weekdayCloseTime;
         this.weekendOpenTime = weekendOpenTime;
         this.weekendCloseTime = weekendCloseTime;
+
+        return changed;
     }
 
     public void deleteStore() {
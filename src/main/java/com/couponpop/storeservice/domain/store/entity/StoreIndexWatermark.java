@@ -0,0 +1,76 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+import com.couponpop.storeservice.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 증분 재색인 워터마크
+ *
+ * 마지막으로 Elasticsearch에 반영한 매장의 (수정일시, ID)를 기록합니다.
+ * 증분 재색인은 이 위치 이후에 수정(소프트 삭제 포함)된 매장만 처리합니다.
+ */
+@Entity
+@Table(name = "store_index_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreIndexWatermark extends BaseEntity {
+
+    public static final String DELTA_REINDEX = "DELTA_REINDEX";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "last_updated_at", nullable = false)
+    private LocalDateTime lastUpdatedAt;
+
+    @Column(name = "last_store_id", nullable = false)
+    private Long lastStoreId;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StoreIndexWatermark(String name, LocalDateTime lastUpdatedAt, Long lastStoreId) {
+        this.name = name;
+        this.lastUpdatedAt = lastUpdatedAt;
+        this.lastStoreId = lastStoreId;
+    }
+
+    public static StoreIndexWatermark of(String name, LocalDateTime lastUpdatedAt, Long lastStoreId) {
+        return StoreIndexWatermark.builder()
+                .name(name)
+                .lastUpdatedAt(lastUpdatedAt)
+                .lastStoreId(lastStoreId)
+                .build();
+    }
+
+    /**
+     * 워터마크를 지정한 위치로 이동 (앞뒤 관계없이)
+     */
+    public void moveTo(LocalDateTime updatedAt, Long storeId) {
+        this.lastUpdatedAt = updatedAt;
+        this.lastStoreId = storeId;
+    }
+
+    /**
+     * 워터마크 전진 (현재 위치보다 앞이면 무시)
+     *
+     * @return 전진했는지 여부
+     */
+    public boolean advanceTo(LocalDateTime updatedAt, Long storeId) {
+        int compared = updatedAt.compareTo(this.lastUpdatedAt);
+        if (compared < 0 || (compared == 0 && storeId <= this.lastStoreId)) {
+            return false;
+        }
+        this.lastUpdatedAt = updatedAt;
+        this.lastStoreId = storeId;
+        return true;
+    }
+}
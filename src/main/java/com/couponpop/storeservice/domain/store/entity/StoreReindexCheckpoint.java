@@ -0,0 +1,83 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+import com.couponpop.storeservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 전체 재색인 구간별 체크포인트
+ *
+ * 매장 ID 공간을 (rangeStart, rangeEnd] 구간으로 나눠 구간마다 색인을 마친 마지막 매장 ID를 기록합니다.
+ * 중단된 작업은 각 구간의 lastStoreId 다음부터 키셋 조회로 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "store_reindex_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreReindexCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "last_store_id", nullable = false)
+    private Long lastStoreId;
+
+    @Column(name = "indexed_count", nullable = false)
+    private long indexedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StoreReindexCheckpoint(Long jobId, Long rangeStart, Long rangeEnd) {
+        this.jobId = jobId;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.lastStoreId = rangeStart;
+        this.indexedCount = 0;
+        this.completed = false;
+    }
+
+    /**
+     * @param rangeStart 구간 시작 매장 ID (미포함)
+     * @param rangeEnd 구간 끝 매장 ID (포함)
+     */
+    public static StoreReindexCheckpoint of(Long jobId, Long rangeStart, Long rangeEnd) {
+        return StoreReindexCheckpoint.builder()
+                .jobId(jobId)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .build();
+    }
+
+    /**
+     * 체크포인트 전진 (현재 위치보다 앞이면 무시)
+     *
+     * @param lastStoreId 색인을 마친 마지막 매장 ID
+     * @param indexed 이번에 색인에 성공한 매장 수
+     */
+    public void advanceTo(Long lastStoreId, long indexed) {
+        if (lastStoreId <= this.lastStoreId) {
+            return;
+        }
+        this.lastStoreId = lastStoreId;
+        this.indexedCount += indexed;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
@@ -0,0 +1,77 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+import com.couponpop.storeservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 전체 재색인 작업
+ *
+ * 새 버전 인덱스와 재색인 시작 시각을 기록해, 인스턴스가 재시작되어도 같은 인덱스에 이어서 색인하고
+ * 처음 시작 시각 기준으로 검증/증분 재색인을 수행할 수 있게 합니다. 구간별 진행 상황은 StoreReindexCheckpoint에 기록됩니다.
+ */
+@Entity
+@Table(name = "store_reindex_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreReindexJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_index", nullable = false, length = 100)
+    private String targetIndex;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private StoreReindexJobStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "resume_attempts", nullable = false)
+    private int resumeAttempts;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StoreReindexJob(String targetIndex, LocalDateTime startedAt) {
+        this.targetIndex = targetIndex;
+        this.status = StoreReindexJobStatus.RUNNING;
+        this.startedAt = startedAt;
+        this.heartbeatAt = LocalDateTime.now();
+        this.resumeAttempts = 0;
+    }
+
+    public static StoreReindexJob start(String targetIndex, LocalDateTime startedAt) {
+        return StoreReindexJob.builder()
+                .targetIndex(targetIndex)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    /**
+     * 진행 기록 (실행 중인 인스턴스가 살아 있음을 표시)
+     */
+    public void heartbeat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+
+    public void complete() {
+        this.status = StoreReindexJobStatus.COMPLETED;
+    }
+
+    /**
+     * 재개할 수 없는 실패 (검증 실패 등, 새 인덱스는 삭제됨)
+     */
+    public void fail() {
+        this.status = StoreReindexJobStatus.FAILED;
+    }
+}
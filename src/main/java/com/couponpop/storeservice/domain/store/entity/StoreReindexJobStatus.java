@@ -0,0 +1,11 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+/**
+ * 전체 재색인 작업 상태
+ */
+public enum StoreReindexJobStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+/**
+ * 검색 인덱스 동기화 작업 종류
+ */
+public enum StoreSyncOperation {
+
+    UPSERT,
+    DELETE
+}
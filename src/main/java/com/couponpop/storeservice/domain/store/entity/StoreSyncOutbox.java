@@ -0,0 +1,105 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+import com.couponpop.storeservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 검색 인덱스 동기화 아웃박스
+ *
+ * 매장 변경과 같은 트랜잭션에서 기록되며, StoreSyncOutboxRelay가 커밋된 항목을 배치로 읽어 Elasticsearch에 반영합니다.
+ * 요청 트랜잭션은 OpenAI/ES 호출을 기다리지 않고, 동기화는 실패하더라도 재시도되어 결국 반영됩니다.
+ */
+@Entity
+@Table(name = "store_sync_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreSyncOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private StoreSyncOperation operation;
+
+    @Column(name = "member_username", length = 100)
+    private String memberUsername;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private StoreSyncStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private StoreSyncOutbox(Long storeId,
+                            StoreSyncOperation operation,
+                            String memberUsername) {
+        this.storeId = storeId;
+        this.operation = operation;
+        this.memberUsername = memberUsername;
+        this.status = StoreSyncStatus.PENDING;
+        this.attemptCount = 0;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    /**
+     * 매장 생성/수정 시 전체 색인 (임베딩 포함)
+     */
+    public static StoreSyncOutbox index(Long storeId, String memberUsername) {
+        return StoreSyncOutbox.builder()
+                .storeId(storeId)
+                .operation(StoreSyncOperation.UPSERT)
+                .memberUsername(memberUsername)
+                .build();
+    }
+
+    /**
+     * 매장 삭제 시 문서 제거
+     */
+    public static StoreSyncOutbox delete(Long storeId) {
+        return StoreSyncOutbox.builder()
+                .storeId(storeId)
+                .operation(StoreSyncOperation.DELETE)
+                .build();
+    }
+
+    /**
+     * 처리 중 다른 릴레이가 가져가지 않도록 지정 시각까지 선점
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 처리 실패 기록
+     * 최대 시도 횟수에 도달하면 FAILED로 전환하고, 아니면 retryAt 이후 다시 처리되도록 합니다.
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.availableAt = retryAt;
+        if (this.attemptCount >= maxAttempts) {
+            this.status = StoreSyncStatus.FAILED;
+        }
+    }
+}
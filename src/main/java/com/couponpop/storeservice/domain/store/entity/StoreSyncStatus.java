@@ -0,0 +1,11 @@
+package com.couponpop.storeservice.domain.store.entity;
+
+/**
+ * 아웃박스 항목 처리 상태
+ */
+public enum StoreSyncStatus {
+
+    PENDING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,127 @@
+package com.couponpop.storeservice.domain.store.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 매장 ID 기준 동기화 병합 큐
+ *
+ * 커밋된 아웃박스 항목을 짧은 시간 동안 매장별로 모았다가 한 번에 내보냅니다.
+ * 점주가 연달아 저장하거나 관리자가 일괄 수정할 때, 같은 매장의 항목은 릴레이에서 한 번의 반영으로 합쳐지고
+ * (마지막 변경 기준, 삭제 우선) 여러 매장은 하나의 bulk 요청으로 처리되어 중복 임베딩/색인 호출을 줄입니다.
+ *
+ * 대기 매장 수가 상한을 넘으면 새 항목을 받지 않으며, 이 항목들은 아웃박스 주기 조회에서 반영됩니다.
+ */
+@Slf4j
+public class StoreSyncCoalescingQueue {
+
+    private final Duration window;
+    private final int maxBatchStores;
+    private final int maxPendingStores;
+    private final Consumer<List<Long>> flushAction;
+    private final ScheduledExecutorService scheduler;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+
+    // 매장 ID → 해당 매장의 대기 중인 아웃박스 항목 ID (입력 순서 유지)
+    private Map<Long, List<Long>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    /**
+     * @param window 첫 항목 이후 모으는 최대 시간
+     * @param maxBatchStores 이 수만큼 매장이 모이면 대기 시간 전이라도 즉시 내보냄
+     * @param maxPendingStores 대기 가능한 최대 매장 수
+     * @param flushAction 모은 아웃박스 항목 ID 목록을 처리할 작업
+     * @param scheduler 대기 시간 만료를 처리할 스케줄러
+     */
+    public StoreSyncCoalescingQueue(Duration window,
+                                    int maxBatchStores,
+                                    int maxPendingStores,
+                                    Consumer<List<Long>> flushAction,
+                                    ScheduledExecutorService scheduler,
+                                    MeterRegistry meterRegistry) {
+        this.window = window;
+        this.maxBatchStores = maxBatchStores;
+        this.maxPendingStores = maxPendingStores;
+        this.flushAction = flushAction;
+        this.scheduler = scheduler;
+        this.coalescedCounter = Counter.builder("store.sync.queue.coalesced")
+                .description("같은 매장의 대기 항목과 병합된 동기화 요청 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("store.sync.queue.dropped")
+                .description("병합 큐 초과로 아웃박스 주기 조회에 넘긴 동기화 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃박스 항목 추가
+     *
+     * @return 큐에 추가되었는지 여부 (false면 아웃박스 주기 조회에서 반영)
+     */
+    public boolean offer(Long storeId, Long outboxId) {
+        boolean flushNow;
+        synchronized (this) {
+            List<Long> outboxIds = pending.get(storeId);
+            if (outboxIds != null) {
+                outboxIds.add(outboxId);
+                coalescedCounter.increment();
+                return true;
+            }
+
+            if (pending.size() >= maxPendingStores) {
+                droppedCounter.increment();
+                log.debug("Store sync queue full, deferring to outbox polling: storeId={}, outboxId={}", storeId, outboxId);
+                return false;
+            }
+
+            outboxIds = new ArrayList<>(2);
+            outboxIds.add(outboxId);
+            pending.put(storeId, outboxIds);
+
+            flushNow = pending.size() >= maxBatchStores;
+            if (!flushNow && !flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (flushNow) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * 모인 항목을 모두 내보냄
+     */
+    public void flush() {
+        Map<Long, List<Long>> drained;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        List<Long> outboxIds = new ArrayList<>();
+        drained.values().forEach(outboxIds::addAll);
+        log.debug("Flushing coalesced store sync queue: stores={}, entries={}", drained.size(), outboxIds.size());
+        flushAction.accept(outboxIds);
+    }
+
+    public synchronized int pendingStores() {
+        return pending.size();
+    }
+}
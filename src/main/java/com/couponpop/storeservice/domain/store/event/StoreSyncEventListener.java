@@ -0,0 +1,113 @@
+package com.couponpop.storeservice.domain.store.event;
+
+import com.couponpop.storeservice.domain.store.service.StoreSyncOutboxRelay;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매장 동기화 이벤트 리스너
+ *
+ * 트랜잭션 커밋 후에만 동기화를 시작하므로 롤백된 변경이 색인되거나 커밋 전에 색인되는 일이 없고,
+ * 요청 스레드는 DB 쓰기만 기다립니다.
+ * 커밋된 항목은 StoreSyncCoalescingQueue에서 매장별로 잠시 모은 뒤 한 번에 반영합니다.
+ * 동기화는 전용 스레드 풀(고정 크기 큐)에서 실행되며, 큐가 가득 차면 작업을 버립니다.
+ * 버려진 항목은 아웃박스에 남아 있으므로 StoreSyncOutboxRelay의 주기 조회가 이어서 반영합니다.
+ */
+@Slf4j
+@Component
+public class StoreSyncEventListener {
+
+    private final StoreSyncOutboxRelay relay;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService flushScheduler;
+    private final StoreSyncCoalescingQueue queue;
+    private final Counter rejectedCounter;
+
+    public StoreSyncEventListener(
+            StoreSyncOutboxRelay relay,
+            MeterRegistry meterRegistry,
+            @Value("${store.sync.executor.core-size:2}") int coreSize,
+            @Value("${store.sync.executor.max-size:4}") int maxSize,
+            @Value("${store.sync.executor.queue-capacity:500}") int queueCapacity,
+            @Value("${store.sync.queue.window:200ms}") Duration coalesceWindow,
+            @Value("${store.sync.queue.max-batch-stores:100}") int maxBatchStores,
+            @Value("${store.sync.queue.max-pending-stores:1000}") int maxPendingStores) {
+        this.relay = relay;
+        this.rejectedCounter = Counter.builder("store.sync.executor.rejected")
+                .description("큐 초과로 버려진 동기화 작업 수 (아웃박스 주기 조회로 보완)")
+                .register(meterRegistry);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(coreSize, maxSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "store-sync-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    rejectedCounter.increment();
+                    log.warn("Store sync executor saturated, deferring to outbox polling: queueSize={}", pool.getQueue().size());
+                });
+
+        Gauge.builder("store.sync.executor.queued", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 동기화 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("store.sync.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 동기화 작업 수")
+                .register(meterRegistry);
+
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-sync-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queue = new StoreSyncCoalescingQueue(coalesceWindow, maxBatchStores, maxPendingStores,
+                this::relayAsync, flushScheduler, meterRegistry);
+        Gauge.builder("store.sync.queue.pending", queue, StoreSyncCoalescingQueue::pendingStores)
+                .description("병합 큐에서 대기 중인 매장 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreSyncRequested(StoreSyncRequestedEvent event) {
+        queue.offer(event.storeId(), event.outboxId());
+    }
+
+    private void relayAsync(List<Long> outboxIds) {
+        executor.execute(() -> {
+            try {
+                relay.relayEntries(outboxIds);
+            } catch (Exception e) {
+                // 아웃박스 항목이 남아 있으므로 주기 조회에서 재시도
+                log.warn("Immediate store sync failed, deferring to outbox polling: entries={}", outboxIds.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushScheduler.shutdownNow();
+        queue.flush();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.couponpop.storeservice.domain.store.event;
+
+/**
+ * 매장 변경으로 검색 인덱스 동기화가 필요함을 알리는 이벤트
+ * 아웃박스 항목과 같은 트랜잭션에서 발행되며, 커밋 이후에만 처리됩니다.
+ *
+ * @param outboxId 동기화 아웃박스 항목 ID
+ * @param storeId 매장 ID
+ */
+public record StoreSyncRequestedEvent(Long outboxId, Long storeId) {
+}
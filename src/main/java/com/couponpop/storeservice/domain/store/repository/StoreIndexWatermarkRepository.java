@@ -0,0 +1,7 @@
+package com.couponpop.storeservice.domain.store.repository;
+
+import com.couponpop.storeservice.domain.store.entity.StoreIndexWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StoreIndexWatermarkRepository extends JpaRepository<StoreIndexWatermark, String> {
+}
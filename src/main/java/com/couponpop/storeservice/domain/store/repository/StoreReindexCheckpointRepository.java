@@ -0,0 +1,22 @@
+package com.couponpop.storeservice.domain.store.repository;
+
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StoreReindexCheckpointRepository extends JpaRepository<StoreReindexCheckpoint, Long> {
+
+    /**
+     * 작업의 미완료 구간을 구간 순으로 조회합니다.
+     */
+    List<StoreReindexCheckpoint> findByJobIdAndCompletedFalseOrderByRangeStartAsc(Long jobId);
+
+    /**
+     * 작업에서 색인에 성공한 매장 수 합계
+     */
+    @Query("SELECT COALESCE(SUM(c.indexedCount), 0) FROM StoreReindexCheckpoint c WHERE c.jobId = :jobId")
+    long sumIndexedCount(@Param("jobId") Long jobId);
+}
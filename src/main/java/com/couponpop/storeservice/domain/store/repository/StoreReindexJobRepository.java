@@ -0,0 +1,32 @@
+package com.couponpop.storeservice.domain.store.repository;
+
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJob;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StoreReindexJobRepository extends JpaRepository<StoreReindexJob, Long> {
+
+    /**
+     * 가장 최근 작업을 상태로 조회합니다.
+     */
+    Optional<StoreReindexJob> findFirstByStatusOrderByIdDesc(StoreReindexJobStatus status);
+
+    /**
+     * 마지막 진행 기록이 staleBefore 이전인 실행 중 작업을 선점합니다.
+     * 조건부 UPDATE이므로 여러 인스턴스가 동시에 재개하려 해도 한 인스턴스만 1을 반환합니다.
+     * 선점할 때마다 재개 횟수를 1 늘립니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE store_reindex_job
+            SET heartbeat_at = :now, resume_attempts = resume_attempts + 1
+            WHERE id = :id AND status = 'RUNNING' AND heartbeat_at < :staleBefore
+            """, nativeQuery = true)
+    int claimStale(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -52,6 +54,54 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     })
     Stream<Store> streamAll();
 
+    /**
+     * (afterId, toId] 구간의 매장을 ID 순으로 조회합니다. (키셋 페이징)
+     * 구간 분할 전체 재색인에서 구간별로 체크포인트 이후부터 읽는 데 사용됩니다.
+     */
+    List<Store> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long afterId, Long toId, Pageable pageable);
+
     @Query("SELECT s FROM Store s WHERE s.dong IN :dongs")
     List<Store> findByDongIn(@Param("dongs") List<String> dongs);
+
+    /**
+     * 삭제된 매장을 포함한 가장 큰 매장 ID (매장이 없으면 0)
+     */
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM stores", nativeQuery = true)
+    long findMaxIdIncludingDeleted();
+
+    /**
+     * 지정한 ID 이후의 매장 상태를 ID 순으로 limit건 조회합니다. (키셋 페이징)
+     * 색인 정합성 비교에 사용되며, 삭제된 매장도 포함하기 위해 @SQLRestriction을 무시합니다.
+     */
+    @Query(value = """
+            SELECT id, updated_at AS updatedAt, deleted_at AS deletedAt FROM stores
+            WHERE id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<StoreSyncState> findSyncStatesAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * ID로 매장 상태를 조회합니다.
+     * 삭제 시점 수정일시를 문서 삭제의 외부 버전으로 쓰기 위해 사용되며, 삭제된 매장도 포함하기 위해 @SQLRestriction을 무시합니다.
+     */
+    @Query(value = "SELECT id, updated_at AS updatedAt, deleted_at AS deletedAt FROM stores WHERE id IN (:storeIds)",
+            nativeQuery = true)
+    List<StoreSyncState> findSyncStatesByIdIn(@Param("storeIds") Collection<Long> storeIds);
+
+    /**
+     * 워터마크 (updatedAt, afterId) 이후부터 upTo 이전까지 수정된 매장 상태를 수정일시, ID 순으로 limit건 조회합니다.
+     * 증분 재색인에 사용되며, 소프트 삭제도 수정일시를 갱신하므로 삭제된 매장을 포함합니다.
+     */
+    @Query(value = """
+            SELECT id, updated_at AS updatedAt, deleted_at AS deletedAt FROM stores
+            WHERE (updated_at > :updatedAt OR (updated_at = :updatedAt AND id > :afterId))
+              AND updated_at < :upTo
+            ORDER BY updated_at, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<StoreSyncState> findSyncStatesUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                    @Param("afterId") long afterId,
+                                                    @Param("upTo") LocalDateTime upTo,
+                                                    @Param("limit") int limit);
 }
\ No newline at end of file
@@ -6,10 +6,5 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreSearchRepository extends ElasticsearchRepository<StoreDocument, String> {
-    
-    /**
-     * storeId로 문서 삭제
-     */
-    void deleteByStoreId(Long storeId);
 }
 
@@ -0,0 +1,85 @@
+package com.couponpop.storeservice.domain.store.repository;
+
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StoreSyncOutboxRepository extends JpaRepository<StoreSyncOutbox, Long> {
+
+    /**
+     * 처리 가능한 대기 항목을 ID 순으로 조회하며 행 잠금을 획득합니다.
+     * 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 릴레이가 같은 항목을 중복 처리하지 않습니다.
+     */
+    @Query(value = """
+            SELECT * FROM store_sync_outbox
+            WHERE status = 'PENDING' AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoreSyncOutbox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 지정한 ID 중 처리 가능한 대기 항목을 조회하며 행 잠금을 획득합니다. (커밋 후 즉시 반영용)
+     */
+    @Query(value = """
+            SELECT * FROM store_sync_outbox
+            WHERE id IN (:ids) AND status = 'PENDING' AND available_at <= :now
+            ORDER BY id
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoreSyncOutbox> findClaimableByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 재시도 시각이 된 dead letter(FAILED) 항목을 ID 순으로 조회하며 행 잠금을 획득합니다.
+     */
+    @Query(value = """
+            SELECT * FROM store_sync_outbox
+            WHERE status = 'FAILED' AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoreSyncOutbox> findDeadLettersDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 오래된 순으로 dead letter 항목 조회 (관리자 확인용)
+     */
+    List<StoreSyncOutbox> findByStatusOrderByIdAsc(StoreSyncStatus status, Pageable pageable);
+
+    /**
+     * 모든 dead letter 항목을 시도 횟수를 초기화해 대기 항목으로 되돌립니다. (관리자 재처리용)
+     * 마지막 실패 사유는 다시 반영될 때까지 유지됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE store_sync_outbox
+            SET status = 'PENDING', attempt_count = 0, available_at = :now, updated_at = :now
+            WHERE status = 'FAILED'
+            """, nativeQuery = true)
+    int replayDeadLetters(@Param("now") LocalDateTime now);
+
+    /**
+     * 항목 상태 일괄 변경 (처리 완료 표시에 사용)
+     */
+    @Modifying
+    @Query("UPDATE StoreSyncOutbox o SET o.status = :status, o.lastError = null, o.updatedAt = :now WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") StoreSyncStatus status, @Param("now") LocalDateTime now);
+
+    /**
+     * 보존 기간이 지난 완료 항목 삭제 (한 번에 최대 limit건)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM store_sync_outbox WHERE status = 'DONE' AND updated_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    long countByStatus(StoreSyncStatus status);
+}
@@ -0,0 +1,15 @@
+package com.couponpop.storeservice.domain.store.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인 정합성 비교용 매장 상태 (삭제된 매장 포함)
+ */
+public interface StoreSyncState {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getDeletedAt();
+}
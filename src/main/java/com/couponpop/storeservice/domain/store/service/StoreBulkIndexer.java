@@ -0,0 +1,301 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 매장 문서 bulk 색인기
+ *
+ * elasticsearch-java의 BulkIngester로 색인/삭제 요청을 모아 보냅니다.
+ * 작업 수(max-operations), 요청 크기(max-size), 주기(flush-interval) 중 먼저 도달한 기준으로 bulk 요청을 보내고,
+ * 동시에 진행 중인 요청이 max-concurrent-requests에 도달하면 추가를 대기시켜 Elasticsearch 부하를 제한합니다.
+ *
+ * bulk 응답은 항목별로 성공/실패가 나뉘므로, 각 항목의 결과를 매장 ID 단위로 모아 호출자에게 돌려줍니다.
+ *
+ * 색인과 삭제는 updated_at 기반 외부 버전(version_type=external_gte)으로 보냅니다.
+ * 더 최근 상태가 이미 반영된 문서에 대한 지연/재시도 요청은 Elasticsearch가 버전 충돌로 거절하며,
+ * 이 경우 반영할 내용이 없으므로 성공으로 처리합니다. 같은 상태의 중복 색인은 그대로 덮어씁니다.
+ *
+ * 결과는 매장 ID 단위로 모으므로, 한 번의 호출에 같은 매장이 여러 번 들어오면 가장 최근 상태 하나만 보냅니다.
+ *
+ * 변환기(MappingElasticsearchConverter)는 배열 필드를 박싱된 값의 List로 매핑하므로,
+ * 임베딩 벡터는 변환기를 거치지 않고 float[] 그대로 source에 넣어 문서마다 Float 객체를 다시 만들지 않습니다.
+ */
+@Slf4j
+@Component
+public class StoreBulkIndexer {
+
+    private static final String EMBEDDING_FIELD = "embedding";
+
+    private final BulkIngester<PendingItem> ingester;
+    private final ElasticsearchConverter converter;
+    private final String indexName;
+    private final Duration awaitTimeout;
+    private final Counter requestFailedCounter;
+    private final Counter itemFailedCounter;
+    private final Counter staleSkippedCounter;
+
+    public StoreBulkIndexer(
+            ElasticsearchClient elasticsearchClient,
+            ElasticsearchOperations elasticsearchOperations,
+            MeterRegistry meterRegistry,
+            @Value("${store.sync.bulk.max-operations:500}") int maxOperations,
+            @Value("${store.sync.bulk.max-size:5MB}") DataSize maxSize,
+            @Value("${store.sync.bulk.flush-interval:1s}") Duration flushInterval,
+            @Value("${store.sync.bulk.max-concurrent-requests:2}") int maxConcurrentRequests,
+            @Value("${store.sync.bulk.await-timeout:60s}") Duration awaitTimeout) {
+        this.converter = elasticsearchOperations.getElasticsearchConverter();
+        this.indexName = elasticsearchOperations.getIndexCoordinatesFor(StoreDocument.class).getIndexName();
+        this.awaitTimeout = awaitTimeout;
+        this.requestFailedCounter = Counter.builder("store.sync.bulk.request.failed")
+                .description("전송 자체에 실패한 bulk 요청 수")
+                .register(meterRegistry);
+        this.itemFailedCounter = Counter.builder("store.sync.bulk.item.failed")
+                .description("bulk 요청에서 실패한 문서 수")
+                .register(meterRegistry);
+        this.staleSkippedCounter = Counter.builder("store.sync.bulk.item.stale")
+                .description("더 최근 버전이 이미 반영되어 건너뛴 문서 수")
+                .register(meterRegistry);
+        this.ingester = BulkIngester.of(builder -> builder
+                .client(elasticsearchClient)
+                .maxOperations(maxOperations)
+                .maxSize(maxSize.toBytes())
+                .flushInterval(flushInterval.toMillis(), TimeUnit.MILLISECONDS)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .listener(new ResultListener()));
+    }
+
+    /**
+     * 매장 문서 색인 (같은 ID의 문서는 교체, 이미 더 최근 버전이 있으면 건너뜀)
+     *
+     * @param documents 색인할 문서 목록
+     * @return 매장 ID별 반영 결과
+     */
+    public StoreBulkResult index(List<StoreDocument> documents) {
+        return index(documents, indexName);
+    }
+
+    /**
+     * 지정한 인덱스에 매장 문서 색인 (blue/green 재색인 중 별칭 교체 전의 새 인덱스)
+     *
+     * @param documents 색인할 문서 목록 (같은 매장이 여러 번 있으면 updated_at이 가장 최근인 문서만 색인)
+     * @param targetIndex 색인할 인덱스 이름
+     * @return 매장 ID별 반영 결과
+     */
+    public StoreBulkResult index(List<StoreDocument> documents, String targetIndex) {
+        if (documents.isEmpty()) {
+            return StoreBulkResult.empty();
+        }
+
+        Map<Long, StoreDocument> latestDocuments = new LinkedHashMap<>();
+        for (StoreDocument document : documents) {
+            latestDocuments.merge(document.getStoreId(), document, StoreBulkIndexer::newer);
+        }
+
+        Map<Long, CompletableFuture<String>> outcomes = new LinkedHashMap<>();
+        for (StoreDocument document : latestDocuments.values()) {
+            Map<String, Object> source = converter.mapObject(document.withoutEmbedding());
+            if (document.getEmbedding() != null) {
+                source.put(EMBEDDING_FIELD, document.getEmbedding());
+            }
+            Long version = StoreDocument.versionOf(document.getUpdatedAt());
+            add(outcomes, document.getStoreId(), BulkOperation.of(op -> op.index(idx -> {
+                idx.index(targetIndex)
+                        .id(document.getId())
+                        .document(source);
+                if (version != null) {
+                    idx.version(version).versionType(VersionType.ExternalGte);
+                }
+                return idx;
+            })));
+        }
+        return flushAndAwait(outcomes);
+    }
+
+    /**
+     * 매장 문서 삭제
+     * 문서 ID가 매장 ID이므로 검색 없이 ID로 바로 삭제하며, 이미 없는 문서는 성공으로 처리됩니다.
+     *
+     * 삭제도 삭제 시점 updated_at 기반 외부 버전(version_type=external_gte)으로 보냅니다.
+     * 버전 없이 삭제하면 tombstone이 정리(index.gc_deletes)된 뒤 지연된 이전 상태의 색인이
+     * 삭제된 매장 문서를 다시 만들 수 있습니다. 수정일시를 알 수 없는 매장(DB에 행이 없음)은 버전 없이 삭제합니다.
+     *
+     * @param updatedAtByStore 삭제할 매장 ID별 삭제 시점 수정일시 (모르면 null)
+     * @return 매장 ID별 반영 결과
+     */
+    public StoreBulkResult delete(Map<Long, LocalDateTime> updatedAtByStore) {
+        if (updatedAtByStore.isEmpty()) {
+            return StoreBulkResult.empty();
+        }
+
+        Map<Long, CompletableFuture<String>> outcomes = new LinkedHashMap<>();
+        updatedAtByStore.forEach((storeId, updatedAt) -> {
+            Long version = StoreDocument.versionOf(updatedAt);
+            add(outcomes, storeId, BulkOperation.of(op -> op.delete(del -> {
+                del.index(indexName)
+                        .id(StoreDocument.documentId(storeId));
+                if (version != null) {
+                    del.version(version).versionType(VersionType.ExternalGte);
+                }
+                return del;
+            })));
+        });
+        return flushAndAwait(outcomes);
+    }
+
+    @PreDestroy
+    public void close() {
+        // 남은 항목을 전송하고 진행 중인 요청이 끝날 때까지 대기
+        ingester.close();
+    }
+
+    private void add(Map<Long, CompletableFuture<String>> outcomes, Long storeId, BulkOperation operation) {
+        CompletableFuture<String> outcome = new CompletableFuture<>();
+        outcomes.put(storeId, outcome);
+        ingester.add(operation, new PendingItem(storeId, outcome));
+    }
+
+    /**
+     * 호출자가 결과를 기다리므로 추가한 작업은 임계값을 기다리지 않고 바로 전송
+     * 다른 호출자가 동시에 추가한 작업과는 같은 bulk 요청으로 합쳐질 수 있습니다.
+     */
+    private StoreBulkResult flushAndAwait(Map<Long, CompletableFuture<String>> outcomes) {
+        ingester.flush();
+
+        long deadline = System.nanoTime() + awaitTimeout.toNanos();
+        int succeeded = 0;
+        Map<Long, String> failures = new HashMap<>();
+        for (Map.Entry<Long, CompletableFuture<String>> entry : outcomes.entrySet()) {
+            String failure;
+            try {
+                failure = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                failure = "Timed out waiting for bulk response after " + awaitTimeout;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = "Interrupted while waiting for bulk response";
+            } catch (ExecutionException e) {
+                failure = describe(e.getCause());
+            }
+
+            if (failure == null) {
+                succeeded++;
+            } else {
+                failures.put(entry.getKey(), failure);
+            }
+        }
+        return new StoreBulkResult(succeeded, failures);
+    }
+
+    /**
+     * 같은 매장의 두 문서 중 더 최근 상태 (수정일시가 같으면 나중에 들어온 문서)
+     */
+    private static StoreDocument newer(StoreDocument current, StoreDocument candidate) {
+        Long currentVersion = StoreDocument.versionOf(current.getUpdatedAt());
+        Long candidateVersion = StoreDocument.versionOf(candidate.getUpdatedAt());
+        if (currentVersion == null || candidateVersion == null) {
+            return candidateVersion == null && currentVersion != null ? current : candidate;
+        }
+        return candidateVersion >= currentVersion ? candidate : current;
+    }
+
+    private static boolean isStaleVersion(BulkResponseItem item, ErrorCause error) {
+        return item.status() == 409 && "version_conflict_engine_exception".equals(error.type());
+    }
+
+    private static String describe(Throwable throwable) {
+        return throwable.getClass().getSimpleName() + ": " + throwable.getMessage();
+    }
+
+    /**
+     * bulk 요청 항목의 문맥 (매장 ID와 결과를 전달받을 future, 성공 시 null 실패 시 사유로 완료)
+     */
+    private record PendingItem(Long storeId, CompletableFuture<String> outcome) {
+    }
+
+    private class ResultListener implements BulkListener<PendingItem> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<PendingItem> contexts) {
+            log.debug("Sending store bulk request: executionId={}, operations={}", executionId, contexts.size());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingItem> contexts, BulkResponse response) {
+            // 응답 항목은 요청 작업과 같은 순서
+            List<BulkResponseItem> items = response.items();
+            int failed = 0;
+            int stale = 0;
+            for (int i = 0; i < contexts.size(); i++) {
+                PendingItem context = contexts.get(i);
+                if (i >= items.size()) {
+                    context.outcome().complete("Missing bulk response item");
+                    failed++;
+                    continue;
+                }
+
+                BulkResponseItem item = items.get(i);
+                ErrorCause error = item.error();
+                if (error == null) {
+                    context.outcome().complete(null);
+                } else if (isStaleVersion(item, error)) {
+                    // 더 최근 상태가 이미 반영됨
+                    context.outcome().complete(null);
+                    stale++;
+                } else {
+                    String reason = item.status() + " " + error.type() + ": " + error.reason();
+                    log.debug("Store bulk item failed: storeId={}, reason={}", context.storeId(), reason);
+                    context.outcome().complete(reason);
+                    failed++;
+                }
+            }
+
+            if (stale > 0) {
+                staleSkippedCounter.increment(stale);
+                log.debug("Skipped stale store documents: executionId={}, count={}", executionId, stale);
+            }
+            if (failed > 0) {
+                itemFailedCounter.increment(failed);
+                log.warn("Store bulk request completed with item failures: executionId={}, failed={}, total={}",
+                        executionId, failed, contexts.size());
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingItem> contexts, Throwable failure) {
+            requestFailedCounter.increment();
+            itemFailedCounter.increment(contexts.size());
+            log.error("Store bulk request failed: executionId={}, operations={}", executionId, contexts.size(), failure);
+            String reason = describe(failure);
+            contexts.forEach(context -> context.outcome().complete(reason));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 문서 bulk 반영 결과
+ *
+ * bulk 요청은 항목 단위로 성공/실패하므로, 호출자가 실패한 매장만 정확히 재시도할 수 있도록 매장 ID별 실패 사유를 담습니다.
+ *
+ * @param succeeded 반영에 성공한 문서 수
+ * @param failures 매장 ID별 실패 사유 (성공한 매장은 포함되지 않음)
+ */
+public record StoreBulkResult(int succeeded, Map<Long, String> failures) {
+
+    private static final StoreBulkResult EMPTY = new StoreBulkResult(0, Map.of());
+
+    public StoreBulkResult {
+        failures = Map.copyOf(failures);
+    }
+
+    public static StoreBulkResult empty() {
+        return EMPTY;
+    }
+
+    public static StoreBulkResult succeeded(int count) {
+        return new StoreBulkResult(count, Map.of());
+    }
+
+    /**
+     * 모든 매장이 같은 사유로 실패한 결과 (요청 자체가 실패한 경우)
+     */
+    public static StoreBulkResult failed(Collection<Long> storeIds, String reason) {
+        Map<Long, String> failures = new HashMap<>();
+        storeIds.forEach(storeId -> failures.put(storeId, reason));
+        return new StoreBulkResult(0, failures);
+    }
+
+    /**
+     * 실패 사유를 더한 결과 (같은 배치에서 색인 전에 실패한 매장을 합칠 때 사용)
+     */
+    public StoreBulkResult withFailures(Map<Long, String> additionalFailures) {
+        if (additionalFailures.isEmpty()) {
+            return this;
+        }
+        Map<Long, String> merged = new HashMap<>(failures);
+        merged.putAll(additionalFailures);
+        return new StoreBulkResult(succeeded, merged);
+    }
+
+    public int failedCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public Set<Long> failedIds() {
+        return failures.keySet();
+    }
+}
@@ -0,0 +1,254 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreIndexWatermark;
+import com.couponpop.storeservice.domain.store.repository.StoreIndexWatermarkRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 증분 재색인 서비스
+ *
+ * 워터마크(마지막으로 반영한 매장의 수정일시, ID) 이후에 수정된 매장만 Elasticsearch에 반영합니다.
+ * 살아 있는 매장은 배치 색인하고, 소프트 삭제된 매장은 문서를 삭제합니다.
+ * Elasticsearch 장애 후에도 전체 재색인 없이 장애 기간에 바뀐 매장만 따라잡을 수 있습니다.
+ *
+ * 방금 수정되어 아직 커밋되지 않았거나 복제되지 않은 행을 건너뛰지 않도록 settle-time 이전까지만 처리하며,
+ * 반영에 실패한 매장이 있으면 그 앞까지만 워터마크를 전진시켜 다음 실행에서 실패 지점부터 다시 처리합니다.
+ *
+ * 평상시 변경은 아웃박스 릴레이가 반영하므로 주기 실행(store.sync.delta.enabled)은 기본으로 꺼져 있고,
+ * 전체 재색인의 별칭 교체 후 따라잡기와 관리자 요청으로 실행합니다. (이 두 경로는 설정과 관계없이 동작)
+ */
+@Slf4j
+@Service
+public class StoreDeltaReindexService {
+
+    private final StoreRepository storeRepository;
+    private final StoreIndexWatermarkRepository watermarkRepository;
+    private final StoreElasticsearchSyncService syncService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration settleTime;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StoreDeltaReindexService(
+            StoreRepository storeRepository,
+            StoreIndexWatermarkRepository watermarkRepository,
+            StoreElasticsearchSyncService syncService,
+            PlatformTransactionManager transactionManager,
+            @Value("${store.sync.delta.enabled:false}") boolean enabled,
+            @Value("${store.sync.delta.batch-size:500}") int batchSize,
+            @Value("${store.sync.delta.settle-time:10s}") Duration settleTime) {
+        this.storeRepository = storeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.syncService = syncService;
+        // 읽기 전용 트랜잭션(전체 재색인) 안에서 호출되어도 마스터에서 읽고 쓰도록 항상 새 읽기/쓰기 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * 주기 증분 재색인 (store.sync.delta.enabled가 true일 때만 실행)
+     */
+    @Scheduled(fixedDelayString = "${store.sync.delta.interval:1m}",
+            initialDelayString = "${store.sync.delta.initial-delay:1m}")
+    public void scheduledReindexDelta() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reindexDelta();
+        } catch (Exception e) {
+            log.error("Scheduled delta reindex failed", e);
+        }
+    }
+
+    /**
+     * 워터마크 이후 변경된 매장 증분 재색인 (관리자 요청용)
+     * 비동기로 실행되어 HTTP 요청을 즉시 반환합니다.
+     */
+    @Async
+    public void reindexDeltaAsync() {
+        try {
+            reindexDelta();
+        } catch (Exception e) {
+            log.error("Delta reindex failed", e);
+        }
+    }
+
+    /**
+     * 워터마크 이후 변경된 매장 증분 재색인
+     * 이미 실행 중이면 건너뜁니다.
+     */
+    public void reindexDelta() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Delta reindex is already running, skipping");
+            return;
+        }
+
+        try {
+            LocalDateTime upTo = LocalDateTime.now().minus(settleTime);
+            StoreIndexWatermark watermark = transactionTemplate.execute(status ->
+                    watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX).orElse(null));
+            if (watermark == null) {
+                // 기준점이 없으면 지금부터 추적 (이전 변경은 전체 재색인 또는 정합성 점검으로 반영)
+                saveWatermark(StoreIndexWatermark.of(StoreIndexWatermark.DELTA_REINDEX, upTo, 0L));
+                log.info("Initialized delta reindex watermark: {}", upTo);
+                return;
+            }
+
+            int indexed = 0;
+            int deleted = 0;
+            int failed = 0;
+            List<StoreSyncState> states;
+            do {
+                LocalDateTime lastUpdatedAt = watermark.getLastUpdatedAt();
+                long lastStoreId = watermark.getLastStoreId();
+                states = transactionTemplate.execute(status ->
+                        storeRepository.findSyncStatesUpdatedAfter(lastUpdatedAt, lastStoreId, upTo, batchSize));
+                if (states.isEmpty()) {
+                    break;
+                }
+
+                PageResult result = processPage(states);
+                indexed += result.indexed();
+                deleted += result.deleted();
+                failed += result.failures().size();
+
+                // 실패한 첫 매장 앞까지만 전진 (이후 매장은 다음 실행에서 다시 처리, 재반영은 멱등)
+                StoreSyncState lastApplied = null;
+                for (StoreSyncState state : states) {
+                    if (result.failures().containsKey(state.getId())) {
+                        break;
+                    }
+                    lastApplied = state;
+                }
+                if (lastApplied != null && watermark.advanceTo(lastApplied.getUpdatedAt(), lastApplied.getId())) {
+                    saveWatermark(watermark);
+                }
+
+                if (!result.failures().isEmpty()) {
+                    log.warn("Delta reindex stopped at failed stores, will retry from watermark: failedStoreIds={}",
+                            result.failures().keySet());
+                    break;
+                }
+            } while (states.size() == batchSize);
+
+            log.info("Delta reindex completed: indexed={}, deleted={}, failed={}, watermark={}/{}",
+                    indexed, deleted, failed, watermark.getLastUpdatedAt(), watermark.getLastStoreId());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 재색인 완료 시 워터마크를 재색인 시작 시점으로 이동
+     * 재색인 도중 바뀐 매장은 이후 증분 재색인에서 다시 반영됩니다.
+     * 새 인덱스로 교체한 경우 재색인 도중의 변경은 이전 인덱스에만 반영되었으므로,
+     * 증분 재색인이 이미 더 앞에 있더라도 시작 시점으로 되돌립니다. (같은 상태의 재반영은 멱등)
+     *
+     * @param startedAt 전체 재색인 시작 시각
+     */
+    public void markFullReindexed(LocalDateTime startedAt) {
+        // 실행 중인 증분 재색인이 끝난 뒤 이동 (실행 중인 쪽이 이전 위치로 덮어쓰지 않도록)
+        while (!running.compareAndSet(false, true)) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for delta reindex", e);
+            }
+        }
+
+        try {
+            LocalDateTime position = startedAt.minus(settleTime);
+            StoreIndexWatermark watermark = transactionTemplate.execute(status ->
+                    watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX).orElse(null));
+            if (watermark == null) {
+                saveWatermark(StoreIndexWatermark.of(StoreIndexWatermark.DELTA_REINDEX, position, 0L));
+            } else {
+                watermark.moveTo(position, 0L);
+                saveWatermark(watermark);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PageResult processPage(List<StoreSyncState> states) {
+        List<Long> liveIds = new ArrayList<>();
+        Map<Long, LocalDateTime> deletes = new LinkedHashMap<>();
+        for (StoreSyncState state : states) {
+            if (state.getDeletedAt() == null) {
+                liveIds.add(state.getId());
+            } else {
+                deletes.put(state.getId(), state.getUpdatedAt());
+            }
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        int indexed = 0;
+        if (!liveIds.isEmpty()) {
+            List<Store> stores = transactionTemplate.execute(status -> storeRepository.findAllById(liveIds));
+            // 조회 사이에 삭제된 매장 (조회한 수정일시가 버전이므로, 더 최근 문서가 있으면 삭제는 아웃박스 동기화가 반영)
+            Set<Long> loadedIds = stores.stream().map(Store::getId).collect(Collectors.toSet());
+            states.stream()
+                    .filter(state -> state.getDeletedAt() == null && !loadedIds.contains(state.getId()))
+                    .forEach(state -> deletes.put(state.getId(), state.getUpdatedAt()));
+
+            try {
+                Map<Long, String> memberUsernames = syncService.findIndexedMemberUsernames(loadedIds);
+                StoreBulkResult result = syncService.indexStoresBatch(stores, memberUsernames);
+                indexed = result.succeeded();
+                failures.putAll(result.failures());
+            } catch (Exception e) {
+                log.error("Failed to index stores during delta reindex: count={}", stores.size(), e);
+                loadedIds.forEach(storeId -> failures.put(storeId, e.getMessage()));
+            }
+        }
+
+        int deleted = 0;
+        if (!deletes.isEmpty()) {
+            try {
+                StoreBulkResult result = syncService.deleteStoresBatch(deletes);
+                deleted = result.succeeded();
+                failures.putAll(result.failures());
+            } catch (Exception e) {
+                log.error("Failed to delete stores during delta reindex: count={}", deletes.size(), e);
+                deletes.keySet().forEach(storeId -> failures.put(storeId, e.getMessage()));
+            }
+        }
+
+        return new PageResult(indexed, deleted, failures);
+    }
+
+    private void saveWatermark(StoreIndexWatermark watermark) {
+        transactionTemplate.executeWithoutResult(status -> watermarkRepository.save(watermark));
+    }
+
+    private record PageResult(int indexed, int deleted, Map<Long, String> failures) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 검색 문서 생성 결과
+ *
+ * 임베딩 벡터를 받지 못한 매장은 문서를 만들지 않고 실패로 담습니다.
+ * 벡터 없이 색인하면 동기화가 완료된 것처럼 보이지만 시맨틱 검색에서 빠지므로, 호출자가 다시 시도하도록 실패로 돌려줍니다.
+ *
+ * @param documents 색인할 문서 목록 (매장 순서 유지)
+ * @param failures 문서를 만들지 못한 매장 ID별 실패 사유
+ */
+public record StoreDocuments(List<StoreDocument> documents, Map<Long, String> failures) {
+
+    private static final StoreDocuments EMPTY = new StoreDocuments(List.of(), Map.of());
+
+    public StoreDocuments {
+        documents = List.copyOf(documents);
+        failures = Map.copyOf(failures);
+    }
+
+    public static StoreDocuments empty() {
+        return EMPTY;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
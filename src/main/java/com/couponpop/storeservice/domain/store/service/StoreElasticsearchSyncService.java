@@ -2,127 +2,206 @@ package com.couponpop.storeservice.domain.store.service;
 
 import com.couponpop.storeservice.domain.store.document.StoreDocument;
 import com.couponpop.storeservice.domain.store.entity.Store;
-import com.couponpop.storeservice.domain.store.repository.StoreSearchRepository;
-import com.couponpop.storeservice.external.openai.service.OpenAIEmbeddingService;
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 매장 정보와 Elasticsearch 간의 동기화를 담당하는 서비스
  * OpenAI Embedding을 사용한 시맨틱 검색을 지원합니다.
+ * 매장 변경 시의 동기화는 StoreSyncOutboxRelay가 아웃박스 항목을 읽어 이 서비스의 배치 메서드로 수행하며,
+ * 실패 시 예외를 던지거나 실패한 매장을 반환해 릴레이가 재시도할 수 있도록 합니다.
+ * 문서 색인은 StoreBulkIndexer를 거쳐 bulk 요청으로 보내고, 항목별 실패를 매장 단위로 돌려줍니다.
+ * 모든 색인은 updated_at 기반 외부 버전을 단 전체 문서로 보내므로, 색인된 문서를 읽어 비교하지 않아도 Elasticsearch가 이전 상태의 쓰기를 거부합니다.
+ * 임베딩 텍스트가 바뀌지 않은 수정은 임베딩 캐시에서 벡터를 찾으므로 OpenAI API를 다시 호출하지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StoreElasticsearchSyncService {
 
-    private final StoreSearchRepository storeSearchRepository;
-    private final OpenAIEmbeddingService openAIEmbeddingService;
+    private static final String EMBEDDING_FAILED_REASON = "Embedding generation failed";
+
+    private final EmbeddingProvider embeddingProvider;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final StoreBulkIndexer storeBulkIndexer;
 
     /**
-     * 매장 생성 시 Elasticsearch에 문서 저장
-     * 상점명과 설명을 결합하여 임베딩 벡터를 생성하고 함께 저장합니다.
+     * 매장 데이터 배치를 한 번의 OpenAI API 호출로 인덱싱
+     *
+     * @param stores 배치로 처리할 매장 목록
+     * @return 매장별 색인 결과
      */
-    public void indexStore(Store store, String memberUsername) {
-        try {
-            // 1. 상점 이름과 설명을 결합하여 임베딩 생성
-            String combinedText = buildCombinedText(store);
-            List<Float> embedding = openAIEmbeddingService.generateEmbedding(combinedText);
-            
-            // 2. 임베딩을 포함한 StoreDocument 생성 (한번에!)
-            StoreDocument document = StoreDocument.from(store, memberUsername, embedding);
-            
-            // 3. Elasticsearch에 저장
-            storeSearchRepository.save(document);
-            
-            log.info("Successfully indexed store to Elasticsearch with embedding: storeId={}, embeddingSize={}", 
-                    store.getId(), embedding != null ? embedding.size() : 0);
-        } catch (Exception e) {
-            log.error("Failed to index store to Elasticsearch: storeId={}", store.getId(), e);
-            // ES 동기화 실패가 비즈니스 로직을 막지 않도록 예외를 던지지 않음
-        }
+    public StoreBulkResult indexStoresBatch(List<Store> stores) {
+        return indexStoresBatch(stores, Map.of());
     }
 
     /**
-     * 매장 수정 시 Elasticsearch 문서 업데이트
-     * 상점 정보가 변경되면 임베딩 벡터도 재생성합니다.
+     * 매장 데이터 배치를 한 번의 OpenAI API 호출로 인덱싱 (소유자 사용자명 포함)
+     * 임베딩을 받지 못한 매장은 벡터 없이 색인하지 않고 실패로 담으며,
+     * 문서 반영 실패(bulk 항목 실패, 요청 실패)도 매장별로 결과에 담아 반환합니다.
+     *
+     * @param stores 배치로 처리할 매장 목록
+     * @param memberUsernames 매장 ID별 소유자 사용자명 (없는 매장은 null로 저장)
+     * @return 매장별 색인 결과
      */
-    public void updateStore(Store store, String memberUsername) {
+    public StoreBulkResult indexStoresBatch(List<Store> stores, Map<Long, String> memberUsernames) {
+        if (stores == null || stores.isEmpty()) {
+            log.debug("No stores provided for batch indexing");
+            return StoreBulkResult.empty();
+        }
+
         try {
-            // 1. 상점 이름과 설명을 결합하여 임베딩 생성
-            String combinedText = buildCombinedText(store);
-            List<Float> embedding = openAIEmbeddingService.generateEmbedding(combinedText);
-            
-            // 2. 임베딩을 포함한 StoreDocument 생성 (한번에!)
-            StoreDocument document = StoreDocument.from(store, memberUsername, embedding);
-            
-            // 3. Elasticsearch에 저장
-            storeSearchRepository.save(document);
-            
-            log.info("Successfully updated store in Elasticsearch with embedding: storeId={}, embeddingSize={}", 
-                    store.getId(), embedding != null ? embedding.size() : 0);
+            StoreDocuments built = buildDocuments(stores, memberUsernames);
+            return indexDocuments(built.documents()).withFailures(built.failures());
         } catch (Exception e) {
-            log.error("Failed to update store in Elasticsearch: storeId={}", store.getId(), e);
+            log.error("Failed to index store batch to Elasticsearch: batchSize={}", stores.size(), e);
+            throw new RuntimeException("Batch indexing failed", e);
         }
     }
 
     /**
-     * 매장 데이터 배치를 한 번의 OpenAI API 호출로 인덱싱
+     * 매장 목록의 검색 문서 생성 (임베딩 텍스트 조합 + 한 번의 OpenAI API 호출)
+     * 재색인 파이프라인은 임베딩 단계와 색인 단계를 나눠 동시에 실행하기 위해 indexDocuments와 따로 호출합니다.
      *
-     * @param stores 배치로 처리할 매장 목록
-     * @return 성공적으로 저장된 문서 수
+     * @param stores 문서를 만들 매장 목록
+     * @param memberUsernames 매장 ID별 소유자 사용자명 (없는 매장은 null로 저장)
+     * @return 매장 순서대로 생성된 문서 목록과 임베딩을 받지 못해 문서를 만들지 않은 매장별 실패 사유
      */
-    public int indexStoresBatch(List<Store> stores) {
+    public StoreDocuments buildDocuments(List<Store> stores, Map<Long, String> memberUsernames) {
         if (stores == null || stores.isEmpty()) {
-            log.debug("No stores provided for batch indexing");
-            return 0;
+            return StoreDocuments.empty();
         }
 
-        try {
-            List<String> combinedTexts = stores.stream()
-                    .map(this::buildCombinedText)
-                    .toList();
+        List<String> combinedTexts = stores.stream()
+                .map(this::buildCombinedText)
+                .toList();
 
-            List<List<Float>> embeddings = openAIEmbeddingService.generateEmbeddings(combinedTexts);
-            int embeddingCount = embeddings != null ? embeddings.size() : 0;
+        List<float[]> embeddings = embeddingProvider.generateEmbeddings(combinedTexts);
+        int embeddingCount = embeddings != null ? embeddings.size() : 0;
 
-            if (embeddingCount != stores.size()) {
-                log.warn("Embedding count ({}) does not match store count ({}). Missing embeddings will be stored as null.",
-                        embeddingCount, stores.size());
-            }
+        if (embeddingCount != stores.size()) {
+            log.warn("Embedding count ({}) does not match store count ({}). Stores without embedding will be retried.",
+                    embeddingCount, stores.size());
+        }
 
-            List<StoreDocument> documents = new ArrayList<>(stores.size());
-            for (int i = 0; i < stores.size(); i++) {
-                List<Float> embedding = (embeddings != null && embeddings.size() > i) ? embeddings.get(i) : null;
-                documents.add(StoreDocument.from(stores.get(i), null, embedding));
+        List<StoreDocument> documents = new ArrayList<>(stores.size());
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < stores.size(); i++) {
+            Store store = stores.get(i);
+            float[] embedding = (embeddings != null && embeddings.size() > i) ? embeddings.get(i) : null;
+            if (embedding == null || embedding.length == 0) {
+                failures.put(store.getId(), EMBEDDING_FAILED_REASON);
+                continue;
             }
+            documents.add(StoreDocument.from(store, memberUsernames.get(store.getId()), embedding));
+        }
 
-            storeSearchRepository.saveAll(documents);
+        if (!failures.isEmpty()) {
+            log.warn("Skipping {} of {} stores without embedding vector: failedStoreIds={}",
+                    failures.size(), stores.size(), failures.keySet());
+        }
 
-            log.info("Successfully indexed store batch to Elasticsearch: batchSize={}, saved={}", 
-                    stores.size(), documents.size());
+        return new StoreDocuments(documents, failures);
+    }
 
-            return documents.size();
-        } catch (Exception e) {
-            log.error("Failed to index store batch to Elasticsearch: batchSize={}", stores.size(), e);
-            throw new RuntimeException("Batch indexing failed", e);
+    /**
+     * 생성된 검색 문서를 bulk 색인
+     * 문서 반영 실패(bulk 항목 실패, 요청 실패)는 매장별로 결과에 담아 반환합니다.
+     *
+     * @param documents 색인할 문서 목록
+     * @return 매장별 색인 결과
+     */
+    public StoreBulkResult indexDocuments(List<StoreDocument> documents) {
+        return indexDocuments(documents, null);
+    }
+
+    /**
+     * 생성된 검색 문서를 지정한 인덱스에 bulk 색인
+     *
+     * @param documents 색인할 문서 목록
+     * @param targetIndex 색인할 인덱스 이름 (null이면 검색 별칭)
+     * @return 매장별 색인 결과
+     */
+    public StoreBulkResult indexDocuments(List<StoreDocument> documents, String targetIndex) {
+        if (documents == null || documents.isEmpty()) {
+            return StoreBulkResult.empty();
+        }
+
+        StoreBulkResult result = targetIndex == null
+                ? storeBulkIndexer.index(documents)
+                : storeBulkIndexer.index(documents, targetIndex);
+
+        if (result.hasFailures()) {
+            log.warn("Indexed store batch with item failures: batchSize={}, saved={}, failedStoreIds={}",
+                    documents.size(), result.succeeded(), result.failedIds());
+        } else {
+            log.info("Successfully indexed store batch to Elasticsearch: batchSize={}, saved={}",
+                    documents.size(), result.succeeded());
         }
+
+        return result;
     }
 
     /**
-     * 매장 삭제 시 Elasticsearch 문서 제거
+     * 매장 문서 일괄 삭제
+     * 문서 ID(매장 ID)로 바로 삭제하는 작업을 한 번의 bulk 요청으로 보냅니다.
+     * 삭제 시점 수정일시를 외부 버전으로 보내, 지연된 이전 상태의 색인이 삭제된 매장 문서를 다시 만들지 못하게 합니다.
+     *
+     * @param updatedAtByStore 삭제할 매장 ID별 삭제 시점 수정일시 (DB에 행이 없어 모르면 null)
+     * @return 매장별 삭제 결과 (이미 없는 문서는 성공)
      */
-    public void deleteStore(Long storeId) {
-        try {
-            storeSearchRepository.deleteByStoreId(storeId);
-            log.info("Successfully deleted store from Elasticsearch: storeId={}", storeId);
-        } catch (Exception e) {
-            log.error("Failed to delete store from Elasticsearch: storeId={}", storeId, e);
+    public StoreBulkResult deleteStoresBatch(Map<Long, LocalDateTime> updatedAtByStore) {
+        if (updatedAtByStore == null || updatedAtByStore.isEmpty()) {
+            return StoreBulkResult.empty();
+        }
+
+        StoreBulkResult result = storeBulkIndexer.delete(updatedAtByStore);
+        if (result.hasFailures()) {
+            log.warn("Deleted stores from Elasticsearch with item failures: deleted={}, failedStoreIds={}",
+                    result.succeeded(), result.failedIds());
+        } else {
+            log.info("Successfully deleted stores from Elasticsearch: count={}", result.succeeded());
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 문서의 소유자 사용자명 조회
+     * 소유자 사용자명은 DB에 없고 문서에만 있으므로, 아웃박스를 거치지 않는 재색인에서 기존 값을 유지할 때 사용합니다.
+     *
+     * @param storeIds 매장 ID 목록
+     * @return 매장 ID별 소유자 사용자명 (문서가 없거나 값이 없는 매장은 제외)
+     */
+    public Map<Long, String> findIndexedMemberUsernames(Collection<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        NativeQuery query = NativeQuery.builder()
+                .withIds(storeIds.stream().map(StoreDocument::documentId).toList())
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("store_id", "member_username").build())
+                .build();
+
+        Map<Long, String> memberUsernames = new HashMap<>();
+        for (MultiGetItem<StoreDocument> item : elasticsearchOperations.multiGet(query, StoreDocument.class)) {
+            if (item.hasItem() && item.getItem().getMemberUsername() != null) {
+                memberUsernames.put(item.getItem().getStoreId(), item.getItem().getMemberUsername());
+            }
         }
+        return memberUsernames;
     }
 
     /**
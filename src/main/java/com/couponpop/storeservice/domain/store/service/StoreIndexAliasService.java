@@ -0,0 +1,288 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 매장 버전 인덱스 관리 서비스 (blue/green 재색인)
+ *
+ * 전체 재색인은 검색 중인 인덱스를 지우지 않고 새 버전 인덱스(stores_v{n})를 만들어 채운 뒤,
+ * 문서 수와 표본 검증을 통과하면 별칭(stores)을 한 번의 요청으로 새 인덱스로 옮깁니다.
+ * 재색인 도중에도 검색은 기존 인덱스를 그대로 사용하며, 검증에 실패하면 새 인덱스만 삭제하고 기존 인덱스를 유지합니다.
+ * 이전 버전 인덱스는 롤백용으로 retained-versions개만 남기고 정리합니다.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+public class StoreIndexAliasService {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final StoreIndexMappingService mappingService;
+    private final StoreRepository storeRepository;
+    private final int retainedVersions;
+    private final double minCountRatio;
+    private final double minEmbeddingRatio;
+    private final int spotCheckSize;
+
+    public StoreIndexAliasService(
+            ElasticsearchOperations elasticsearchOperations,
+            StoreIndexMappingService mappingService,
+            StoreRepository storeRepository,
+            @Value("${store.reindex.blue-green.retained-versions:1}") int retainedVersions,
+            @Value("${store.reindex.blue-green.min-count-ratio:0.99}") double minCountRatio,
+            @Value("${store.reindex.blue-green.min-embedding-ratio:1.0}") double minEmbeddingRatio,
+            @Value("${store.reindex.blue-green.spot-check-size:50}") int spotCheckSize) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.mappingService = mappingService;
+        this.storeRepository = storeRepository;
+        this.retainedVersions = retainedVersions;
+        this.minCountRatio = minCountRatio;
+        this.minEmbeddingRatio = minEmbeddingRatio;
+        this.spotCheckSize = spotCheckSize;
+    }
+
+    /**
+     * 다음 버전 인덱스 생성 (현재 가장 높은 버전 + 1)
+     *
+     * @return 생성한 인덱스 이름
+     */
+    public String createNextIndex() {
+        int nextVersion = findVersionedIndices().stream()
+                .map(mappingService::versionOf)
+                .max(Integer::compare)
+                .orElse(0) + 1;
+        String indexName = mappingService.versionedIndexName(nextVersion);
+        mappingService.createIndex(indexName);
+        log.info("Created store index {} for reindex", indexName);
+        return indexName;
+    }
+
+    /**
+     * 인덱스 존재 여부 (중단된 재색인을 재개하기 전 대상 인덱스 확인)
+     */
+    public boolean exists(String indexName) {
+        return elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).exists();
+    }
+
+    /**
+     * 새 인덱스 검증 (통과하지 못하면 IllegalStateException)
+     * 1. 인덱스의 문서 수가 색인에 성공한 수와 같고, DB의 매장 수 대비 min-count-ratio 이상인지
+     * 2. 임베딩 벡터가 있는 문서 수가 색인에 성공한 수 대비 min-embedding-ratio 이상인지 (벡터 없는 문서는 시맨틱 검색에서 빠짐)
+     * 3. 임의 구간의 매장을 표본으로 골라 재색인 시작 전 상태가 빠짐없이 반영되었는지 (삭제된 매장은 없어야 하고, 벡터는 설정한 차원이어야 함)
+     * 4. 표본 매장 중 별칭이 가리키는 현재 인덱스에 소유자 사용자명이 있는 매장은 새 인덱스에도 있는지
+     *    (사용자명은 DB에 없어 교체 후에는 되살릴 수 없음)
+     *
+     * @param indexName 검증할 인덱스
+     * @param indexedCount 파이프라인에서 색인에 성공한 문서 수
+     * @param startedAt 재색인 시작 시각 (이후 변경된 매장은 증분 재색인에서 반영되므로 표본 검증에서 제외)
+     */
+    public void validate(String indexName, int indexedCount, LocalDateTime startedAt) {
+        IndexCoordinates index = IndexCoordinates.of(indexName);
+        elasticsearchOperations.indexOps(index).refresh();
+
+        long documentCount = elasticsearchOperations.count(Query.findAll(), StoreDocument.class, index);
+        if (documentCount != indexedCount) {
+            throw new IllegalStateException("Document count " + documentCount + " in " + indexName
+                    + " does not match indexed count " + indexedCount);
+        }
+
+        long storeCount = storeRepository.count();
+        if (documentCount < (long) Math.floor(storeCount * minCountRatio)) {
+            throw new IllegalStateException("Document count " + documentCount + " in " + indexName
+                    + " is below " + minCountRatio + " of store count " + storeCount);
+        }
+
+        NativeQuery embeddedQuery = NativeQuery.builder()
+                .withQuery(query -> query.exists(exists -> exists.field("embedding")))
+                .build();
+        long embeddedCount = elasticsearchOperations.count(embeddedQuery, StoreDocument.class, index);
+        if (embeddedCount < (long) Math.ceil(indexedCount * minEmbeddingRatio)) {
+            throw new IllegalStateException("Embedded document count " + embeddedCount + " in " + indexName
+                    + " is below " + minEmbeddingRatio + " of indexed count " + indexedCount);
+        }
+
+        long maxStoreId = storeRepository.findMaxIdIncludingDeleted();
+        long afterId = maxStoreId > spotCheckSize ? ThreadLocalRandom.current().nextLong(maxStoreId - spotCheckSize) : 0L;
+        List<StoreSyncState> samples = storeRepository.findSyncStatesAfter(afterId, spotCheckSize);
+        Map<Long, StoreDocument> documents = findDocuments(index, samples);
+        StoreIndexReconciler.Divergence divergence = StoreIndexReconciler.findDivergence(samples, documents, startedAt);
+        List<Long> invalidEmbeddingIds = findInvalidEmbeddings(documents);
+        List<Long> missingMemberUsernameIds = findMissingMemberUsernames(documents);
+        if (!divergence.isEmpty() || !invalidEmbeddingIds.isEmpty() || !missingMemberUsernameIds.isEmpty()) {
+            throw new IllegalStateException("Spot check failed for " + indexName + ": missingOrStale="
+                    + divergence.reindexIds() + ", unexpected=" + divergence.deletes().keySet()
+                    + ", invalidEmbedding=" + invalidEmbeddingIds
+                    + ", missingMemberUsername=" + missingMemberUsernameIds);
+        }
+
+        log.info("Validated store index {}: documents={}, embedded={}, stores={}, spotChecked={}",
+                indexName, documentCount, embeddedCount, storeCount, samples.size());
+    }
+
+    /**
+     * 별칭을 새 인덱스로 교체 (추가와 제거를 한 요청으로 보내 검색이 끊기지 않음)
+     * 별칭 도입 전의 물리 인덱스(stores)가 남아 있으면 같은 요청에서 삭제하고 그 이름을 별칭으로 사용합니다.
+     *
+     * @param indexName 별칭이 가리킬 새 인덱스
+     */
+    public void swap(String indexName) {
+        String alias = mappingService.aliasName();
+        Set<String> previousIndices = findAliasedIndices();
+
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .build()));
+        if (previousIndices.isEmpty() && elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).exists()) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(alias)
+                    .build()));
+        }
+        previousIndices.stream()
+                .filter(previous -> !previous.equals(indexName))
+                .forEach(previous -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                        .withIndices(previous)
+                        .withAliases(alias)
+                        .build())));
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+        log.info("Swapped store alias {}: {} -> {}", alias, previousIndices, indexName);
+    }
+
+    /**
+     * 현재 인덱스와 최근 retained-versions개를 제외한 이전 버전 인덱스 삭제
+     *
+     * @param currentIndex 별칭이 가리키는 인덱스
+     */
+    public void deleteOldIndices(String currentIndex) {
+        List<String> previous = findVersionedIndices().stream()
+                .filter(indexName -> !indexName.equals(currentIndex))
+                .sorted(Comparator.comparing(mappingService::versionOf, Comparator.reverseOrder()))
+                .toList();
+
+        for (String indexName : previous.stream().skip(retainedVersions).toList()) {
+            deleteIndex(indexName);
+        }
+    }
+
+    /**
+     * 인덱스 삭제 (검증에 실패한 새 인덱스, 보존 기간이 지난 이전 인덱스)
+     * 별칭이 가리키는 인덱스는 삭제하지 않습니다.
+     */
+    public void deleteIndex(String indexName) {
+        if (findAliasedIndices().contains(indexName)) {
+            log.warn("Refusing to delete store index {} referenced by alias", indexName);
+            return;
+        }
+        try {
+            elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).delete();
+            log.info("Deleted store index {}", indexName);
+        } catch (Exception e) {
+            log.error("Failed to delete store index {}", indexName, e);
+        }
+    }
+
+    private List<String> findVersionedIndices() {
+        IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(mappingService.versionedIndexPattern()));
+        return indexOps.getInformation().stream()
+                .map(IndexInformation::getName)
+                .filter(indexName -> mappingService.versionOf(indexName) != null)
+                .toList();
+    }
+
+    private Set<String> findAliasedIndices() {
+        String alias = mappingService.aliasName();
+        try {
+            return elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).getAliases(alias).keySet();
+        } catch (Exception e) {
+            // 별칭이 아직 없음 (별칭 도입 전 물리 인덱스 또는 인덱스 없음)
+            return Set.of();
+        }
+    }
+
+    /**
+     * 벡터가 없거나 설정한 차원과 다른 표본 문서
+     */
+    private List<Long> findInvalidEmbeddings(Map<Long, StoreDocument> documents) {
+        int dimension = mappingService.getEmbeddingDimension();
+        return documents.values().stream()
+                .filter(document -> document.getEmbedding() == null || document.getEmbedding().length != dimension)
+                .map(StoreDocument::getStoreId)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 현재 인덱스(별칭)에는 소유자 사용자명이 있는데 새 인덱스에는 없는 표본 문서
+     * 별칭도 기존 인덱스도 없는 첫 색인이면 비교할 값이 없으므로 검사하지 않습니다.
+     */
+    private List<Long> findMissingMemberUsernames(Map<Long, StoreDocument> documents) {
+        IndexCoordinates current = IndexCoordinates.of(mappingService.aliasName());
+        if (documents.isEmpty() || !elasticsearchOperations.indexOps(current).exists()) {
+            return List.of();
+        }
+
+        NativeQuery query = NativeQuery.builder()
+                .withIds(documents.keySet().stream().map(StoreDocument::documentId).toList())
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("store_id", "member_username").build())
+                .build();
+
+        List<Long> missing = new ArrayList<>();
+        for (MultiGetItem<StoreDocument> item : elasticsearchOperations.multiGet(query, StoreDocument.class, current)) {
+            if (!item.hasItem() || item.getItem().getMemberUsername() == null) {
+                continue;
+            }
+            StoreDocument document = documents.get(item.getItem().getStoreId());
+            if (document != null && document.getMemberUsername() == null) {
+                missing.add(item.getItem().getStoreId());
+            }
+        }
+        missing.sort(Comparator.naturalOrder());
+        return missing;
+    }
+
+    private Map<Long, StoreDocument> findDocuments(IndexCoordinates index, List<StoreSyncState> states) {
+        if (states.isEmpty()) {
+            return Map.of();
+        }
+
+        NativeQuery query = NativeQuery.builder()
+                .withIds(states.stream().map(StoreSyncState::getId).map(StoreDocument::documentId).toList())
+                .build();
+
+        Map<Long, StoreDocument> documents = new HashMap<>();
+        for (MultiGetItem<StoreDocument> item : elasticsearchOperations.multiGet(query, StoreDocument.class, index)) {
+            if (item.hasItem() && item.getItem().getStoreId() != null) {
+                documents.put(item.getItem().getStoreId(), item.getItem());
+            }
+        }
+        return documents;
+    }
+}
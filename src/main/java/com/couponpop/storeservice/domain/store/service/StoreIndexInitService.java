@@ -1,25 +1,34 @@
 package com.couponpop.storeservice.domain.store.service;
 
 import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJob;
 import com.couponpop.storeservice.domain.store.repository.StoreRepository;
 import com.couponpop.storeservice.domain.store.repository.StoreSearchRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 /**
  * Elasticsearch 인덱스 초기화 및 재색인 서비스
+ * 재색인은 DB 조회, 임베딩 생성, bulk 색인 단계를 StoreReindexPipeline으로 동시에 실행합니다.
+ * 전체 재색인(blue/green)은 매장 ID 구간별로 나눠 읽고 구간마다 체크포인트를 남기므로, 인스턴스가 재시작되어도 처음부터 다시 하지 않고 이어서 처리합니다.
+ * 같은 작업을 max-resume-attempts번 넘게 재개해야 하면 계속 실패하는 작업으로 보고 FAILED 처리 후 새 인덱스를 삭제합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StoreIndexInitService {
 
     static final int REINDEX_BATCH_SIZE = 50;
@@ -27,6 +36,45 @@ public class StoreIndexInitService {
     private final StoreRepository storeRepository;
     private final StoreSearchRepository storeSearchRepository;
     private final StoreElasticsearchSyncService syncService;
+    private final StoreDeltaReindexService deltaReindexService;
+    private final StoreIndexAliasService storeIndexAliasService;
+    private final StoreReindexCheckpointService checkpointService;
+    private final TaskExecutor taskExecutor;
+    private final int embedParallelism;
+    private final int indexParallelism;
+    private final int queueCapacity;
+    private final int rangeParallelism;
+    private final boolean autoResume;
+    private final int maxResumeAttempts;
+
+    public StoreIndexInitService(
+            StoreRepository storeRepository,
+            StoreSearchRepository storeSearchRepository,
+            StoreElasticsearchSyncService syncService,
+            StoreDeltaReindexService deltaReindexService,
+            StoreIndexAliasService storeIndexAliasService,
+            StoreReindexCheckpointService checkpointService,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${store.reindex.pipeline.embed-parallelism:4}") int embedParallelism,
+            @Value("${store.reindex.pipeline.index-parallelism:2}") int indexParallelism,
+            @Value("${store.reindex.pipeline.queue-capacity:4}") int queueCapacity,
+            @Value("${store.reindex.partition.parallelism:4}") int rangeParallelism,
+            @Value("${store.reindex.checkpoint.auto-resume:true}") boolean autoResume,
+            @Value("${store.reindex.checkpoint.max-resume-attempts:5}") int maxResumeAttempts) {
+        this.storeRepository = storeRepository;
+        this.storeSearchRepository = storeSearchRepository;
+        this.syncService = syncService;
+        this.deltaReindexService = deltaReindexService;
+        this.storeIndexAliasService = storeIndexAliasService;
+        this.checkpointService = checkpointService;
+        this.taskExecutor = taskExecutor;
+        this.embedParallelism = embedParallelism;
+        this.indexParallelism = indexParallelism;
+        this.queueCapacity = queueCapacity;
+        this.rangeParallelism = rangeParallelism;
+        this.autoResume = autoResume;
+        this.maxResumeAttempts = maxResumeAttempts;
+    }
 
     /**
      * 모든 매장 데이터를 Elasticsearch에 재색인
@@ -36,36 +84,27 @@ public class StoreIndexInitService {
     @Transactional(readOnly = true)
     public void reindexAllStores() {
         log.info("Starting reindexing all stores to Elasticsearch with embeddings...");
-        
-        try {
-            AtomicInteger successCount = new AtomicInteger(0);
-            AtomicInteger failCount = new AtomicInteger(0);
+        LocalDateTime startedAt = LocalDateTime.now();
 
-            // 모든 매장 데이터 조회 및 개별 처리 (embedding 생성 포함)
+        try {
+            StoreReindexPipeline.Result result;
+            // 호출 스레드가 스트림을 읽고, 임베딩 생성과 색인은 파이프라인 스레드가 동시에 처리
             try (Stream<Store> storeStream = storeRepository.streamAll()) {
-                List<Store> batch = new ArrayList<>(REINDEX_BATCH_SIZE);
-                storeStream.forEach(store -> {
-                    batch.add(store);
-                    if (batch.size() >= REINDEX_BATCH_SIZE) {
-                        processBatch(List.copyOf(batch), successCount, failCount);
-                        batch.clear();
-                    }
-                });
-
-                if (!batch.isEmpty()) {
-                    processBatch(List.copyOf(batch), successCount, failCount);
-                    batch.clear();
-                }
+                result = new StoreReindexPipeline(syncService, REINDEX_BATCH_SIZE,
+                        embedParallelism, indexParallelism, queueCapacity, null).run(storeStream);
             }
-            
-            if (failCount.get() > 0) {
+
+            if (result.failed() > 0) {
                 log.error("Reindexing completed with failures: success={}, failed={}",
-                        successCount.get(), failCount.get());
-                throw new RuntimeException("Reindexing failed: " + failCount.get() + " store(s) failed");
+                        result.succeeded(), result.failed());
+                throw new RuntimeException("Reindexing failed: " + result.failed() + " store(s) failed");
             }
 
             log.info("Successfully reindexed stores to Elasticsearch: success={}, failed={}",
-                    successCount.get(), failCount.get());
+                    result.succeeded(), result.failed());
+
+            // 재색인 시작 이전 변경은 모두 반영되었으므로 증분 재색인은 시작 시점부터 이어서 처리
+            deltaReindexService.markFullReindexed(startedAt);
         } catch (Exception e) {
             log.error("Failed to reindex stores to Elasticsearch", e);
             throw new RuntimeException("Reindexing failed", e);
@@ -88,43 +127,166 @@ public class StoreIndexInitService {
     }
 
     /**
-     * 전체 재색인 (기존 인덱스 삭제 후 재생성)
+     * 전체 재색인 (blue/green)
+     * 새 버전 인덱스를 채우고 검증한 뒤 별칭을 교체하므로, 재색인 중에도 검색은 기존 인덱스로 계속 동작합니다.
+     * 재색인 도중 바뀐 매장은 기존 인덱스에만 반영되었으므로 교체 직후 증분 재색인으로 새 인덱스에 반영합니다.
+     * DB에 없는 소유자 사용자명은 파이프라인이 별칭(교체 전이라 기존 인덱스)에서 읽어 새 인덱스로 옮기고, 교체 전 검증에서 빠진 값이 없는지 확인합니다.
+     * 중단된 작업이 있으면 새로 시작하지 않고 그 작업의 인덱스에 체크포인트부터 이어서 색인합니다.
      * 비동기로 실행되어 HTTP 요청을 즉시 반환합니다.
      */
     @Async
-    @Transactional(readOnly = true)
     public void fullReindex() {
-        log.info("Starting full reindex (delete and recreate)...");
-        deleteAllStoresFromIndex();
-        reindexAllStores();
-        log.info("Full reindex completed");
+        Optional<StoreReindexJob> runningJob = checkpointService.findRunningJob();
+        if (runningJob.isPresent()) {
+            StoreReindexJob job = runningJob.get();
+            if (!checkpointService.claim(job)) {
+                log.warn("Full reindex job {} is already running, skipping", job.getId());
+                return;
+            }
+            resume(job);
+            return;
+        }
+
+        log.info("Starting blue/green full reindex...");
+        LocalDateTime startedAt = LocalDateTime.now();
+        String newIndex = storeIndexAliasService.createNextIndex();
+        StoreReindexJob job;
+        try {
+            job = checkpointService.startJob(newIndex, startedAt, storeRepository.findMaxIdIncludingDeleted());
+        } catch (Exception e) {
+            log.error("Failed to start full reindex into {}", newIndex, e);
+            storeIndexAliasService.deleteIndex(newIndex);
+            throw new RuntimeException("Full reindex failed", e);
+        }
+        runReindexJob(job);
+    }
+
+    /**
+     * 중단된 전체 재색인 자동 재개
+     * lease 동안 진행 기록이 없는 작업(실행하던 인스턴스 종료, 일부 구간 실패)을 선점해 체크포인트부터 이어서 처리합니다.
+     * 재색인은 수십 분 걸릴 수 있으므로 스케줄러 스레드를 점유하지 않도록 선점만 하고 실행은 비동기 실행기에 넘깁니다.
+     */
+    @Scheduled(fixedDelayString = "${store.reindex.checkpoint.resume-interval:1m}",
+            initialDelayString = "${store.reindex.checkpoint.resume-initial-delay:1m}")
+    public void resumeInterruptedReindex() {
+        if (!autoResume) {
+            return;
+        }
+        checkpointService.findRunningJob()
+                .filter(checkpointService::claim)
+                .ifPresent(job -> {
+                    try {
+                        taskExecutor.execute(() -> {
+                            try {
+                                resume(job);
+                            } catch (Exception e) {
+                                // 원인은 runReindexJob에서 기록, 미완료 작업은 lease 이후 다시 선점해 재개
+                                log.warn("Resumed full reindex job {} did not complete", job.getId());
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // 선점한 작업은 lease가 지나면 다음 확인에서 다시 선점
+                        log.warn("Failed to hand off full reindex job {} to executor, retrying after lease", job.getId(), e);
+                    }
+                });
     }
 
-    private void processBatch(List<Store> stores,
-                              AtomicInteger successCount,
-                              AtomicInteger failCount) {
-        if (stores.isEmpty()) {
+    /**
+     * 선점한 중단 작업 재개
+     * 선점할 때마다 재개 횟수가 늘어나며, 최대 재개 횟수를 이미 채운 작업은 더 재개하지 않고 실패 처리 후 새 인덱스를 삭제합니다.
+     * (선점 전에 조회한 작업이므로 getResumeAttempts()는 이번 선점 이전의 재개 횟수)
+     */
+    private void resume(StoreReindexJob job) {
+        if (job.getResumeAttempts() >= maxResumeAttempts) {
+            log.error("Full reindex job {} into {} exceeded max resume attempts ({}), abandoning job",
+                    job.getId(), job.getTargetIndex(), maxResumeAttempts);
+            checkpointService.fail(job.getId());
+            storeIndexAliasService.deleteIndex(job.getTargetIndex());
             return;
         }
+        log.info("Resuming interrupted full reindex job {} into {} (attempt {}/{})",
+                job.getId(), job.getTargetIndex(), job.getResumeAttempts() + 1, maxResumeAttempts);
+        runReindexJob(job);
+    }
+
+    private void runReindexJob(StoreReindexJob job) {
+        String newIndex = job.getTargetIndex();
+        if (!storeIndexAliasService.exists(newIndex)) {
+            log.error("Target index {} of full reindex job {} no longer exists, abandoning job", newIndex, job.getId());
+            checkpointService.fail(job.getId());
+            throw new RuntimeException("Full reindex failed: target index " + newIndex + " not found");
+        }
+
+        List<StoreReindexCheckpoint> checkpoints = checkpointService.findPendingCheckpoints(job.getId());
+        StoreReindexCheckpointTracker tracker = new StoreReindexCheckpointTracker(checkpointService, job.getId(), checkpoints);
+        List<StoreReindexPipeline.BatchReader> readers = checkpoints.stream()
+                .map(checkpoint -> rangeReader(checkpoint, tracker))
+                .toList();
 
         try {
-            int processed = syncService.indexStoresBatch(stores);
-            successCount.addAndGet(processed);
-
-            int failedInBatch = stores.size() - processed;
-            if (failedInBatch > 0) {
-                failCount.addAndGet(failedInBatch);
-                log.warn("Batch indexing completed with partial failures: processed={}, expected={}",
-                        processed, stores.size());
-            }
+            // 구간 reader가 동시에 DB를 읽고, 임베딩 생성과 색인은 파이프라인 스레드가 처리
+            new StoreReindexPipeline(syncService, REINDEX_BATCH_SIZE, embedParallelism, indexParallelism,
+                    queueCapacity, newIndex).run(readers, rangeParallelism, tracker);
+        } catch (Exception e) {
+            log.error("Full reindex job {} into {} was interrupted", job.getId(), newIndex, e);
+        }
+        if (!tracker.allCompleted()) {
+            // 인덱스와 체크포인트는 유지하고 다음 재개에서 남은 구간만 처리
+            log.error("Full reindex job {} into {} incomplete: remainingRanges={}, resuming from checkpoints later",
+                    job.getId(), newIndex, tracker.remainingRanges());
+            throw new RuntimeException("Full reindex incomplete: " + tracker.remainingRanges() + " range(s) remaining");
+        }
 
-            if (successCount.get() > 0 && successCount.get() % REINDEX_BATCH_SIZE == 0) {
-                log.info("Reindexed {} stores...", successCount.get());
-            }
+        try {
+            int indexedCount = Math.toIntExact(checkpointService.countIndexed(job.getId()));
+            storeIndexAliasService.validate(newIndex, indexedCount, job.getStartedAt());
         } catch (Exception e) {
-            failCount.addAndGet(stores.size());
-            log.error("Failed to reindex batch of stores: batchSize={}", stores.size(), e);
+            log.error("Full reindex into {} failed, keeping current index", newIndex, e);
+            storeIndexAliasService.deleteIndex(newIndex);
+            checkpointService.fail(job.getId());
+            throw new RuntimeException("Full reindex failed", e);
         }
+
+        storeIndexAliasService.swap(newIndex);
+        deltaReindexService.markFullReindexed(job.getStartedAt());
+        deltaReindexService.reindexDelta();
+        storeIndexAliasService.deleteOldIndices(newIndex);
+        checkpointService.complete(job.getId());
+        log.info("Full reindex completed: job={}, index={}", job.getId(), newIndex);
     }
-}
 
+    /**
+     * 구간 (체크포인트, rangeEnd]의 매장을 ID 순 키셋 페이징으로 읽는 reader
+     * 조회에 실패하면 구간을 중단하고 체크포인트부터 재개 시 다시 읽습니다.
+     */
+    private StoreReindexPipeline.BatchReader rangeReader(StoreReindexCheckpoint checkpoint,
+                                                          StoreReindexCheckpointTracker tracker) {
+        return sink -> {
+            Long checkpointId = checkpoint.getId();
+            Long afterId = checkpoint.getLastStoreId();
+            try {
+                while (!tracker.isFailed(checkpointId)) {
+                    List<Store> stores = storeRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                            afterId, checkpoint.getRangeEnd(), PageRequest.of(0, REINDEX_BATCH_SIZE));
+                    if (stores.isEmpty()) {
+                        break;
+                    }
+                    StoreReindexPipeline.Batch batch = StoreReindexPipeline.Batch.of(checkpointId, stores);
+                    tracker.onRead(batch);
+                    sink.put(batch);
+                    afterId = batch.lastStoreId();
+                    if (stores.size() < REINDEX_BATCH_SIZE) {
+                        break;
+                    }
+                }
+                tracker.onReadCompleted(checkpointId);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                tracker.markFailed(checkpointId);
+                log.error("Failed to read store range ({}, {}] for reindex after {}",
+                        checkpoint.getRangeStart(), checkpoint.getRangeEnd(), afterId, e);
+            }
+        };
+    }
+}
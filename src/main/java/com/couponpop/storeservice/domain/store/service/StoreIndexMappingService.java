@@ -0,0 +1,157 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 매장 인덱스 매핑 관리 서비스
+ *
+ * StoreDocument 애노테이션으로 만든 매핑에 임베딩 차원(openai.embedding.dimension)을 주입해 인덱스를 생성합니다.
+ * dense_vector의 dims를 애노테이션에 고정하지 않으므로 OpenAI 요청 차원과 인덱스 매핑이 항상 같은 설정을 따릅니다.
+ *
+ * 검색/색인은 StoreDocument의 인덱스 이름(stores)을 별칭으로 사용하고, 실제 문서는 버전 인덱스(stores_v{n})에 저장합니다.
+ * 전체 재색인은 새 버전 인덱스를 만들어 채운 뒤 별칭을 교체합니다. (StoreIndexAliasService)
+ *
+ * 인덱스는 모든 싱글톤 빈 생성 직후, 스케줄 작업과 메시지 리스너가 시작되기 전에 생성합니다.
+ * 그보다 늦으면 먼저 실행된 색인 요청이 동적 매핑으로 stores 인덱스를 자동 생성해 dense_vector 매핑이 빠질 수 있습니다.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+public class StoreIndexMappingService implements SmartInitializingSingleton {
+
+    static final String EMBEDDING_FIELD = "embedding";
+    static final String VERSION_SEPARATOR = "_v";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final int embeddingDimension;
+
+    public StoreIndexMappingService(
+            ElasticsearchOperations elasticsearchOperations,
+            @Value("${openai.embedding.dimension:1536}") int embeddingDimension) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.embeddingDimension = embeddingDimension;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureIndex();
+    }
+
+    /**
+     * 인덱스가 없으면 첫 버전 인덱스를 별칭과 함께 생성하고, 있으면 임베딩 차원이 설정과 같은지 확인
+     */
+    public void ensureIndex() {
+        try {
+            IndexOperations indexOps = elasticsearchOperations.indexOps(StoreDocument.class);
+            if (!indexOps.exists()) {
+                String indexName = versionedIndexName(1);
+                createIndex(indexName);
+                elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).alias(new AliasActions(
+                        new AliasAction.Add(AliasActionParameters.builder()
+                                .withIndices(indexName)
+                                .withAliases(aliasName())
+                                .build())));
+                log.info("Created store index {} behind alias {} with embedding dimension: {}",
+                        indexName, aliasName(), embeddingDimension);
+                return;
+            }
+
+            Integer indexedDimension = findEmbeddingDimension(indexOps.getMapping());
+            if (indexedDimension != null && indexedDimension != embeddingDimension) {
+                // 기존 벡터와 차원이 달라 색인이 실패하므로 새 인덱스로 전체 재색인이 필요
+                log.error("Store index embedding dimension ({}) does not match configured dimension ({}). Full reindex into a new index is required.",
+                        indexedDimension, embeddingDimension);
+            }
+        } catch (Exception e) {
+            log.error("Failed to ensure store index mapping", e);
+        }
+    }
+
+    /**
+     * StoreDocument 설정과 매핑으로 물리 인덱스 생성
+     *
+     * @param indexName 생성할 인덱스 이름 (버전 인덱스)
+     */
+    public void createIndex(String indexName) {
+        Map<String, Object> settings = elasticsearchOperations.indexOps(StoreDocument.class).createSettings();
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).create(settings, createMapping());
+    }
+
+    /**
+     * 검색/색인에 사용하는 별칭 (StoreDocument의 인덱스 이름)
+     */
+    public String aliasName() {
+        return elasticsearchOperations.getIndexCoordinatesFor(StoreDocument.class).getIndexName();
+    }
+
+    /**
+     * 버전 인덱스 이름 (stores_v{n})
+     */
+    public String versionedIndexName(int version) {
+        return aliasName() + VERSION_SEPARATOR + version;
+    }
+
+    /**
+     * 모든 버전 인덱스에 해당하는 패턴 (stores_v*)
+     */
+    public String versionedIndexPattern() {
+        return aliasName() + VERSION_SEPARATOR + "*";
+    }
+
+    /**
+     * 버전 인덱스 이름에서 버전 추출 (버전 인덱스가 아니면 null)
+     */
+    public Integer versionOf(String indexName) {
+        String prefix = aliasName() + VERSION_SEPARATOR;
+        if (!indexName.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(indexName.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * StoreDocument 매핑 생성 (embedding.dims = 설정된 임베딩 차원)
+     */
+    public Document createMapping() {
+        Document mapping = elasticsearchOperations.indexOps(StoreDocument.class).createMapping();
+        embeddingProperty(mapping).put("dims", embeddingDimension);
+        return mapping;
+    }
+
+    public int getEmbeddingDimension() {
+        return embeddingDimension;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> embeddingProperty(Map<String, Object> mapping) {
+        Map<String, Object> properties = (Map<String, Object>) mapping.get("properties");
+        return (Map<String, Object>) properties.get(EMBEDDING_FIELD);
+    }
+
+    private static Integer findEmbeddingDimension(Map<String, Object> mapping) {
+        try {
+            Object dims = embeddingProperty(mapping).get("dims");
+            return dims instanceof Number number ? number.intValue() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
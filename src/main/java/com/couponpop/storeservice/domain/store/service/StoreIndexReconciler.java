@@ -0,0 +1,336 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MySQL - Elasticsearch 매장 색인 정합성 점검
+ *
+ * 매장을 ID 구간(chunk) 단위로 훑으며 구간별 체크섬(문서 수, store_id 합, updated_at 합)을 비교합니다.
+ * Elasticsearch 쪽 체크섬은 집계 요청 한 번으로 구하므로, 일치하는 구간은 문서를 읽지 않고 넘어갑니다.
+ * 불일치 구간만 문서의 (store_id, updated_at)을 읽어 어긋난 매장을 찾고, 배치 색인/삭제 경로로 그 매장만 복구합니다.
+ *
+ * 최근 grace-period 안에 수정된 매장은 아웃박스 동기화가 진행 중일 수 있으므로 복구 대상에서 제외합니다.
+ * 복제 지연으로 이전 상태를 읽더라도 색인은 updated_at 외부 버전으로 보내므로 더 최근 문서를 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+@Profile("!test")
+public class StoreIndexReconciler {
+
+    private static final String STORE_ID_PROPERTY = "storeId";
+    private static final String STORE_ID_FIELD = "store_id";
+    private static final String UPDATED_AT_FIELD = "updated_at";
+    private static final String MEMBER_USERNAME_FIELD = "member_username";
+    private static final String ID_SUM = "id_sum";
+    private static final String UPDATED_AT_SUM = "updated_at_sum";
+
+    private final StoreRepository storeRepository;
+    private final StoreElasticsearchSyncService syncService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration gracePeriod;
+    private final Counter divergentChunkCounter;
+    private final Counter repairedCounter;
+    private final Counter repairFailedCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StoreIndexReconciler(
+            StoreRepository storeRepository,
+            StoreElasticsearchSyncService syncService,
+            ElasticsearchOperations elasticsearchOperations,
+            MeterRegistry meterRegistry,
+            @Value("${store.sync.reconcile.enabled:true}") boolean enabled,
+            @Value("${store.sync.reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${store.sync.reconcile.grace-period:2m}") Duration gracePeriod) {
+        this.storeRepository = storeRepository;
+        this.syncService = syncService;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.gracePeriod = gracePeriod;
+        this.divergentChunkCounter = Counter.builder("store.sync.reconcile.divergent.chunks")
+                .description("체크섬이 일치하지 않은 매장 ID 구간 수")
+                .register(meterRegistry);
+        this.repairedCounter = Counter.builder("store.sync.reconcile.repaired")
+                .description("정합성 점검으로 다시 색인하거나 삭제한 문서 수")
+                .register(meterRegistry);
+        this.repairFailedCounter = Counter.builder("store.sync.reconcile.failed")
+                .description("정합성 점검에서 복구에 실패한 문서 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${store.sync.reconcile.interval:10m}",
+            initialDelayString = "${store.sync.reconcile.initial-delay:5m}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Store index reconciliation failed", e);
+        }
+    }
+
+    /**
+     * 전체 매장 ID 구간을 점검하고 어긋난 문서만 복구
+     * 이미 실행 중이면 건너뜁니다.
+     */
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Store index reconciliation is already running, skipping");
+            return;
+        }
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+            long afterId = 0;
+            int chunks = 0;
+            int divergentChunks = 0;
+            int repaired = 0;
+            int failed = 0;
+
+            List<StoreSyncState> states;
+            do {
+                states = storeRepository.findSyncStatesAfter(afterId, chunkSize);
+                // 마지막 구간은 상한을 열어 DB에 없는 ID의 문서까지 확인
+                boolean lastChunk = states.size() < chunkSize;
+                long toId = lastChunk ? Long.MAX_VALUE : states.get(states.size() - 1).getId();
+
+                ChunkResult result = reconcileChunk(afterId, toId, states, cutoff);
+                chunks++;
+                if (result.divergent()) {
+                    divergentChunks++;
+                }
+                repaired += result.repaired();
+                failed += result.failed();
+
+                if (!states.isEmpty()) {
+                    afterId = states.get(states.size() - 1).getId();
+                }
+            } while (states.size() == chunkSize);
+
+            log.info("Store index reconciliation completed: chunks={}, divergentChunks={}, repaired={}, failed={}",
+                    chunks, divergentChunks, repaired, failed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ChunkResult reconcileChunk(long afterId, long toId, List<StoreSyncState> states, LocalDateTime cutoff) {
+        if (ChunkChecksum.ofLiveStores(states).equals(indexedChecksum(afterId, toId))) {
+            return ChunkResult.CLEAN;
+        }
+
+        divergentChunkCounter.increment();
+        Map<Long, StoreDocument> indexed = findIndexed(afterId, toId);
+        Divergence divergence = findDivergence(states, indexed, cutoff);
+        if (divergence.isEmpty()) {
+            // 최근 수정되어 동기화가 진행 중인 매장만 다른 경우
+            return new ChunkResult(true, 0, 0);
+        }
+
+        log.info("Store index chunk diverged: afterId={}, toId={}, reindex={}, delete={}",
+                afterId, toId, divergence.reindexIds().size(), divergence.deletes().size());
+        return repair(divergence, indexed);
+    }
+
+    private ChunkResult repair(Divergence divergence, Map<Long, StoreDocument> indexed) {
+        int repaired = 0;
+        int failed = 0;
+
+        if (!divergence.reindexIds().isEmpty()) {
+            List<Store> stores = storeRepository.findAllById(divergence.reindexIds());
+            // 소유자 사용자명은 DB에 없으므로 기존 문서의 값을 유지
+            Map<Long, String> memberUsernames = new HashMap<>();
+            stores.forEach(store -> {
+                StoreDocument document = indexed.get(store.getId());
+                if (document != null && document.getMemberUsername() != null) {
+                    memberUsernames.put(store.getId(), document.getMemberUsername());
+                }
+            });
+            try {
+                StoreBulkResult result = syncService.indexStoresBatch(stores, memberUsernames);
+                repaired += result.succeeded();
+                failed += result.failedCount();
+            } catch (Exception e) {
+                log.error("Failed to reindex diverged stores: count={}", stores.size(), e);
+                failed += stores.size();
+            }
+        }
+
+        if (!divergence.deletes().isEmpty()) {
+            try {
+                StoreBulkResult result = syncService.deleteStoresBatch(divergence.deletes());
+                repaired += result.succeeded();
+                failed += result.failedCount();
+            } catch (Exception e) {
+                log.error("Failed to delete diverged store documents: count={}", divergence.deletes().size(), e);
+                failed += divergence.deletes().size();
+            }
+        }
+
+        repairedCounter.increment(repaired);
+        repairFailedCounter.increment(failed);
+        return new ChunkResult(true, repaired, failed);
+    }
+
+    /**
+     * 구간 내 문서 체크섬 (문서를 읽지 않고 집계로 계산)
+     */
+    private ChunkChecksum indexedChecksum(long afterId, long toId) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(rangeQuery(afterId, toId))
+                .withAggregation(ID_SUM, Aggregation.of(a -> a.sum(sum -> sum.field(STORE_ID_FIELD))))
+                .withAggregation(UPDATED_AT_SUM, Aggregation.of(a -> a.sum(sum -> sum.field(UPDATED_AT_FIELD))))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<StoreDocument> hits = elasticsearchOperations.search(query, StoreDocument.class);
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) hits.getAggregations();
+        return new ChunkChecksum(
+                hits.getTotalHits(),
+                sumOf(aggregations, ID_SUM),
+                sumOf(aggregations, UPDATED_AT_SUM));
+    }
+
+    /**
+     * 구간 내 문서의 store_id, updated_at, member_username만 조회
+     */
+    private Map<Long, StoreDocument> findIndexed(long afterId, long toId) {
+        CriteriaQuery query = rangeQuery(afterId, toId);
+        query.addSourceFilter(new FetchSourceFilterBuilder()
+                .withIncludes(STORE_ID_FIELD, UPDATED_AT_FIELD, MEMBER_USERNAME_FIELD)
+                .build());
+
+        Map<Long, StoreDocument> indexed = new HashMap<>();
+        try (SearchHitsIterator<StoreDocument> iterator = elasticsearchOperations.searchForStream(query, StoreDocument.class)) {
+            while (iterator.hasNext()) {
+                SearchHit<StoreDocument> hit = iterator.next();
+                indexed.put(Long.valueOf(hit.getId()), hit.getContent());
+            }
+        }
+        return indexed;
+    }
+
+    private static CriteriaQuery rangeQuery(long afterId, long toId) {
+        return new CriteriaQuery(new Criteria(STORE_ID_PROPERTY).greaterThan(afterId).lessThanEqual(toId));
+    }
+
+    private static long sumOf(ElasticsearchAggregations aggregations, String name) {
+        // 구간 크기(chunk-size) 안에서는 합계가 double로 정확히 표현되는 범위
+        return Math.round(aggregations.get(name).aggregation().getAggregate().sum().value());
+    }
+
+    /**
+     * DB 상태와 색인 문서를 비교해 다시 색인할 매장과 삭제할 문서를 찾음
+     * cutoff 이후 수정된 매장은 아웃박스 동기화가 진행 중일 수 있으므로 제외합니다.
+     */
+    static Divergence findDivergence(List<StoreSyncState> states, Map<Long, StoreDocument> indexed, LocalDateTime cutoff) {
+        List<Long> reindexIds = new ArrayList<>();
+        Map<Long, LocalDateTime> deletes = new LinkedHashMap<>();
+        Set<Long> known = new HashSet<>();
+
+        for (StoreSyncState state : states) {
+            known.add(state.getId());
+            if (state.getUpdatedAt().isAfter(cutoff)) {
+                continue;
+            }
+
+            StoreDocument document = indexed.get(state.getId());
+            if (state.getDeletedAt() != null) {
+                if (document != null) {
+                    deletes.put(state.getId(), state.getUpdatedAt());
+                }
+            } else if (document == null
+                    || document.getUpdatedAt() == null
+                    || epochMillis(document.getUpdatedAt()) != epochMillis(state.getUpdatedAt())) {
+                reindexIds.add(state.getId());
+            }
+        }
+
+        // DB에 없는 매장의 문서 (삭제 시점을 알 수 없음)
+        indexed.keySet().stream()
+                .filter(storeId -> !known.contains(storeId))
+                .sorted()
+                .forEach(storeId -> deletes.put(storeId, null));
+
+        return new Divergence(reindexIds, deletes);
+    }
+
+    // 색인된 updated_at은 밀리초까지 저장되므로 밀리초 단위로 비교
+    static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 구간 체크섬 (문서 수, store_id 합, updated_at 밀리초 합)
+     */
+    record ChunkChecksum(long count, long idSum, long updatedAtSum) {
+
+        static ChunkChecksum ofLiveStores(List<StoreSyncState> states) {
+            long count = 0;
+            long idSum = 0;
+            long updatedAtSum = 0;
+            for (StoreSyncState state : states) {
+                if (state.getDeletedAt() != null) {
+                    continue;
+                }
+                count++;
+                idSum += state.getId();
+                updatedAtSum += epochMillis(state.getUpdatedAt());
+            }
+            return new ChunkChecksum(count, idSum, updatedAtSum);
+        }
+    }
+
+    /**
+     * @param reindexIds 다시 색인할 매장 ID
+     * @param deletes 문서를 삭제할 매장 ID별 삭제 시점 수정일시 (DB에 없는 매장은 null)
+     */
+    record Divergence(List<Long> reindexIds, Map<Long, LocalDateTime> deletes) {
+
+        boolean isEmpty() {
+            return reindexIds.isEmpty() && deletes.isEmpty();
+        }
+    }
+
+    private record ChunkResult(boolean divergent, int repaired, int failed) {
+
+        static final ChunkResult CLEAN = new ChunkResult(false, 0, 0);
+    }
+}
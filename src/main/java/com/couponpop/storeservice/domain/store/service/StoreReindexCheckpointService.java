@@ -0,0 +1,135 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJob;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJobStatus;
+import com.couponpop.storeservice.domain.store.repository.StoreReindexCheckpointRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreReindexJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매장 전체 재색인 작업/체크포인트 관리 서비스
+ *
+ * 작업 시작 시 매장 ID 공간을 range-size 단위 구간으로 나눠 체크포인트를 만들고,
+ * 배치 색인이 끝날 때마다 구간의 마지막 매장 ID를 기록합니다.
+ * 실행 중인 인스턴스가 종료되어 lease 동안 진행 기록이 없으면 다른 인스턴스(또는 재시작한 인스턴스)가 작업을 선점해 이어서 처리합니다.
+ * 체크포인트는 재개 직후 바로 읽히므로 읽기 전용 트랜잭션(슬레이브)을 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+public class StoreReindexCheckpointService {
+
+    private final StoreReindexJobRepository jobRepository;
+    private final StoreReindexCheckpointRepository checkpointRepository;
+    private final long rangeSize;
+    private final Duration lease;
+
+    public StoreReindexCheckpointService(
+            StoreReindexJobRepository jobRepository,
+            StoreReindexCheckpointRepository checkpointRepository,
+            @Value("${store.reindex.partition.range-size:10000}") long rangeSize,
+            @Value("${store.reindex.checkpoint.lease:5m}") Duration lease) {
+        this.jobRepository = jobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.rangeSize = rangeSize;
+        this.lease = lease;
+    }
+
+    /**
+     * 실행 중(완료/실패 전) 작업 조회
+     */
+    @Transactional
+    public Optional<StoreReindexJob> findRunningJob() {
+        return jobRepository.findFirstByStatusOrderByIdDesc(StoreReindexJobStatus.RUNNING);
+    }
+
+    /**
+     * 중단된 작업 선점 (lease 동안 진행 기록이 없는 경우에만)
+     *
+     * @return 선점했는지 여부 (다른 인스턴스가 진행 중이거나 먼저 선점했으면 false)
+     */
+    @Transactional
+    public boolean claim(StoreReindexJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.claimStale(job.getId(), now, now.minus(lease)) == 1;
+    }
+
+    /**
+     * 새 작업 시작 (ID 공간 (0, maxStoreId]을 구간으로 나눠 체크포인트 생성)
+     * maxStoreId 이후 생성된 매장은 재색인 시작 이후 변경이므로 별칭 교체 뒤 증분 재색인에서 반영됩니다.
+     *
+     * @param targetIndex 색인할 새 버전 인덱스
+     * @param startedAt 재색인 시작 시각
+     * @param maxStoreId 삭제된 매장을 포함한 가장 큰 매장 ID
+     */
+    @Transactional
+    public StoreReindexJob startJob(String targetIndex, LocalDateTime startedAt, long maxStoreId) {
+        StoreReindexJob job = jobRepository.save(StoreReindexJob.start(targetIndex, startedAt));
+
+        List<StoreReindexCheckpoint> checkpoints = new ArrayList<>();
+        for (long rangeStart = 0; rangeStart < maxStoreId; rangeStart += rangeSize) {
+            checkpoints.add(StoreReindexCheckpoint.of(job.getId(), rangeStart, Math.min(rangeStart + rangeSize, maxStoreId)));
+        }
+        checkpointRepository.saveAll(checkpoints);
+
+        log.info("Started store reindex job {}: index={}, ranges={}, maxStoreId={}",
+                job.getId(), targetIndex, checkpoints.size(), maxStoreId);
+        return job;
+    }
+
+    /**
+     * 작업의 미완료 구간 조회 (구간 순)
+     */
+    @Transactional
+    public List<StoreReindexCheckpoint> findPendingCheckpoints(Long jobId) {
+        return checkpointRepository.findByJobIdAndCompletedFalseOrderByRangeStartAsc(jobId);
+    }
+
+    /**
+     * 구간 진행 기록 (작업의 진행 기록 시각도 함께 갱신)
+     *
+     * @param lastStoreId 색인을 마친 마지막 매장 ID
+     * @param indexed 이번에 색인에 성공한 매장 수
+     * @param completed 구간을 끝까지 처리했는지 여부
+     */
+    @Transactional
+    public void saveProgress(Long jobId, Long checkpointId, Long lastStoreId, long indexed, boolean completed) {
+        StoreReindexCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                .orElseThrow(() -> new IllegalStateException("Store reindex checkpoint not found: " + checkpointId));
+        checkpoint.advanceTo(lastStoreId, indexed);
+        if (completed) {
+            checkpoint.complete();
+        }
+        jobRepository.findById(jobId).ifPresent(job -> job.heartbeat(LocalDateTime.now()));
+    }
+
+    /**
+     * 작업에서 색인에 성공한 매장 수 (재개 전 실행분 포함)
+     */
+    @Transactional
+    public long countIndexed(Long jobId) {
+        return checkpointRepository.sumIndexedCount(jobId);
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        jobRepository.findById(jobId).ifPresent(StoreReindexJob::complete);
+    }
+
+    /**
+     * 재개할 수 없는 실패로 종료 (검증 실패 등)
+     */
+    @Transactional
+    public void fail(Long jobId) {
+        jobRepository.findById(jobId).ifPresent(StoreReindexJob::fail);
+    }
+}
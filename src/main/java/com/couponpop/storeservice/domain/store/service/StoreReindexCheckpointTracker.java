@@ -0,0 +1,162 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구간 분할 재색인의 구간별 진행 추적
+ *
+ * 파이프라인은 임베딩/색인 단계를 여러 스레드가 처리하므로 같은 구간의 배치도 읽은 순서와 다르게 끝날 수 있습니다.
+ * 구간마다 읽은 배치를 순서대로 기억해 두고, 앞선 배치가 모두 끝난 지점까지만 체크포인트를 전진시켜
+ * 재개 시 색인되지 않은 매장을 건너뛰지 않도록 합니다.
+ * 배치가 실패하거나 체크포인트 기록에 실패한 구간은 더 읽지 않고, 기록된 체크포인트부터 재개 시 다시 처리합니다.
+ */
+@Slf4j
+class StoreReindexCheckpointTracker implements StoreReindexPipeline.BatchListener {
+
+    private final StoreReindexCheckpointService checkpointService;
+    private final Long jobId;
+    private final Map<Long, RangeProgress> ranges = new ConcurrentHashMap<>();
+
+    StoreReindexCheckpointTracker(StoreReindexCheckpointService checkpointService,
+                                  Long jobId,
+                                  List<StoreReindexCheckpoint> checkpoints) {
+        this.checkpointService = checkpointService;
+        this.jobId = jobId;
+        checkpoints.forEach(checkpoint -> ranges.put(checkpoint.getId(), new RangeProgress(checkpoint)));
+    }
+
+    /**
+     * 배치를 파이프라인에 넘기기 전에 등록 (읽은 순서 기록)
+     */
+    void onRead(StoreReindexPipeline.Batch batch) {
+        RangeProgress progress = ranges.get(batch.partition());
+        synchronized (progress) {
+            progress.inFlight.addLast(batch.lastStoreId());
+        }
+    }
+
+    /**
+     * 구간을 끝까지 읽음 (남은 배치가 없으면 바로 구간 완료 기록)
+     */
+    void onReadCompleted(Long checkpointId) {
+        RangeProgress progress = ranges.get(checkpointId);
+        synchronized (progress) {
+            progress.readCompleted = true;
+            saveProgress(progress, null, 0);
+        }
+    }
+
+    /**
+     * 조회 실패 등으로 구간 처리를 중단
+     */
+    void markFailed(Long checkpointId) {
+        RangeProgress progress = ranges.get(checkpointId);
+        synchronized (progress) {
+            progress.failed = true;
+        }
+    }
+
+    boolean isFailed(Long checkpointId) {
+        RangeProgress progress = ranges.get(checkpointId);
+        synchronized (progress) {
+            return progress.failed;
+        }
+    }
+
+    /**
+     * 모든 구간이 완료로 기록되었는지 여부
+     */
+    boolean allCompleted() {
+        return ranges.values().stream().allMatch(progress -> {
+            synchronized (progress) {
+                return progress.completed;
+            }
+        });
+    }
+
+    long remainingRanges() {
+        return ranges.values().stream().filter(progress -> {
+            synchronized (progress) {
+                return !progress.completed;
+            }
+        }).count();
+    }
+
+    @Override
+    public void onCompleted(StoreReindexPipeline.Batch batch, StoreBulkResult result) {
+        RangeProgress progress = ranges.get(batch.partition());
+        synchronized (progress) {
+            if (progress.failed) {
+                return;
+            }
+            if (result.hasFailures()) {
+                progress.failed = true;
+                log.warn("Store reindex range ({}, {}] stopped at checkpoint {}: failedStoreIds={}",
+                        progress.rangeStart, progress.rangeEnd, progress.lastStoreId, result.failedIds());
+                return;
+            }
+
+            progress.completedBatches.put(batch.lastStoreId(), result.succeeded());
+            Long advancedTo = null;
+            long indexed = 0;
+            while (!progress.inFlight.isEmpty() && progress.completedBatches.containsKey(progress.inFlight.peekFirst())) {
+                advancedTo = progress.inFlight.pollFirst();
+                indexed += progress.completedBatches.remove(advancedTo);
+            }
+            saveProgress(progress, advancedTo, indexed);
+        }
+    }
+
+    private void saveProgress(RangeProgress progress, Long advancedTo, long indexed) {
+        if (progress.failed || progress.completed) {
+            return;
+        }
+        boolean completed = progress.readCompleted && progress.inFlight.isEmpty();
+        if (advancedTo == null && !completed) {
+            return;
+        }
+
+        Long lastStoreId = completed ? progress.rangeEnd : advancedTo;
+        try {
+            checkpointService.saveProgress(jobId, progress.checkpointId, lastStoreId, indexed, completed);
+        } catch (Exception e) {
+            // 기록되지 않은 진행분은 재개 시 다시 처리 (이후 배치를 기록하면 색인 수가 어긋나므로 구간 중단)
+            progress.failed = true;
+            log.error("Failed to save store reindex checkpoint: range=({}, {}], lastStoreId={}",
+                    progress.rangeStart, progress.rangeEnd, lastStoreId, e);
+            return;
+        }
+        progress.lastStoreId = lastStoreId;
+        progress.completed = completed;
+    }
+
+    private static final class RangeProgress {
+
+        private final Long checkpointId;
+        private final Long rangeStart;
+        private final Long rangeEnd;
+        // 읽은 순서대로 아직 체크포인트에 반영되지 않은 배치의 마지막 매장 ID
+        private final Deque<Long> inFlight = new ArrayDeque<>();
+        // 끝났지만 앞선 배치를 기다리는 배치 (마지막 매장 ID → 색인 성공 수)
+        private final Map<Long, Integer> completedBatches = new HashMap<>();
+        private Long lastStoreId;
+        private boolean readCompleted;
+        private boolean completed;
+        private boolean failed;
+
+        private RangeProgress(StoreReindexCheckpoint checkpoint) {
+            this.checkpointId = checkpoint.getId();
+            this.rangeStart = checkpoint.getRangeStart();
+            this.rangeEnd = checkpoint.getRangeEnd();
+            this.lastStoreId = checkpoint.getLastStoreId();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 매장 재색인 파이프라인
+ *
+ * DB 조회 → 임베딩 생성(텍스트 조합 포함) → bulk 색인 단계를 크기가 제한된 큐로 연결해 동시에 실행합니다.
+ * 한 배치가 임베딩을 기다리는 동안 다음 배치를 읽고, 이전 배치는 색인하므로
+ * 처리량은 세 단계 소요 시간의 합이 아니라 가장 느린 단계에 맞춰집니다.
+ * 큐가 가득 차면 앞 단계가 대기하므로 느린 단계 앞에 매장/문서가 무한히 쌓이지 않습니다.
+ *
+ * 임베딩 텍스트 조합은 매장 필드를 이어 붙이는 가벼운 작업이라 별도 단계로 나누지 않고 임베딩 단계에서 함께 수행합니다.
+ * 소유자 사용자명은 DB에 없으므로 임베딩 단계에서 배치마다 검색 별칭이 가리키는 인덱스의 값을 읽어 그대로 유지합니다.
+ * (blue/green 재색인 중에는 별칭이 아직 기존 인덱스를 가리키므로 기존 인덱스의 값을 새 인덱스로 옮김)
+ * 구간 분할 재색인은 여러 BatchReader가 동시에 DB 조회 단계를 수행하고, 배치별 완료를 BatchListener로 받아 체크포인트를 기록합니다.
+ * 실행마다 스레드를 만들고 종료 시 정리합니다.
+ */
+@Slf4j
+class StoreReindexPipeline {
+
+    // 단계 종료 표시 (참조 비교)
+    private static final Batch END_OF_STORES = new Batch(0L, 0L, List.of());
+    private static final DocumentBatch END_OF_DOCUMENTS = new DocumentBatch(END_OF_STORES, StoreDocuments.empty());
+
+    private static final BatchListener NO_OP_LISTENER = (batch, result) -> {
+    };
+
+    private final StoreElasticsearchSyncService syncService;
+    private final int batchSize;
+    private final int embedParallelism;
+    private final int indexParallelism;
+    private final int queueCapacity;
+    private final String targetIndex;
+
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong readNanos = new AtomicLong();
+    private final AtomicLong embedNanos = new AtomicLong();
+    private final AtomicLong indexNanos = new AtomicLong();
+
+    /**
+     * @param batchSize 임베딩 요청/bulk 색인 한 번에 담을 매장 수
+     * @param embedParallelism 동시에 임베딩을 생성할 스레드 수
+     * @param indexParallelism 동시에 bulk 색인을 보낼 스레드 수
+     * @param queueCapacity 단계 사이 큐에 대기 가능한 배치 수
+     * @param targetIndex 색인할 인덱스 이름 (null이면 검색 별칭)
+     */
+    StoreReindexPipeline(StoreElasticsearchSyncService syncService,
+                         int batchSize,
+                         int embedParallelism,
+                         int indexParallelism,
+                         int queueCapacity,
+                         String targetIndex) {
+        this.syncService = syncService;
+        this.batchSize = batchSize;
+        this.embedParallelism = embedParallelism;
+        this.indexParallelism = indexParallelism;
+        this.queueCapacity = queueCapacity;
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * 매장 스트림을 끝까지 읽어 재색인 (호출 스레드가 DB 조회 단계를 수행)
+     * 읽기 도중 예외가 나도 이미 넘긴 배치는 끝까지 처리한 뒤 예외를 전파합니다.
+     */
+    Result run(Stream<Store> stores) {
+        return run(List.of(sink -> readStream(stores, sink)), 1, NO_OP_LISTENER);
+    }
+
+    /**
+     * 여러 reader가 넘기는 배치를 재색인
+     * readParallelism이 1 이하면 호출 스레드가 reader를 차례로 실행하고(스트림 조회처럼 호출 스레드의 트랜잭션이 필요한 경우),
+     * 그보다 크면 그 수만큼의 스레드가 reader를 나눠 동시에 실행합니다.
+     * 읽기 도중 예외가 나도 이미 넘긴 배치는 끝까지 처리한 뒤 예외를 전파합니다.
+     *
+     * @param readers 배치를 읽어 넘기는 reader 목록 (reader 하나 안에서는 순서대로 넘김)
+     * @param readParallelism 동시에 실행할 reader 수
+     * @param listener 배치별 처리 결과 수신 (임베딩/색인 단계 스레드에서 호출, 임베딩 실패도 실패 결과로 전달)
+     */
+    Result run(List<BatchReader> readers, int readParallelism, BatchListener listener) {
+        BlockingQueue<Batch> storeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<DocumentBatch> documentQueue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(embedParallelism + indexParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "store-reindex-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> embedWorkers = new ArrayList<>(embedParallelism);
+            for (int i = 0; i < embedParallelism; i++) {
+                embedWorkers.add(executor.submit(() -> {
+                    embedLoop(storeQueue, documentQueue, listener);
+                    return null;
+                }));
+            }
+            List<Future<?>> indexWorkers = new ArrayList<>(indexParallelism);
+            for (int i = 0; i < indexParallelism; i++) {
+                indexWorkers.add(executor.submit(() -> {
+                    indexLoop(documentQueue, listener);
+                    return null;
+                }));
+            }
+
+            try {
+                readAll(readers, readParallelism, storeQueue);
+            } finally {
+                // 앞 단계가 모두 끝난 뒤 다음 단계에 종료 표시 전달
+                for (int i = 0; i < embedParallelism; i++) {
+                    storeQueue.put(END_OF_STORES);
+                }
+                awaitAll(embedWorkers);
+                for (int i = 0; i < indexParallelism; i++) {
+                    documentQueue.put(END_OF_DOCUMENTS);
+                }
+                awaitAll(indexWorkers);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Store reindex pipeline interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        // 단계별 누적 작업 시간 (병렬 스레드 합계, 가장 큰 단계가 병목)
+        log.info("Store reindex pipeline finished: elapsed={}, read={}, embed={}, index={}, succeeded={}, failed={}",
+                elapsed, Duration.ofNanos(readNanos.get()), Duration.ofNanos(embedNanos.get()),
+                Duration.ofNanos(indexNanos.get()), succeeded.get(), failed.get());
+        return new Result(succeeded.get(), failed.get());
+    }
+
+    private void readAll(List<BatchReader> readers, int readParallelism, BlockingQueue<Batch> storeQueue)
+            throws InterruptedException {
+        if (readParallelism <= 1) {
+            for (BatchReader reader : readers) {
+                reader.read(timedSink(storeQueue));
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService readExecutor = Executors.newFixedThreadPool(Math.min(readParallelism, Math.max(readers.size(), 1)), runnable -> {
+            Thread thread = new Thread(runnable, "store-reindex-read-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> readWorkers = new ArrayList<>(readers.size());
+            for (BatchReader reader : readers) {
+                readWorkers.add(readExecutor.submit(() -> {
+                    reader.read(timedSink(storeQueue));
+                    return null;
+                }));
+            }
+            awaitAll(readWorkers);
+        } finally {
+            readExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 큐에 넘기기 전까지의 시간을 읽기 시간으로 누적하는 sink (큐가 가득 차 대기한 시간은 제외)
+     */
+    private BatchSink timedSink(BlockingQueue<Batch> storeQueue) {
+        long[] readStartedAt = {System.nanoTime()};
+        return batch -> {
+            readNanos.addAndGet(System.nanoTime() - readStartedAt[0]);
+            storeQueue.put(batch);
+            readStartedAt[0] = System.nanoTime();
+        };
+    }
+
+    private void readStream(Stream<Store> stores, BatchSink sink) throws InterruptedException {
+        List<Store> batch = new ArrayList<>(batchSize);
+        Iterator<Store> iterator = stores.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() >= batchSize) {
+                sink.put(Batch.of(0L, batch));
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            sink.put(Batch.of(0L, batch));
+        }
+    }
+
+    private void embedLoop(BlockingQueue<Batch> storeQueue,
+                           BlockingQueue<DocumentBatch> documentQueue,
+                           BatchListener listener) throws InterruptedException {
+        while (true) {
+            Batch batch = storeQueue.take();
+            if (batch == END_OF_STORES) {
+                return;
+            }
+
+            long embedStartedAt = System.nanoTime();
+            StoreDocuments built;
+            try {
+                // 사용자명 없이 색인하면 같은 버전으로 받아들여져 기존 값이 지워지므로, 조회에 실패하면 배치를 실패로 처리
+                Map<Long, String> memberUsernames = syncService.findIndexedMemberUsernames(batch.storeIds());
+                built = syncService.buildDocuments(batch.stores(), memberUsernames);
+            } catch (Exception e) {
+                failed.addAndGet(batch.stores().size());
+                log.error("Failed to build store documents during reindex: batchSize={}", batch.stores().size(), e);
+                notifyCompleted(listener, batch, StoreBulkResult.failed(batch.storeIds(), "Document build failed: " + e.getMessage()));
+                continue;
+            } finally {
+                embedNanos.addAndGet(System.nanoTime() - embedStartedAt);
+            }
+            if (built.hasFailures()) {
+                // 임베딩을 받지 못한 매장은 벡터 없이 색인하지 않고 실패로 전달 (구간을 멈추고 재개 시 다시 처리)
+                failed.addAndGet(built.failures().size());
+            }
+            if (built.documents().isEmpty()) {
+                notifyCompleted(listener, batch, StoreBulkResult.empty().withFailures(built.failures()));
+                continue;
+            }
+            documentQueue.put(new DocumentBatch(batch, built));
+        }
+    }
+
+    private void indexLoop(BlockingQueue<DocumentBatch> documentQueue, BatchListener listener) throws InterruptedException {
+        while (true) {
+            DocumentBatch batch = documentQueue.take();
+            if (batch == END_OF_DOCUMENTS) {
+                return;
+            }
+
+            List<StoreDocument> documents = batch.built().documents();
+            long indexStartedAt = System.nanoTime();
+            StoreBulkResult result;
+            try {
+                result = syncService.indexDocuments(documents, targetIndex);
+                int total = succeeded.addAndGet(result.succeeded());
+                if (result.hasFailures()) {
+                    failed.addAndGet(result.failedCount());
+                    log.warn("Batch indexing completed with partial failures: processed={}, expected={}, failedStoreIds={}",
+                            result.succeeded(), documents.size(), result.failedIds());
+                }
+                if (total / batchSize != (total - result.succeeded()) / batchSize) {
+                    log.info("Reindexed {} stores...", total);
+                }
+                result = result.withFailures(batch.built().failures());
+            } catch (Exception e) {
+                failed.addAndGet(documents.size());
+                log.error("Failed to reindex batch of stores: batchSize={}", documents.size(), e);
+                result = StoreBulkResult.failed(batch.source().storeIds(), "Indexing failed: " + e.getMessage());
+            } finally {
+                indexNanos.addAndGet(System.nanoTime() - indexStartedAt);
+            }
+            notifyCompleted(listener, batch.source(), result);
+        }
+    }
+
+    private static void notifyCompleted(BatchListener listener, Batch batch, StoreBulkResult result) {
+        try {
+            listener.onCompleted(batch, result);
+        } catch (Exception e) {
+            // 체크포인트 기록 실패는 해당 구간을 재개 시 다시 처리하면 되므로 파이프라인은 계속 진행
+            log.error("Store reindex batch listener failed: partition={}, lastStoreId={}",
+                    batch.partition(), batch.lastStoreId(), e);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> workers) throws InterruptedException {
+        IllegalStateException failure = null;
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                // 배치 단위 예외는 워커 안에서 처리하므로 여기까지 오면 스레드 중단, 조회 실패 등 예상하지 못한 오류
+                // 나머지 워커가 넘긴 배치도 끝까지 처리되도록 모두 기다린 뒤 전파
+                if (failure == null) {
+                    failure = new IllegalStateException("Store reindex pipeline worker failed", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @param succeeded 색인에 성공한 매장 수
+     * @param failed 임베딩 생성 또는 색인에 실패한 매장 수
+     */
+    record Result(int succeeded, int failed) {
+    }
+
+    /**
+     * 파이프라인에 넣는 매장 배치
+     *
+     * @param partition 배치를 읽은 구간 (체크포인트 ID, 구간이 없으면 0)
+     * @param lastStoreId 배치의 마지막 매장 ID (reader는 ID 순으로 읽음)
+     * @param stores 매장 목록
+     */
+    record Batch(Long partition, Long lastStoreId, List<Store> stores) {
+
+        static Batch of(Long partition, List<Store> stores) {
+            return new Batch(partition, stores.get(stores.size() - 1).getId(), List.copyOf(stores));
+        }
+
+        List<Long> storeIds() {
+            return stores.stream().map(Store::getId).toList();
+        }
+    }
+
+    private record DocumentBatch(Batch source, StoreDocuments built) {
+    }
+
+    /**
+     * DB 조회 단계 (배치를 읽어 sink에 넘김, 큐가 가득 차면 sink에서 대기)
+     */
+    @FunctionalInterface
+    interface BatchReader {
+
+        void read(BatchSink sink) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    interface BatchSink {
+
+        void put(Batch batch) throws InterruptedException;
+    }
+
+    /**
+     * 배치별 처리 결과 수신
+     */
+    @FunctionalInterface
+    interface BatchListener {
+
+        void onCompleted(Batch batch, StoreBulkResult result);
+    }
+}
@@ -9,7 +9,7 @@ import com.couponpop.storeservice.domain.store.dto.response.StoreMapResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreSearchResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreSuggestResponse;
-import com.couponpop.storeservice.external.openai.service.OpenAIEmbeddingService;
+import com.couponpop.storeservice.external.openai.service.QueryEmbeddingCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
@@ -18,6 +18,8 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 
@@ -42,7 +44,7 @@ public class StoreSearchService {
     private static final double HYBRID_VECTOR_SCORE_WEIGHT = 5.0;
 
     private final ElasticsearchOperations elasticsearchOperations;
-    private final OpenAIEmbeddingService openAIEmbeddingService;
+    private final QueryEmbeddingCache queryEmbeddingCache;
 
     /**
      * 매장명으로 검색 (name 필드만 검색)
@@ -345,105 +347,110 @@ public class StoreSearchService {
      * @param keyword 검색 키워드
      * @return 하이브리드 검색 결과 (점수 포함)
      */
-    public List<StoreSearchResponse> executeHybridSearch(String keyword) {
-        try {
-            if (keyword == null || keyword.trim().isEmpty()) {
-                return List.of();
-            }
-
-            String trimmedKeyword = keyword.trim();
-            log.info("Executing hybrid search (Function Score) for keyword: {}", trimmedKeyword);
-
-            // 1. 검색어를 임베딩 벡터로 변환
-            List<Float> queryEmbedding = openAIEmbeddingService.generateEmbedding(trimmedKeyword);
-            
-            if (queryEmbedding == null || queryEmbedding.isEmpty()) {
-                log.warn("Failed to generate embedding for keyword: {}, falling back to BM25 only", trimmedKeyword);
-                return searchStoresWithRecommendation(trimmedKeyword);
-            }
-
-            // 2. 하이브리드 쿼리 구성 (BM25 + KNN using Function Score)
-            Query query = NativeQuery.builder()
-                    .withQuery(q -> q
-                            .functionScore(fs -> fs
-                                    // a. BM25 쿼리 (Keyword Search)
-                                    .query(qq -> qq
-                                            .bool(b -> b
-                                                    .should(sh -> sh
-                                                            .match(m -> m
-                                                                    .field("name")
-                                                                    .query(trimmedKeyword)
-                                                                    .boost(HYBRID_BOOST_NAME_MATCH)
-                                                            )
-                                                    )
-                                                    .should(sh -> sh
-                                                            .match(m -> m
-                                                                    .field("name.ngram")
-                                                                    .query(trimmedKeyword)
-                                                                    .boost(HYBRID_BOOST_NAME_NGRAM)
-                                                            )
-                                                    )
-                                                    .should(sh -> sh
-                                                            .match(m -> m
-                                                                    .field("description")
-                                                                    .query(trimmedKeyword)
-                                                                    .boost(HYBRID_BOOST_DESCRIPTION)
-                                                            )
-                                                    )
-                                                    .should(sh -> sh
-                                                            .match(m -> m
-                                                                    .field("address")
-                                                                    .query(trimmedKeyword)
-                                                                    .boost(HYBRID_BOOST_ADDRESS)
-                                                            )
-                                                    )
-                                                    .minimumShouldMatch("1")
-                                            )
-                                    )
-                                    // b. 벡터 검색 (Semantic Search)를 Score Function으로 추가
-                                    .functions(fn -> fn
-                                            .scriptScore(ss -> ss
-                                                    .script(s -> s
-                                                            // 코사인 유사도 계산 (+1.0은 점수를 양수로 만듦)
-                                                            .source("cosineSimilarity(params.queryVector, 'embedding') + 1.0")
-                                                            .params("queryVector", JsonData.of(queryEmbedding))
-                                                    )
-                                            )
-                                            // 벡터 유사도 점수에 가중치를 부여하여 BM25 점수와 합산
-                                            .weight(HYBRID_VECTOR_SCORE_WEIGHT)
-                                    )
-                                    // BM25 점수와 벡터 점수를 합산
-                                    .scoreMode(FunctionScoreMode.Sum)
-                            )
-                    )
-                    .withMaxResults(20)
-                    .build();
-
-            // 3. 검색 실행 (ElasticsearchOperations 사용)
-            SearchHits<StoreDocument> searchHits = elasticsearchOperations.search(query, StoreDocument.class);
-
-            log.info("Hybrid search (Function Score) completed: keyword={}, totalHits={}", 
-                    trimmedKeyword, searchHits.getTotalHits());
+    public Mono<List<StoreSearchResponse>> executeHybridSearch(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(List.of());
+        }
 
-            // 4. 결과 변환 및 반환
-            return searchHits.stream()
-                    .map(hit -> {
-                        float score = 0.0f;
-                        try {
-                            score = hit.getScore();
-                        } catch (Exception e) {
-                            log.debug("Failed to get score for hit", e);
-                        }
-                        return StoreSearchResponse.of(hit.getContent(), score);
-                    })
-                    .toList();
+        String trimmedKeyword = keyword.trim();
+        log.info("Executing hybrid search (Function Score) for keyword: {}", trimmedKeyword);
+
+        // 1. 검색어를 임베딩 벡터로 변환 (검색어 캐시 우선, 논블로킹)
+        return queryEmbeddingCache.getOrGenerate(trimmedKeyword)
+                // Elasticsearch 조회는 블로킹이므로 별도 스케줄러에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .map(queryEmbedding -> {
+                    if (queryEmbedding.length == 0) {
+                        log.warn("Failed to generate embedding for keyword: {}, falling back to BM25 only", trimmedKeyword);
+                        return searchStoresWithRecommendation(trimmedKeyword);
+                    }
+                    return searchHybrid(trimmedKeyword, queryEmbedding);
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to execute hybrid search (Function Score): keyword={}", keyword, e);
+                    // 에러 발생 시 기존 BM25 검색으로 폴백
+                    log.info("Falling back to BM25 search due to error");
+                    return Mono.fromCallable(() -> searchStoresWithRecommendation(keyword))
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to execute hybrid search (Function Score): keyword={}", keyword, e);
-            // 에러 발생 시 기존 BM25 검색으로 폴백
-            log.info("Falling back to BM25 search due to error");
-            return searchStoresWithRecommendation(keyword);
-        }
+    private List<StoreSearchResponse> searchHybrid(String trimmedKeyword, float[] queryEmbedding) {
+        // 2. 하이브리드 쿼리 구성 (BM25 + KNN using Function Score)
+        Query query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .functionScore(fs -> fs
+                                // a. BM25 쿼리 (Keyword Search)
+                                .query(qq -> qq
+                                        .bool(b -> b
+                                                .should(sh -> sh
+                                                        .match(m -> m
+                                                                .field("name")
+                                                                .query(trimmedKeyword)
+                                                                .boost(HYBRID_BOOST_NAME_MATCH)
+                                                        )
+                                                )
+                                                .should(sh -> sh
+                                                        .match(m -> m
+                                                                .field("name.ngram")
+                                                                .query(trimmedKeyword)
+                                                                .boost(HYBRID_BOOST_NAME_NGRAM)
+                                                        )
+                                                )
+                                                .should(sh -> sh
+                                                        .match(m -> m
+                                                                .field("description")
+                                                                .query(trimmedKeyword)
+                                                                .boost(HYBRID_BOOST_DESCRIPTION)
+                                                        )
+                                                )
+                                                .should(sh -> sh
+                                                        .match(m -> m
+                                                                .field("address")
+                                                                .query(trimmedKeyword)
+                                                                .boost(HYBRID_BOOST_ADDRESS)
+                                                        )
+                                                )
+                                                .minimumShouldMatch("1")
+                                        )
+                                )
+                                // b. 벡터 검색 (Semantic Search)를 Score Function으로 추가
+                                .functions(fn -> fn
+                                        .scriptScore(ss -> ss
+                                                .script(s -> s
+                                                        // 코사인 유사도 계산 (+1.0은 점수를 양수로 만듦)
+                                                        .source("cosineSimilarity(params.queryVector, 'embedding') + 1.0")
+                                                        .params("queryVector", JsonData.of(queryEmbedding))
+                                                )
+                                        )
+                                        // 벡터 유사도 점수에 가중치를 부여하여 BM25 점수와 합산
+                                        .weight(HYBRID_VECTOR_SCORE_WEIGHT)
+                                )
+                                // BM25 점수와 벡터 점수를 합산
+                                .scoreMode(FunctionScoreMode.Sum)
+                        )
+                )
+                .withMaxResults(20)
+                .build();
+
+        // 3. 검색 실행 (ElasticsearchOperations 사용)
+        SearchHits<StoreDocument> searchHits = elasticsearchOperations.search(query, StoreDocument.class);
+
+        log.info("Hybrid search (Function Score) completed: keyword={}, totalHits={}", 
+                trimmedKeyword, searchHits.getTotalHits());
+
+        // 4. 결과 변환 및 반환
+        return searchHits.stream()
+                .map(hit -> {
+                    float score = 0.0f;
+                    try {
+                        score = hit.getScore();
+                    } catch (Exception e) {
+                        log.debug("Failed to get score for hit", e);
+                    }
+                    return StoreSearchResponse.of(hit.getContent(), score);
+                })
+                .toList();
     }
 
     /**
@@ -451,65 +458,72 @@ public class StoreSearchService {
      * 
      * 벡터 유사도만을 사용한 순수 시맨틱 검색입니다.
      * 의미적으로 유사한 매장을 찾을 때 유용합니다.
+     * 검색어 임베딩을 만들지 못하면(서킷 브레이커 열림, 지연 예산 초과 등) 하이브리드 검색과 같이 BM25 검색으로 폴백합니다.
      * 
      * @param keyword 검색 키워드
      * @return 시맨틱 검색 결과 (점수 포함)
      */
-    public List<StoreSearchResponse> executeSemanticSearch(String keyword) {
-        try {
-            if (keyword == null || keyword.trim().isEmpty()) {
-                return List.of();
-            }
-
-            String trimmedKeyword = keyword.trim();
-            log.info("Executing semantic search (Script Score) for keyword: {}", trimmedKeyword);
-
-            // 1. 검색어를 임베딩 벡터로 변환
-            List<Float> queryEmbedding = openAIEmbeddingService.generateEmbedding(trimmedKeyword);
-            
-            if (queryEmbedding == null || queryEmbedding.isEmpty()) {
-                log.warn("Failed to generate embedding for keyword: {}", trimmedKeyword);
-                return List.of();
-            }
-
-            // 2. Script Score 쿼리 구성 (순수 시맨틱 검색)
-            Query query = NativeQuery.builder()
-                    .withQuery(q -> q
-                            .scriptScore(ss -> ss
-                                    // 모든 문서를 대상으로 검색
-                                    .query(qq -> qq.matchAll(ma -> ma))
-                                    .script(s -> s
-                                            // 코사인 유사도 계산
-                                            .source("cosineSimilarity(params.queryVector, 'embedding') + 1.0")
-                                            .params("queryVector", JsonData.of(queryEmbedding))
-                                    )
-                            )
-                    )
-                    .withMaxResults(20)
-                    .build();
-
-            // 3. 시맨틱 검색 실행
-            SearchHits<StoreDocument> searchHits = elasticsearchOperations.search(query, StoreDocument.class);
-
-            log.info("Semantic search (Script Score) completed: keyword={}, totalHits={}", 
-                    trimmedKeyword, searchHits.getTotalHits());
+    public Mono<List<StoreSearchResponse>> executeSemanticSearch(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(List.of());
+        }
 
-            // 4. 결과 변환 및 반환
-            return searchHits.stream()
-                    .map(hit -> {
-                        float score = 0.0f;
-                        try {
-                            score = hit.getScore();
-                        } catch (Exception e) {
-                            log.debug("Failed to get score for hit", e);
-                        }
-                        return StoreSearchResponse.of(hit.getContent(), score);
-                    })
-                    .toList();
+        String trimmedKeyword = keyword.trim();
+        log.info("Executing semantic search (Script Score) for keyword: {}", trimmedKeyword);
+
+        // 1. 검색어를 임베딩 벡터로 변환 (검색어 캐시 우선, 논블로킹)
+        return queryEmbeddingCache.getOrGenerate(trimmedKeyword)
+                .publishOn(Schedulers.boundedElastic())
+                .map(queryEmbedding -> {
+                    if (queryEmbedding.length == 0) {
+                        log.warn("Failed to generate embedding for keyword: {}, falling back to BM25 only", trimmedKeyword);
+                        return searchStoresWithRecommendation(trimmedKeyword);
+                    }
+                    return searchSemantic(trimmedKeyword, queryEmbedding);
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to execute semantic search (Script Score): keyword={}", keyword, e);
+                    // 에러 발생 시 기존 BM25 검색으로 폴백
+                    log.info("Falling back to BM25 search due to error");
+                    return Mono.fromCallable(() -> searchStoresWithRecommendation(keyword))
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to execute semantic search (Script Score): keyword={}", keyword, e);
-            return List.of();
-        }
+    private List<StoreSearchResponse> searchSemantic(String trimmedKeyword, float[] queryEmbedding) {
+        // 2. Script Score 쿼리 구성 (순수 시맨틱 검색)
+        Query query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .scriptScore(ss -> ss
+                                // 모든 문서를 대상으로 검색
+                                .query(qq -> qq.matchAll(ma -> ma))
+                                .script(s -> s
+                                        // 코사인 유사도 계산
+                                        .source("cosineSimilarity(params.queryVector, 'embedding') + 1.0")
+                                        .params("queryVector", JsonData.of(queryEmbedding))
+                                )
+                        )
+                )
+                .withMaxResults(20)
+                .build();
+
+        // 3. 시맨틱 검색 실행
+        SearchHits<StoreDocument> searchHits = elasticsearchOperations.search(query, StoreDocument.class);
+
+        log.info("Semantic search (Script Score) completed: keyword={}, totalHits={}", 
+                trimmedKeyword, searchHits.getTotalHits());
+
+        // 4. 결과 변환 및 반환
+        return searchHits.stream()
+                .map(hit -> {
+                    float score = 0.0f;
+                    try {
+                        score = hit.getScore();
+                    } catch (Exception e) {
+                        log.debug("Failed to get score for hit", e);
+                    }
+                    return StoreSearchResponse.of(hit.getContent(), score);
+                })
+                .toList();
     }
 }
@@ -6,9 +6,13 @@ import com.couponpop.storeservice.domain.store.dto.response.StoreDetailResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreMapResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreResponse;
 import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+import com.couponpop.storeservice.domain.store.event.StoreSyncRequestedEvent;
 import com.couponpop.storeservice.domain.store.exception.StoreErrorCode;
 import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +23,8 @@ import java.util.List;
 public class StoreService {
 
     private final StoreRepository storeRepository;
-    private final StoreElasticsearchSyncService elasticsearchSyncService;
+    private final StoreSyncOutboxRepository storeSyncOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final StoreSearchService storeSearchService;
 
     @Transactional
@@ -45,8 +50,8 @@ public class StoreService {
 
         Store savedStore = storeRepository.save(store);
         
-        // Elasticsearch에 동기화
-        elasticsearchSyncService.indexStore(savedStore, memberUsername);
+        // Elasticsearch 동기화는 아웃박스에 기록 (커밋 후 반영)
+        requestSync(StoreSyncOutbox.index(savedStore.getId(), memberUsername));
 
         return StoreResponse.from(savedStore, memberUsername);
     }
@@ -62,7 +67,7 @@ public class StoreService {
             throw new GlobalException(StoreErrorCode.STORE_UPDATE_PERMISSION_DENIED);
         }
 
-        store.updateStoreInfo(
+        boolean changed = store.updateStoreInfo(
                 request.name(),
                 request.phone(),
                 request.description(),
@@ -79,8 +84,10 @@ public class StoreService {
                 request.weekendCloseTime()
         );
         
-        // Elasticsearch에 동기화
-        elasticsearchSyncService.updateStore(store, memberUsername);
+        // Elasticsearch 동기화는 아웃박스에 기록 (임베딩 텍스트가 그대로면 임베딩 캐시 적중)
+        if (changed) {
+            requestSync(StoreSyncOutbox.index(store.getId(), memberUsername));
+        }
 
         return StoreResponse.from(store, memberUsername);
     }
@@ -113,8 +120,8 @@ public class StoreService {
 
         store.deleteStore();
         
-        // Elasticsearch에서 삭제
-        elasticsearchSyncService.deleteStore(storeId);
+        // Elasticsearch 문서 삭제는 아웃박스에 기록
+        requestSync(StoreSyncOutbox.delete(storeId));
     }
 
     @Transactional(readOnly = true)
@@ -150,4 +157,13 @@ public class StoreService {
         // Elasticsearch를 사용한 위치 기반 검색으로 변경
         return storeSearchService.searchStoresByLocation(latitude, longitude, radiusKm);
     }
+
+    /**
+     * 아웃박스 항목을 현재 트랜잭션에 기록하고 동기화 이벤트 발행
+     * 이벤트는 커밋 후에만 처리되므로 롤백된 변경은 색인되지 않습니다.
+     */
+    private void requestSync(StoreSyncOutbox outbox) {
+        storeSyncOutboxRepository.save(outbox);
+        eventPublisher.publishEvent(new StoreSyncRequestedEvent(outbox.getId(), outbox.getStoreId()));
+    }
 }
@@ -0,0 +1,58 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.dto.response.StoreSyncDeadLetterResponse;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncStatus;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장 동기화 dead letter 관리 서비스
+ *
+ * 최대 시도 횟수를 넘겨 FAILED로 남은 아웃박스 항목(dead letter)을 조회하고 재처리합니다.
+ * 자동 재시도는 StoreSyncOutboxRelay가 긴 백오프로 수행하며, 여기서는 장애 복구 직후 관리자가 즉시 다시 반영할 때 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreSyncDeadLetterService {
+
+    static final int MAX_ENTRIES = 100;
+
+    private final StoreSyncOutboxRepository outboxRepository;
+
+    /**
+     * dead letter 현황 조회
+     *
+     * @param limit 함께 조회할 항목 수 (오래된 순, 최대 100)
+     */
+    @Transactional(readOnly = true)
+    public StoreSyncDeadLetterResponse getBacklog(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_ENTRIES));
+        long backlog = outboxRepository.countByStatus(StoreSyncStatus.FAILED);
+        List<StoreSyncDeadLetterResponse.Entry> entries = outboxRepository
+                .findByStatusOrderByIdAsc(StoreSyncStatus.FAILED, PageRequest.of(0, size)).stream()
+                .map(StoreSyncDeadLetterResponse.Entry::from)
+                .toList();
+        return new StoreSyncDeadLetterResponse(backlog, entries);
+    }
+
+    /**
+     * 모든 dead letter를 시도 횟수를 초기화해 대기 항목으로 되돌림
+     * 아웃박스 릴레이의 다음 주기 조회에서 일반 항목과 같은 재시도 정책으로 반영됩니다.
+     *
+     * @return 되돌린 항목 수
+     */
+    @Transactional
+    public int replayAll() {
+        int replayed = outboxRepository.replayDeadLetters(LocalDateTime.now());
+        log.info("Replayed store sync dead letters: count={}", replayed);
+        return replayed;
+    }
+}
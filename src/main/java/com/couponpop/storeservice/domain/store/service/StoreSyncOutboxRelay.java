@@ -0,0 +1,395 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOperation;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncStatus;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 동기화 아웃박스 릴레이
+ *
+ * 커밋된 아웃박스 항목을 Elasticsearch에 반영합니다.
+ * 커밋 직후 StoreSyncEventListener가 해당 항목을 바로 반영하고, 주기 조회는 누락/거부/실패 항목을 이어서 처리합니다.
+ * 1. 짧은 트랜잭션에서 항목을 잠그고 임대 시간만큼 선점 (다른 인스턴스와 중복 처리 방지)
+ * 2. 트랜잭션 밖에서 매장별로 마지막 작업만 모아 임베딩 생성 + ES 반영
+ * 3. 짧은 트랜잭션에서 결과 기록 (실패 항목은 지수 백오프 후 재시도)
+ *
+ * 처리 도중 인스턴스가 종료되어도 임대 시간이 지나면 다른 릴레이가 다시 가져가므로 동기화가 유실되지 않습니다.
+ *
+ * 최대 시도 횟수를 넘긴 항목은 FAILED(dead letter)로 남아 실패 사유와 시도 횟수를 보존하며,
+ * 별도 주기로 더 긴 지수 백오프를 두고 계속 재시도됩니다. (Elasticsearch 장기 장애 후 자동 복구)
+ *
+ * 대기/dead letter 항목 수 게이지는 스크레이프마다 COUNT 쿼리를 보내지 않도록 각 주기 조회가 끝날 때 갱신해 둔 값을 노출합니다.
+ * 대기 항목 수는 릴레이 주기에서, dead letter 수는 dead letter 재시도 주기에서 다시 세고, 그 사이에는 전환/복구된 건수만큼 보정합니다.
+ */
+@Slf4j
+@Service
+public class StoreSyncOutboxRelay {
+
+    private final StoreSyncOutboxRepository outboxRepository;
+    private final StoreRepository storeRepository;
+    private final StoreElasticsearchSyncService syncService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Duration deadLetterInitialBackoff;
+    private final Duration deadLetterMaxBackoff;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter deadLetterRecoveredCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+
+    public StoreSyncOutboxRelay(
+            StoreSyncOutboxRepository outboxRepository,
+            StoreRepository storeRepository,
+            StoreElasticsearchSyncService syncService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${store.sync.outbox.batch-size:100}") int batchSize,
+            @Value("${store.sync.outbox.lease:2m}") Duration lease,
+            @Value("${store.sync.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${store.sync.outbox.initial-backoff:5s}") Duration initialBackoff,
+            @Value("${store.sync.outbox.max-backoff:10m}") Duration maxBackoff,
+            @Value("${store.sync.outbox.retention:1d}") Duration retention,
+            @Value("${store.sync.dead-letter.initial-backoff:30m}") Duration deadLetterInitialBackoff,
+            @Value("${store.sync.dead-letter.max-backoff:12h}") Duration deadLetterMaxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.storeRepository = storeRepository;
+        this.syncService = syncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.deadLetterInitialBackoff = deadLetterInitialBackoff;
+        this.deadLetterMaxBackoff = deadLetterMaxBackoff;
+        this.processedCounter = Counter.builder("store.sync.outbox.processed")
+                .description("Elasticsearch에 반영된 아웃박스 항목 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("store.sync.outbox.failed")
+                .description("반영에 실패해 재시도 대기 중인 아웃박스 항목 수 (누적)")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("store.sync.deadletter.added")
+                .description("최대 시도 횟수를 넘겨 dead letter로 전환된 아웃박스 항목 수")
+                .register(meterRegistry);
+        this.deadLetterRecoveredCounter = Counter.builder("store.sync.deadletter.recovered")
+                .description("dead letter 재시도로 반영된 아웃박스 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("store.sync.outbox.pending", pendingCount, AtomicLong::get)
+                .description("처리 대기 중인 아웃박스 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("store.sync.deadletter.backlog", deadLetterCount, AtomicLong::get)
+                .description("반영되지 못하고 dead letter로 남아 있는 아웃박스 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 항목이 남아 있는 동안 배치 단위로 반영
+     */
+    @Scheduled(fixedDelayString = "${store.sync.outbox.poll-interval:5s}")
+    public void relay() {
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed >= batchSize);
+        } catch (Exception e) {
+            log.error("Store sync outbox relay failed", e);
+        }
+        refreshCount(pendingCount, StoreSyncStatus.PENDING);
+    }
+
+    /**
+     * 재시도 시각이 된 dead letter 항목을 배치 단위로 다시 반영
+     */
+    @Scheduled(fixedDelayString = "${store.sync.dead-letter.retry-interval:5m}",
+            initialDelayString = "${store.sync.dead-letter.retry-interval:5m}")
+    public void redriveDeadLetters() {
+        try {
+            int claimed;
+            do {
+                claimed = redriveDeadLetterBatch();
+            } while (claimed >= batchSize);
+        } catch (Exception e) {
+            log.error("Store sync dead letter redrive failed", e);
+        }
+        refreshCount(deadLetterCount, StoreSyncStatus.FAILED);
+    }
+
+    /**
+     * 게이지가 노출할 상태별 항목 수 갱신 (실패하면 이전 값 유지)
+     */
+    private void refreshCount(AtomicLong count, StoreSyncStatus status) {
+        try {
+            count.set(outboxRepository.countByStatus(status));
+        } catch (Exception e) {
+            log.warn("Failed to refresh store sync outbox count: status={}", status, e);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 완료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${store.sync.outbox.purge-interval:1h}")
+    public void purgeProcessed() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = transactionTemplate.execute(status -> outboxRepository.deleteProcessedBefore(before, 1000));
+            total += deleted;
+        } while (deleted > 0);
+
+        if (total > 0) {
+            log.info("Purged processed store sync outbox entries: count={}", total);
+        }
+    }
+
+    /**
+     * 지정한 아웃박스 항목을 즉시 반영 (커밋 후 이벤트 처리용)
+     * 이미 처리됐거나 다른 릴레이가 선점한 항목은 건너뜁니다.
+     *
+     * @param outboxIds 아웃박스 항목 ID 목록
+     */
+    public void relayEntries(Collection<Long> outboxIds) {
+        process(claim(now -> outboxRepository.findClaimableByIds(outboxIds, now)));
+    }
+
+    /**
+     * 대기 항목 배치 하나를 선점, 반영, 결과 기록
+     *
+     * @return 선점한 항목 수
+     */
+    int relayBatch() {
+        List<StoreSyncOutbox> entries = claim(now -> outboxRepository.findClaimable(now, batchSize));
+        process(entries);
+        return entries.size();
+    }
+
+    /**
+     * 재시도 시각이 된 dead letter 배치 하나를 선점, 반영, 결과 기록
+     * 다시 실패하면 FAILED를 유지한 채 다음 재시도 시각만 늦춥니다.
+     *
+     * @return 선점한 항목 수
+     */
+    int redriveDeadLetterBatch() {
+        List<StoreSyncOutbox> entries = claim(now -> outboxRepository.findDeadLettersDue(now, batchSize));
+        if (!entries.isEmpty()) {
+            log.info("Redriving store sync dead letters: count={}", entries.size());
+        }
+        process(entries);
+        return entries.size();
+    }
+
+    private void process(List<StoreSyncOutbox> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> failures = dispatch(entries);
+        complete(entries, failures);
+    }
+
+    private List<StoreSyncOutbox> claim(Function<LocalDateTime, List<StoreSyncOutbox>> finder) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<StoreSyncOutbox> entries = finder.apply(now);
+            entries.forEach(entry -> entry.lease(now.plus(lease)));
+            return entries;
+        });
+    }
+
+    /**
+     * 매장별로 항목을 합쳐 Elasticsearch에 반영
+     * 같은 매장의 항목이 여러 개면 한 번만 반영합니다. 삭제 항목이 있으면 삭제가 우선하고, 그 외에는 DB 상태로 전체 문서를 색인합니다.
+     * 색인과 삭제는 각각 한 번의 bulk 요청으로 보냅니다.
+     *
+     * @return 매장 ID별 실패 사유 (성공한 매장은 포함되지 않음)
+     */
+    private Map<Long, String> dispatch(List<StoreSyncOutbox> entries) {
+        Map<Long, List<StoreSyncOutbox>> entriesByStore = entries.stream()
+                .collect(Collectors.groupingBy(StoreSyncOutbox::getStoreId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Long> deleteIds = new ArrayList<>();
+        List<Long> upsertIds = new ArrayList<>();
+        entriesByStore.forEach((storeId, storeEntries) -> {
+            // 소프트 삭제는 되돌릴 수 없으므로 삭제 이후의 변경은 의미가 없음
+            boolean deleted = storeEntries.stream().anyMatch(entry -> entry.getOperation() == StoreSyncOperation.DELETE);
+            if (deleted) {
+                deleteIds.add(storeId);
+            } else {
+                upsertIds.add(storeId);
+            }
+        });
+
+        Map<Long, String> failures = new HashMap<>();
+        Map<Long, Store> stores = loadStores(upsertIds);
+
+        List<Store> indexStores = new ArrayList<>();
+        Map<Long, String> memberUsernames = new HashMap<>();
+        for (Long storeId : upsertIds) {
+            Store store = stores.get(storeId);
+            if (store == null) {
+                // 아웃박스 기록 이후 삭제된 매장
+                deleteIds.add(storeId);
+                continue;
+            }
+
+            memberUsernames.put(storeId, lastMemberUsername(entriesByStore.get(storeId)));
+            indexStores.add(store);
+        }
+
+        if (!indexStores.isEmpty()) {
+            try {
+                // 임베딩 텍스트가 그대로인 매장은 임베딩 캐시 적중, bulk 항목 단위로 실패한 매장만 재시도 대상
+                failures.putAll(syncService.indexStoresBatch(indexStores, memberUsernames).failures());
+            } catch (Exception e) {
+                log.error("Failed to index stores from outbox: count={}", indexStores.size(), e);
+                indexStores.forEach(store -> failures.put(store.getId(), describe(e)));
+            }
+        }
+
+        if (!deleteIds.isEmpty()) {
+            try {
+                failures.putAll(syncService.deleteStoresBatch(loadDeletedUpdatedAts(deleteIds)).failures());
+            } catch (Exception e) {
+                log.error("Failed to delete stores from outbox: count={}", deleteIds.size(), e);
+                deleteIds.forEach(storeId -> failures.put(storeId, describe(e)));
+            }
+        }
+
+        return failures;
+    }
+
+    private void complete(List<StoreSyncOutbox> entries, Map<Long, String> failures) {
+        List<Long> doneIds = new ArrayList<>();
+        List<StoreSyncOutbox> failedEntries = new ArrayList<>();
+        int recovered = 0;
+        int deadLettered = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (StoreSyncOutbox entry : entries) {
+            String failure = failures.get(entry.getStoreId());
+            boolean wasDeadLetter = entry.getStatus() == StoreSyncStatus.FAILED;
+            if (failure == null) {
+                doneIds.add(entry.getId());
+                if (wasDeadLetter) {
+                    recovered++;
+                }
+                continue;
+            }
+
+            entry.markFailed(failure, now.plus(backoff(entry.getAttemptCount() + 1)), maxAttempts);
+            failedEntries.add(entry);
+            if (wasDeadLetter) {
+                log.warn("Store sync dead letter retry failed: id={}, storeId={}, attempts={}, nextRetryAt={}, reason={}",
+                        entry.getId(), entry.getStoreId(), entry.getAttemptCount(), entry.getAvailableAt(), failure);
+            } else if (entry.getStatus() == StoreSyncStatus.FAILED) {
+                deadLettered++;
+                log.error("Store sync outbox entry exhausted retries, moved to dead letter: id={}, storeId={}, attempts={}, reason={}",
+                        entry.getId(), entry.getStoreId(), entry.getAttemptCount(), failure);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!doneIds.isEmpty()) {
+                outboxRepository.updateStatus(doneIds, StoreSyncStatus.DONE, now);
+            }
+            if (!failedEntries.isEmpty()) {
+                outboxRepository.saveAll(failedEntries);
+            }
+        });
+
+        processedCounter.increment(doneIds.size());
+        failedCounter.increment(failedEntries.size());
+        deadLetteredCounter.increment(deadLettered);
+        deadLetterRecoveredCounter.increment(recovered);
+        deadLetterCount.updateAndGet(count -> Math.max(0, count + deadLettered - recovered));
+        log.debug("Relayed store sync outbox batch: done={}, failed={}", doneIds.size(), failedEntries.size());
+    }
+
+    // 복제 지연으로 이전 값을 읽지 않도록 읽기/쓰기 트랜잭션(마스터)에서 조회
+    private Map<Long, Store> loadStores(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        return transactionTemplate.execute(status -> storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity())));
+    }
+
+    /**
+     * 삭제할 매장별 삭제 시점 수정일시 (문서 삭제의 외부 버전, DB에 행이 없는 매장은 null)
+     */
+    private Map<Long, LocalDateTime> loadDeletedUpdatedAts(List<Long> storeIds) {
+        Map<Long, LocalDateTime> updatedAts = transactionTemplate.execute(status -> {
+            Map<Long, LocalDateTime> states = new HashMap<>();
+            storeRepository.findSyncStatesByIdIn(storeIds).forEach(state -> states.put(state.getId(), state.getUpdatedAt()));
+            return states;
+        });
+
+        Map<Long, LocalDateTime> deletes = new LinkedHashMap<>();
+        storeIds.forEach(storeId -> deletes.put(storeId, updatedAts.get(storeId)));
+        return deletes;
+    }
+
+    private static String lastMemberUsername(List<StoreSyncOutbox> storeEntries) {
+        for (int i = storeEntries.size() - 1; i >= 0; i--) {
+            String memberUsername = storeEntries.get(i).getMemberUsername();
+            if (memberUsername != null) {
+                return memberUsername;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * attempt번째 실패 후 재시도 대기 시간
+     * 최대 시도 횟수 이후(dead letter)에는 별도의 더 긴 백오프를 처음부터 다시 적용합니다.
+     */
+    private Duration backoff(int attempt) {
+        if (attempt >= maxAttempts) {
+            return exponentialBackoff(deadLetterInitialBackoff, deadLetterMaxBackoff, attempt - maxAttempts + 1);
+        }
+        return exponentialBackoff(initialBackoff, maxBackoff, attempt);
+    }
+
+    private static Duration exponentialBackoff(Duration initial, Duration max, int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 20);
+        Duration delay = initial.multipliedBy(multiplier);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
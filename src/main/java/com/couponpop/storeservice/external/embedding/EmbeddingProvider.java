@@ -0,0 +1,45 @@
+package com.couponpop.storeservice.external.embedding;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 텍스트 임베딩 제공자 SPI
+ *
+ * 검색/동기화 로직은 이 인터페이스에만 의존하며, 구현체는 embedding.provider 설정으로 선택합니다.
+ * - openai (기본값): OpenAI Embedding API ({@code OpenAIEmbeddingService})
+ * - local: 외부 호출 없는 결정적 해시 n-gram 벡터 ({@link LocalEmbeddingProvider}), 부하 테스트/오프라인 벤치마크용
+ */
+public interface EmbeddingProvider {
+
+    /**
+     * 임베딩 생성 실패를 나타내는 빈 벡터 (공유 인스턴스, 수정 금지)
+     */
+    float[] EMPTY_EMBEDDING = new float[0];
+
+    /**
+     * 텍스트를 임베딩 벡터로 변환 (블로킹)
+     *
+     * @param text 변환할 텍스트
+     * @return 임베딩 벡터 (실패 시 빈 배열)
+     */
+    float[] generateEmbedding(String text);
+
+    /**
+     * 여러 텍스트를 임베딩 벡터로 변환 (배치)
+     * 생성하지 못한 항목은 빈 벡터로 대체하지 않고 null로 반환하므로, 호출자는 해당 항목을 실패로 처리해 다시 시도해야 합니다.
+     *
+     * @param texts 변환할 텍스트 리스트
+     * @return 입력과 같은 크기와 순서의 임베딩 벡터 리스트 (생성하지 못한 항목은 null)
+     */
+    List<float[]> generateEmbeddings(List<String> texts);
+
+    /**
+     * 텍스트를 임베딩 벡터로 비동기 변환
+     *
+     * @param text 변환할 텍스트
+     * @return 임베딩 벡터 Mono (실패 시 빈 배열)
+     */
+    Mono<float[]> generateEmbeddingAsync(String text);
+}
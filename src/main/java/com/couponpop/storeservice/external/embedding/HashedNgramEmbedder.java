@@ -0,0 +1,70 @@
+package com.couponpop.storeservice.external.embedding;
+
+import com.couponpop.storeservice.external.openai.service.EmbeddingCacheService;
+
+import java.util.Locale;
+
+/**
+ * 해시 문자 n-gram 임베딩
+ *
+ * 정규화된 텍스트의 문자 2-gram/3-gram을 해시해 고정 차원 벡터의 한 칸에 ±1을 누적하고 L2 정규화합니다.
+ * 같은 입력은 항상 같은 벡터가 되며, 글자를 많이 공유하는 텍스트일수록 코사인 유사도가 높습니다.
+ * 의미 검색 품질은 없지만 OpenAI와 같은 차원/분포의 벡터를 외부 호출 없이 만들 수 있어 부하 테스트에 사용합니다.
+ */
+public final class HashedNgramEmbedder {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private HashedNgramEmbedder() {
+    }
+
+    public static float[] embed(String text, int dimension) {
+        String normalized = EmbeddingCacheService.normalize(text).toLowerCase(Locale.ROOT);
+        float[] vector = new float[dimension];
+        if (normalized.isEmpty()) {
+            return vector;
+        }
+
+        // 양 끝 경계 문자를 붙여 짧은 단어도 n-gram을 갖도록 함
+        String padded = " " + normalized + " ";
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int start = 0; start + n <= padded.length(); start++) {
+                int hash = mix(padded, start, n);
+                int slot = Math.floorMod(hash, dimension);
+                vector[slot] += (hash & 0x8000_0000) == 0 ? 1f : -1f;
+            }
+        }
+
+        normalize(vector);
+        return vector;
+    }
+
+    // FNV-1a 해시 후 비트 혼합 (String.hashCode보다 슬롯 분포가 고름)
+    private static int mix(String text, int start, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = start; i < start + length; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    private static void normalize(float[] vector) {
+        double sumOfSquares = 0;
+        for (float value : vector) {
+            sumOfSquares += value * value;
+        }
+        if (sumOfSquares == 0) {
+            return;
+        }
+
+        float inverseNorm = (float) (1.0 / Math.sqrt(sumOfSquares));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverseNorm;
+        }
+    }
+}
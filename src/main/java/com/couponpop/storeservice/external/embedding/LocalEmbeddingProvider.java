@@ -0,0 +1,51 @@
+package com.couponpop.storeservice.external.embedding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 오프라인 임베딩 제공자 (embedding.provider=local)
+ *
+ * {@link HashedNgramEmbedder}로 프로세스 안에서 결정적인 벡터를 만듭니다.
+ * OpenAI 비용/지연 없이 검색과 재색인 처리량을 측정할 때 사용합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "local")
+public class LocalEmbeddingProvider implements EmbeddingProvider {
+
+    private final int dimension;
+
+    public LocalEmbeddingProvider(@Value("${openai.embedding.dimension:1536}") int dimension) {
+        this.dimension = dimension;
+        log.warn("Local embedding provider enabled (dimension: {}). Semantic search quality is not representative.", dimension);
+    }
+
+    @Override
+    public float[] generateEmbedding(String text) {
+        if (text == null || text.isBlank()) {
+            return EMPTY_EMBEDDING;
+        }
+        return HashedNgramEmbedder.embed(text, dimension);
+    }
+
+    @Override
+    public List<float[]> generateEmbeddings(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return List.of();
+        }
+        return texts.stream()
+                .map(text -> text == null || text.isBlank() ? null : HashedNgramEmbedder.embed(text, dimension))
+                .toList();
+    }
+
+    @Override
+    public Mono<float[]> generateEmbeddingAsync(String text) {
+        return Mono.fromSupplier(() -> generateEmbedding(text));
+    }
+}
@@ -0,0 +1,100 @@
+package com.couponpop.storeservice.external.embedding.stub;
+
+import com.couponpop.storeservice.external.embedding.HashedNgramEmbedder;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingRequest;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingResponse;
+import com.couponpop.storeservice.external.openai.service.EmbeddingBatchSplitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI Embedding API 대역 (embedding.stub-api.enabled=true)
+ *
+ * POST /v1/embeddings와 같은 요청/응답 형식을 흉내 내며, 설정한 지연 시간 뒤에 해시 n-gram 벡터를 돌려줍니다.
+ * openai.api.url을 이 엔드포인트로 지정하면 WebClient, 동시성/속도 제한, 재시도, 서킷 브레이커까지
+ * 실제 클라이언트 경로 전체를 OpenAI 비용 없이 부하 테스트할 수 있습니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/stub/openai")
+@ConditionalOnProperty(name = "embedding.stub-api.enabled", havingValue = "true")
+public class EmbeddingApiStubController {
+
+    private static final int DEFAULT_DIMENSION = 1536;
+
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double rateLimitErrorRate;
+
+    public EmbeddingApiStubController(
+            @Value("${embedding.stub-api.latency:200ms}") Duration latency,
+            @Value("${embedding.stub-api.latency-jitter:50ms}") Duration latencyJitter,
+            @Value("${embedding.stub-api.rate-limit-error-rate:0.0}") double rateLimitErrorRate) {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.rateLimitErrorRate = rateLimitErrorRate;
+        log.warn("OpenAI embedding API stub enabled: latency={}, jitter={}, rateLimitErrorRate={}",
+                latency, latencyJitter, rateLimitErrorRate);
+    }
+
+    @PostMapping("/v1/embeddings")
+    public Mono<ResponseEntity<Object>> createEmbeddings(@RequestBody EmbeddingRequest request) {
+        Duration delay = latency.plusMillis(ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1));
+
+        if (ThreadLocalRandom.current().nextDouble() < rateLimitErrorRate) {
+            return Mono.delay(delay).map(tick -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", Map.of("message", "Rate limit reached (stub)", "type", "requests"))));
+        }
+
+        return Mono.delay(delay).map(tick -> ResponseEntity.ok(createResponse(request)));
+    }
+
+    private StubEmbeddingResponse createResponse(EmbeddingRequest request) {
+        int dimension = request.dimensions() != null ? request.dimensions() : DEFAULT_DIMENSION;
+        boolean base64 = EmbeddingRequest.ENCODING_BASE64.equals(request.encodingFormat());
+
+        List<StubEmbeddingData> data = new ArrayList<>(request.input().size());
+        int promptTokens = 0;
+        for (int index = 0; index < request.input().size(); index++) {
+            String text = request.input().get(index);
+            float[] vector = HashedNgramEmbedder.embed(text, dimension);
+            data.add(new StubEmbeddingData("embedding", index, base64 ? encodeBase64(vector) : vector));
+            promptTokens += EmbeddingBatchSplitter.estimateTokens(text);
+        }
+
+        return new StubEmbeddingResponse("list", data, request.model(),
+                new EmbeddingResponse.Usage(promptTokens, promptTokens));
+    }
+
+    private static String encodeBase64(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    // embedding은 encoding_format에 따라 float[] 또는 base64 문자열
+    record StubEmbeddingResponse(String object, List<StubEmbeddingData> data, String model, EmbeddingResponse.Usage usage) {
+    }
+
+    record StubEmbeddingData(String object, int index, Object embedding) {
+    }
+}
@@ -1,15 +1,16 @@
 package com.couponpop.storeservice.external.openai.dto;
 
-import java.util.List;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * OpenAI Embedding API 응답의 개별 임베딩 데이터
  * 
- * @param embedding 임베딩 벡터 (1536차원 Float 리스트)
+ * @param embedding 임베딩 벡터 (float 배열, 박싱 없이 스트리밍 파싱)
  * @param index 임베딩 데이터의 인덱스
  */
 public record EmbeddingData(
-        List<Float> embedding,
+        @JsonDeserialize(using = EmbeddingVectorDeserializer.class)
+        float[] embedding,
         int index
 ) {
 }
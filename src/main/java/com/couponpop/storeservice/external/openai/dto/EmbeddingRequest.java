@@ -1,5 +1,8 @@
 package com.couponpop.storeservice.external.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
@@ -7,18 +10,15 @@ import java.util.List;
  * 
  * @param model 사용할 임베딩 모델 (예: "text-embedding-3-small")
  * @param input 임베딩을 생성할 텍스트 리스트
+ * @param encodingFormat 응답 벡터 인코딩 ("float" 또는 "base64", null이면 API 기본값 float)
+ * @param dimensions 출력 벡터 차원 (text-embedding-3 계열만 지원, null이면 모델 기본 차원)
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record EmbeddingRequest(
         String model,
-        List<String> input
+        List<String> input,
+        @JsonProperty("encoding_format") String encodingFormat,
+        Integer dimensions
 ) {
-    /**
-     * 단일 텍스트로 요청 생성
-     */
-    public static EmbeddingRequest of(String model, String text) {
-        return new EmbeddingRequest(model, List.of(text));
-    }
+    public static final String ENCODING_BASE64 = "base64";
 }
-
-
-
@@ -0,0 +1,79 @@
+package com.couponpop.storeservice.external.openai.dto;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * 임베딩 벡터 스트리밍 역직렬화기
+ *
+ * JSON 숫자 배열을 토큰 단위로 읽어 float[]에 바로 채웁니다.
+ * Float 박싱과 중간 리스트 없이 설정된 차원 크기 버퍼 하나만 할당합니다.
+ * 차원은 ObjectMapper 공유 속성({@link #DIMENSION_ATTRIBUTE})으로 전달하며, 없으면 모델 기본 차원(1536)을 사용합니다.
+ *
+ * encoding_format=base64 응답(리틀 엔디언 float32 바이트열의 Base64 문자열)도 지원하며,
+ * 이 경우 숫자 파싱 없이 바이트를 그대로 float로 해석합니다.
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<float[]> {
+
+    /**
+     * 응답 벡터 차원을 담는 역직렬화 컨텍스트 속성 키 (openai.embedding.dimension)
+     */
+    public static final String DIMENSION_ATTRIBUTE = "openai.embedding.dimension";
+
+    private static final int DEFAULT_CAPACITY = 1536;
+
+    public EmbeddingVectorDeserializer() {
+        super(float[].class);
+    }
+
+    @Override
+    public float[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return decodeBase64(parser, context);
+        }
+        if (!parser.isExpectedStartArrayToken()) {
+            return (float[]) context.handleUnexpectedToken(float[].class, parser);
+        }
+
+        float[] buffer = new float[initialCapacity(context)];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+                return (float[]) context.handleUnexpectedToken(float[].class, parser);
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = parser.getFloatValue();
+        }
+
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private static int initialCapacity(DeserializationContext context) {
+        return context.getAttribute(DIMENSION_ATTRIBUTE) instanceof Integer dimension && dimension > 0
+                ? dimension
+                : DEFAULT_CAPACITY;
+    }
+
+    private float[] decodeBase64(JsonParser parser, DeserializationContext context) throws IOException {
+        byte[] bytes = parser.getBinaryValue(Base64Variants.MIME_NO_LINEFEEDS);
+        if (bytes.length % Float.BYTES != 0) {
+            return (float[]) context.handleWeirdStringValue(float[].class, parser.getText(),
+                    "base64 embedding length %d is not a multiple of %d", bytes.length, Float.BYTES);
+        }
+
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,69 @@
+package com.couponpop.storeservice.external.openai.entity;
+
+import com.couponpop.storeservice.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터 영속 캐시
+ * 동일한 모델과 텍스트에 대해 OpenAI API를 다시 호출하지 않도록 벡터를 저장합니다.
+ * 저장은 키 중복을 무시하는 EmbeddingCacheRepository.insertIfAbsent로만 수행하고, 엔티티는 조회에 사용합니다.
+ */
+@Entity
+@Table(name = "embedding_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddingCache extends BaseEntity {
+
+    @Id
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(nullable = false)
+    private int dimension;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] embedding;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private EmbeddingCache(String cacheKey, String model, int dimension, byte[] embedding) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.dimension = dimension;
+        this.embedding = embedding;
+    }
+
+    public static EmbeddingCache of(String cacheKey, String model, float[] embedding) {
+        return EmbeddingCache.builder()
+                .cacheKey(cacheKey)
+                .model(model)
+                .dimension(embedding.length)
+                .embedding(toBytes(embedding))
+                .build();
+    }
+
+    /**
+     * 저장된 바이트 배열을 임베딩 벡터로 변환
+     */
+    public float[] toEmbedding() {
+        float[] vector = new float[dimension];
+        ByteBuffer.wrap(embedding).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static byte[] toBytes(float[] embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        return buffer.array();
+    }
+}
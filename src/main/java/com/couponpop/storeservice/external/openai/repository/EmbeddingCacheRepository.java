@@ -0,0 +1,29 @@
+package com.couponpop.storeservice.external.openai.repository;
+
+import com.couponpop.storeservice.external.openai.entity.EmbeddingCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmbeddingCacheRepository extends JpaRepository<EmbeddingCache, String> {
+
+    /**
+     * 임베딩 캐시 항목을 저장하되, 같은 키가 이미 있으면 기존 항목을 유지합니다.
+     * 여러 인스턴스가 같은 텍스트를 동시에 임베딩해도 키 중복으로 실패하지 않습니다. (같은 키는 같은 벡터)
+     *
+     * @return 새로 저장했으면 1, 이미 있었으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO embedding_cache (cache_key, model, dimension, embedding, created_at, updated_at)
+            VALUES (:cacheKey, :model, :dimension, :embedding, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE cache_key = cache_key
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("cacheKey") String cacheKey,
+                       @Param("model") String model,
+                       @Param("dimension") int dimension,
+                       @Param("embedding") byte[] embedding);
+}
@@ -0,0 +1,77 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임베딩 배치 분할기
+ *
+ * OpenAI 임베딩 API는 요청당 입력 개수와 총 토큰 수에 제한이 있으므로,
+ * 입력 목록을 추정 토큰 예산과 최대 입력 수 기준으로 나눕니다.
+ * 한 요청이 한도를 넘어 배치 전체가 실패하는 것을 막기 위한 용도입니다.
+ */
+public final class EmbeddingBatchSplitter {
+
+    private EmbeddingBatchSplitter() {
+    }
+
+    /**
+     * 입력 목록을 하위 배치로 분할
+     * 입력 순서를 유지하며, 단일 입력이 토큰 예산을 넘더라도 단독 배치로 포함합니다.
+     *
+     * @param texts 분할할 텍스트 목록
+     * @param maxInputs 하위 배치당 최대 입력 수
+     * @param maxTokens 하위 배치당 최대 추정 토큰 수
+     * @return 원본 목록의 인덱스로 구성된 하위 배치 목록
+     */
+    public static List<List<Integer>> split(List<String> texts, int maxInputs, int maxTokens) {
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> currentBatch = new ArrayList<>();
+        long currentTokens = 0;
+
+        for (int i = 0; i < texts.size(); i++) {
+            int tokens = estimateTokens(texts.get(i));
+
+            boolean exceedsInputs = currentBatch.size() >= maxInputs;
+            boolean exceedsTokens = currentTokens + tokens > maxTokens;
+            if (!currentBatch.isEmpty() && (exceedsInputs || exceedsTokens)) {
+                batches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+                currentTokens = 0;
+            }
+
+            currentBatch.add(i);
+            currentTokens += tokens;
+        }
+
+        if (!currentBatch.isEmpty()) {
+            batches.add(currentBatch);
+        }
+
+        return batches;
+    }
+
+    /**
+     * 토큰 수 보수적 추정: UTF-8 바이트 수 / 2 (올림)
+     * 영문은 실제보다 크게, 한글(3바이트)은 음절당 약 1.5토큰으로 계산되어 한도를 넘지 않는 쪽으로 추정합니다.
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                bytes += 2;
+            } else {
+                bytes += 3;
+            }
+        }
+
+        return (int) Math.min((bytes + 1) / 2, Integer.MAX_VALUE);
+    }
+}
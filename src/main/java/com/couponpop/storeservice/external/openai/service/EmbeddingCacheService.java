@@ -0,0 +1,182 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.openai.entity.EmbeddingCache;
+import com.couponpop.storeservice.external.openai.repository.EmbeddingCacheRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 벡터 2단계 캐시 서비스
+ * 1차: 인메모리(Caffeine) / 2차: MySQL(embedding_cache 테이블)
+ *
+ * 캐시 키는 SHA-256(모델명 + 차원 + 정규화된 텍스트)이며,
+ * 내용이 바뀌지 않은 텍스트는 OpenAI API를 다시 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class EmbeddingCacheService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String METRIC_PREFIX = "openai.embedding.cache";
+
+    private final EmbeddingCacheRepository embeddingCacheRepository;
+    private final Cache<String, float[]> memoryCache;
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public EmbeddingCacheService(
+            EmbeddingCacheRepository embeddingCacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${openai.embedding.cache.memory-max-size:10000}") long memoryMaxSize) {
+        this.embeddingCacheRepository = embeddingCacheRepository;
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(memoryMaxSize)
+                .recordStats()
+                .build();
+
+        this.memoryHitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+                .description("임베딩 캐시 적중 수")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder(METRIC_PREFIX + ".hits")
+                .description("임베딩 캐시 적중 수")
+                .tag("tier", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses")
+                .description("임베딩 캐시 미스 수 (OpenAI API 호출 대상)")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, METRIC_PREFIX + ".memory");
+    }
+
+    /**
+     * 임베딩 대상 텍스트 정규화
+     * 유니코드 NFC 정규화 후 앞뒤 공백 제거, 연속된 공백을 하나로 축약합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 캐시 키 생성: SHA-256(모델명 + 차원 + 정규화된 텍스트)
+     * 같은 텍스트라도 차원이 다르면 다른 벡터이므로 별도 키를 사용합니다.
+     *
+     * @param model 임베딩 모델명
+     * @param dimension 임베딩 차원
+     * @param normalizedText {@link #normalize(String)}로 정규화된 텍스트
+     * @return 64자리 16진수 문자열
+     */
+    public String createCacheKey(String model, int dimension, String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Integer.toString(dimension).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizedText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 캐시 키 목록에 해당하는 임베딩 조회 (메모리 → DB 순)
+     *
+     * @param cacheKeys 조회할 캐시 키 목록
+     * @return 캐시 키별 임베딩 (적중한 키만 포함)
+     */
+    public Map<String, float[]> getAll(Collection<String> cacheKeys) {
+        Set<String> distinctKeys = Set.copyOf(cacheKeys);
+        Map<String, float[]> found = new HashMap<>(memoryCache.getAllPresent(distinctKeys));
+        memoryHitCounter.increment(found.size());
+
+        List<String> remainingKeys = distinctKeys.stream()
+                .filter(key -> !found.containsKey(key))
+                .toList();
+
+        if (!remainingKeys.isEmpty()) {
+            Map<String, float[]> fromDatabase = findFromDatabase(remainingKeys);
+            databaseHitCounter.increment(fromDatabase.size());
+            missCounter.increment(remainingKeys.size() - fromDatabase.size());
+
+            memoryCache.putAll(fromDatabase);
+            found.putAll(fromDatabase);
+        }
+
+        return found;
+    }
+
+    /**
+     * 새로 생성한 임베딩을 캐시에 저장
+     * DB에는 항목마다 따로 저장하므로, 다른 인스턴스가 같은 키를 먼저 저장했거나 한 항목의 저장이 실패해도 나머지 항목은 저장됩니다.
+     * DB 저장 실패는 캐시 기능에 한정된 문제이므로 예외를 던지지 않습니다.
+     *
+     * @param model 임베딩 모델명
+     * @param embeddings 캐시 키별 임베딩
+     */
+    public void putAll(String model, Map<String, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+
+        Map<String, float[]> validEmbeddings = embeddings.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue().length > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        memoryCache.putAll(validEmbeddings);
+
+        int failed = 0;
+        Exception lastFailure = null;
+        for (Map.Entry<String, float[]> entry : validEmbeddings.entrySet()) {
+            EmbeddingCache entity = EmbeddingCache.of(entry.getKey(), model, entry.getValue());
+            try {
+                embeddingCacheRepository.insertIfAbsent(entity.getCacheKey(), entity.getModel(),
+                        entity.getDimension(), entity.getEmbedding());
+            } catch (Exception e) {
+                failed++;
+                lastFailure = e;
+            }
+        }
+        if (failed > 0) {
+            log.warn("Failed to persist embedding cache entries: failed={}, total={}",
+                    failed, validEmbeddings.size(), lastFailure);
+        }
+    }
+
+    private Map<String, float[]> findFromDatabase(List<String> cacheKeys) {
+        try {
+            return embeddingCacheRepository.findAllById(cacheKeys).stream()
+                    .collect(Collectors.toMap(EmbeddingCache::getCacheKey, EmbeddingCache::toEmbedding));
+        } catch (Exception e) {
+            log.warn("Failed to read embedding cache from database: count={}", cacheKeys.size(), e);
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 동시성 제한기 (Non-blocking)
+ *
+ * 동시에 진행 중인 요청 수를 limit 이하로 유지하고, 초과분은 대기열에 넣었다가 앞선 요청이 끝나면 실행합니다.
+ * 대기열도 가득 차면 즉시 {@link RejectedExecutionException}으로 실패시켜 호출자가 빠르게 폴백할 수 있게 합니다.
+ * 스레드를 점유하지 않으므로 OpenAI 응답이 느려도 서블릿 스레드 풀이 고갈되지 않습니다.
+ *
+ * 한도는 AIMD 방식으로 조정됩니다. 현재 한도만큼 요청이 연속으로 성공하면 1 늘리고(Additive Increase),
+ * 429 응답을 받으면 절반으로 줄입니다(Multiplicative Decrease).
+ *
+ * 대기 중인 요청은 도착 순서대로 시작합니다. 시작한 요청이 즉시 끝나 다시 다음 요청을 시작하는 경우에도
+ * 호출 스택이 깊어지지 않도록, 한 번에 한 스레드만 반복문으로 대기열을 비웁니다.
+ */
+@Slf4j
+public class EmbeddingConcurrencyLimiter {
+
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final Deque<Runnable> waitingTasks = new ArrayDeque<>();
+    private final Counter rejectedCounter;
+
+    /**
+     * 요청 수락 결과
+     */
+    private enum Admission {
+        STARTED,
+        QUEUED,
+        REJECTED
+    }
+
+    private int limit;
+    private int inFlight;
+    private int successesSinceIncrease;
+    private long lastDecreaseNanos;
+    // 대기열을 비우는 스레드가 있는지 여부 (있으면 다른 스레드는 그 스레드에 맡기고 반환)
+    private boolean draining;
+
+    public EmbeddingConcurrencyLimiter(int initialLimit, int maxLimit, int maxQueueSize, MeterRegistry meterRegistry) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.limit = Math.min(Math.max(1, initialLimit), this.maxLimit);
+        this.maxQueueSize = maxQueueSize;
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_COOLDOWN_NANOS;
+
+        Gauge.builder("openai.embedding.requests.in-flight", this, EmbeddingConcurrencyLimiter::getInFlight)
+                .description("진행 중인 OpenAI 임베딩 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.embedding.requests.queued", this, EmbeddingConcurrencyLimiter::getQueued)
+                .description("동시성 제한으로 대기 중인 OpenAI 임베딩 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.embedding.requests.limit", this, EmbeddingConcurrencyLimiter::getLimit)
+                .description("OpenAI 임베딩 요청 동시성 한도")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("openai.embedding.requests.rejected")
+                .description("대기열 초과로 거절된 OpenAI 임베딩 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동시성 한도 안에서 요청 실행
+     *
+     * @param action 실행할 요청 (구독 시점에 생성)
+     * @return 요청 결과 Mono (대기열 초과 시 RejectedExecutionException)
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> action) {
+        return Mono.create(sink -> {
+            AtomicBoolean released = new AtomicBoolean(false);
+            AtomicReference<Disposable> subscription = new AtomicReference<>();
+
+            Runnable task = () -> subscription.set(Mono.defer(action)
+                    .doFinally(signal -> {
+                        if (released.compareAndSet(false, true)) {
+                            release();
+                        }
+                    })
+                    .subscribe(sink::success, sink::error, sink::success));
+
+            Admission admission = tryAcquireOrEnqueue(task);
+            if (admission == Admission.REJECTED) {
+                rejectedCounter.increment();
+                sink.error(new RejectedExecutionException("OpenAI embedding request queue is full"));
+                return;
+            }
+
+            sink.onCancel(() -> {
+                if (!removeWaitingTask(task)) {
+                    Disposable disposable = subscription.get();
+                    if (disposable != null) {
+                        disposable.dispose();
+                    }
+                }
+            });
+
+            if (admission == Admission.STARTED) {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 동시성 한도 변경
+     * 한도가 늘어나면 대기 중인 요청을 즉시 실행합니다.
+     */
+    public void setLimit(int newLimit) {
+        synchronized (this) {
+            this.limit = Math.min(Math.max(1, newLimit), maxLimit);
+        }
+        drainWaitingTasks();
+    }
+
+    /**
+     * 요청 성공 기록: 현재 한도만큼 연속 성공하면 한도를 1 증가
+     */
+    public void onSuccess() {
+        synchronized (this) {
+            if (limit >= maxLimit || ++successesSinceIncrease < limit) {
+                return;
+            }
+            successesSinceIncrease = 0;
+            limit++;
+        }
+        drainWaitingTasks();
+    }
+
+    /**
+     * 429(Rate Limit) 응답 기록: 한도를 절반으로 감소
+     * 같은 폭주 구간에서 동시에 실패한 요청들 때문에 연속으로 줄어들지 않도록 짧은 유예 시간을 둡니다.
+     */
+    public synchronized void onThrottled() {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < DECREASE_COOLDOWN_NANOS) {
+            return;
+        }
+
+        lastDecreaseNanos = now;
+        successesSinceIncrease = 0;
+        int previousLimit = limit;
+        limit = Math.max(1, limit / 2);
+        log.warn("OpenAI rate limited, decreasing embedding concurrency limit: {} -> {}", previousLimit, limit);
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waitingTasks.size();
+    }
+
+    private synchronized Admission tryAcquireOrEnqueue(Runnable task) {
+        if (inFlight < limit) {
+            inFlight++;
+            return Admission.STARTED;
+        }
+
+        if (waitingTasks.size() < maxQueueSize) {
+            waitingTasks.addLast(task);
+            return Admission.QUEUED;
+        }
+
+        return Admission.REJECTED;
+    }
+
+    private synchronized boolean removeWaitingTask(Runnable task) {
+        return waitingTasks.remove(task);
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drainWaitingTasks();
+    }
+
+    /**
+     * 한도 안에서 대기 중인 요청을 순서대로 시작
+     * 시작한 요청이 동기적으로 완료되어 release()가 다시 호출되면 바깥 반복문이 이어서 처리하므로 재귀하지 않습니다.
+     */
+    private void drainWaitingTasks() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                if (inFlight >= limit || waitingTasks.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                inFlight++;
+                task = waitingTasks.pollFirst();
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // 작업 실패는 구독 오류로 전달되므로 여기까지 오는 경우는 없지만, 대기열이 멈추지 않도록 상태 복구
+                synchronized (this) {
+                    draining = false;
+                }
+                throw e;
+            }
+        }
+    }
+}
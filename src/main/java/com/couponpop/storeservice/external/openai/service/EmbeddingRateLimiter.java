@@ -0,0 +1,102 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * OpenAI 요청 속도 제한기 (Token Bucket)
+ *
+ * 분당 요청 수(RPM)와 분당 토큰 수(TPM) 두 개의 버킷을 관리합니다.
+ * 요청마다 버킷에서 미리 차감(예약)하고, 잔량이 음수가 되면 채워질 때까지 필요한 시간만큼
+ * 논블로킹으로 지연시킵니다. 서버의 429 응답을 기다리지 않고 할당량 안에서 최대 속도로 호출하기 위한 용도입니다.
+ */
+@Slf4j
+public class EmbeddingRateLimiter {
+
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+    private final LongSupplier nanoClock;
+    private final Counter throttledCounter;
+
+    public EmbeddingRateLimiter(long requestsPerMinute, long tokensPerMinute, MeterRegistry meterRegistry) {
+        this(requestsPerMinute, tokensPerMinute, meterRegistry, System::nanoTime);
+    }
+
+    EmbeddingRateLimiter(long requestsPerMinute, long tokensPerMinute, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.requestBucket = new Bucket(requestsPerMinute, now);
+        this.tokenBucket = new Bucket(tokensPerMinute, now);
+        this.throttledCounter = Counter.builder("openai.embedding.rate-limiter.delayed")
+                .description("클라이언트 속도 제한으로 지연된 OpenAI 임베딩 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 1건과 추정 토큰 수만큼 버킷을 예약하고, 필요한 대기 시간 뒤에 완료되는 Mono 반환
+     *
+     * @param estimatedTokens 요청의 추정 토큰 수
+     * @return 전송해도 되는 시점에 완료되는 Mono
+     */
+    public Mono<Void> acquire(long estimatedTokens) {
+        Duration delay = reserve(estimatedTokens);
+        if (delay.isZero()) {
+            return Mono.empty();
+        }
+
+        throttledCounter.increment();
+        log.debug("Delaying OpenAI embedding request by client rate limit: delay={}ms, tokens={}",
+                delay.toMillis(), estimatedTokens);
+        return Mono.delay(delay).then();
+    }
+
+    /**
+     * 버킷 예약 후 대기 시간 계산
+     */
+    synchronized Duration reserve(long estimatedTokens) {
+        long now = nanoClock.getAsLong();
+        long requestWait = requestBucket.reserve(1, now);
+        // 단일 요청의 토큰 수가 버킷 용량을 넘으면 용량만큼만 예약 (영원히 대기하지 않도록)
+        long tokenWait = tokenBucket.reserve(Math.min(estimatedTokens, tokenBucket.capacity), now);
+        return Duration.ofNanos(Math.max(requestWait, tokenWait));
+    }
+
+    /**
+     * 분당 한도를 가진 버킷
+     * 잔량은 음수까지 내려갈 수 있으며, 음수인 만큼이 이후 요청이 기다려야 할 양입니다.
+     */
+    private static final class Bucket {
+
+        private final long capacity;
+        private final double refillPerNano;
+        private double available;
+        private long lastRefillNanos;
+
+        private Bucket(long perMinute, long now) {
+            this.capacity = Math.max(1, perMinute);
+            this.refillPerNano = this.capacity / NANOS_PER_MINUTE;
+            this.available = this.capacity;
+            this.lastRefillNanos = now;
+        }
+
+        private long reserve(long amount, long now) {
+            available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+
+            available -= amount;
+            if (available >= 0) {
+                return 0;
+            }
+
+            return (long) Math.ceil(-available / refillPerNano);
+        }
+    }
+}
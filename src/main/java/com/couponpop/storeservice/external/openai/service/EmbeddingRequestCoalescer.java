@@ -0,0 +1,159 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingData;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 단건 임베딩 요청 병합기 (Micro-batching)
+ *
+ * 동시에 들어온 단건 요청을 짧은 시간(window) 동안 모았다가, 또는 최대 배치 크기에 도달하면
+ * 한 번의 OpenAI 요청으로 전송하고 EmbeddingData.index 기준으로 각 요청에 결과를 돌려줍니다.
+ * 같은 배치 안의 중복 텍스트는 한 번만 전송합니다.
+ */
+@Slf4j
+public class EmbeddingRequestCoalescer {
+
+    private final Function<List<String>, Mono<EmbeddingResponse>> batchSender;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizeSummary;
+
+    private final Object lock = new Object();
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public EmbeddingRequestCoalescer(Function<List<String>, Mono<EmbeddingResponse>> batchSender,
+                                     Duration window,
+                                     int maxBatchSize,
+                                     MeterRegistry meterRegistry) {
+        this.batchSender = batchSender;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "embedding-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizeSummary = DistributionSummary.builder("openai.embedding.coalescer.batch.size")
+                .description("병합되어 전송된 임베딩 요청당 입력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 텍스트 임베딩 요청을 병합 대기열에 추가
+     *
+     * @param text 정규화된 텍스트
+     * @return 임베딩 벡터를 완료값으로 가지는 Future
+     */
+    public CompletableFuture<float[]> submit(String text) {
+        PendingRequest request = new PendingRequest(text, new CompletableFuture<>());
+        List<PendingRequest> batchToSend = null;
+
+        synchronized (lock) {
+            pendingRequests.add(request);
+
+            if (pendingRequests.size() >= maxBatchSize) {
+                batchToSend = drainPendingRequests();
+            } else if (pendingRequests.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (batchToSend != null) {
+            send(batchToSend);
+        }
+
+        return request.future();
+    }
+
+    public void shutdown() {
+        flush();
+        scheduler.shutdown();
+    }
+
+    private void flush() {
+        List<PendingRequest> batchToSend;
+        synchronized (lock) {
+            batchToSend = drainPendingRequests();
+        }
+
+        if (!batchToSend.isEmpty()) {
+            send(batchToSend);
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private List<PendingRequest> drainPendingRequests() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        List<PendingRequest> drained = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return drained;
+    }
+
+    private void send(List<PendingRequest> batch) {
+        Map<String, List<CompletableFuture<float[]>>> futuresByText = new LinkedHashMap<>();
+        for (PendingRequest request : batch) {
+            futuresByText.computeIfAbsent(request.text(), key -> new ArrayList<>()).add(request.future());
+        }
+
+        List<String> texts = new ArrayList<>(futuresByText.keySet());
+        batchSizeSummary.record(texts.size());
+        log.debug("Sending coalesced embedding request: requests={}, distinctTexts={}", batch.size(), texts.size());
+
+        Mono<EmbeddingResponse> response;
+        try {
+            response = batchSender.apply(texts);
+        } catch (Exception e) {
+            batch.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+
+        response.subscribe(
+                embeddingResponse -> fanOut(texts, futuresByText, embeddingResponse),
+                error -> batch.forEach(request -> request.future().completeExceptionally(error)),
+                // 응답이 비어 있으면 대기 중인 요청을 빈 결과로 완료
+                () -> batch.forEach(request -> request.future().complete(EmbeddingProvider.EMPTY_EMBEDDING))
+        );
+    }
+
+    private void fanOut(List<String> texts,
+                        Map<String, List<CompletableFuture<float[]>>> futuresByText,
+                        EmbeddingResponse response) {
+        if (response != null && response.data() != null) {
+            for (EmbeddingData data : response.data()) {
+                if (data.index() >= 0 && data.index() < texts.size()) {
+                    futuresByText.get(texts.get(data.index()))
+                            .forEach(future -> future.complete(data.embedding()));
+                }
+            }
+        }
+
+        // 응답에 포함되지 않은 항목은 빈 결과로 완료 (이미 완료된 Future에는 영향 없음)
+        futuresByText.values().forEach(futures -> futures.forEach(future -> future.complete(EmbeddingProvider.EMPTY_EMBEDDING)));
+    }
+
+    private record PendingRequest(String text, CompletableFuture<float[]> future) {
+    }
+}
@@ -1,166 +1,454 @@
 package com.couponpop.storeservice.external.openai.service;
 
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
 import com.couponpop.storeservice.external.openai.dto.EmbeddingData;
 import com.couponpop.storeservice.external.openai.dto.EmbeddingRequest;
 import com.couponpop.storeservice.external.openai.dto.EmbeddingResponse;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingVectorDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 
 /**
  * OpenAI Embedding API를 사용하여 텍스트를 벡터로 변환하는 서비스
+ * 기본 임베딩 제공자이며, embedding.provider=local이면 비활성화됩니다.
  */
 @Slf4j
 @Service
-public class OpenAIEmbeddingService {
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "openai", matchIfMissing = true)
+public class OpenAIEmbeddingService implements EmbeddingProvider {
 
     private static final String EMPTY_RESPONSE_LOG = "Empty response from OpenAI API";
+    private static final String SEARCH_CIRCUIT_BREAKER_NAME = "openai-embedding";
+    private static final String BATCH_CIRCUIT_BREAKER_NAME = "openai-embedding-batch";
 
     private final WebClient webClient;
     private final String model;
+    private final String encodingFormat;
+    private final int dimension;
+    private final EmbeddingCacheService embeddingCacheService;
+    private final EmbeddingRequestCoalescer requestCoalescer;
+    private final EmbeddingConcurrencyLimiter concurrencyLimiter;
+    private final EmbeddingRateLimiter rateLimiter;
+    private final CircuitBreaker searchCircuitBreaker;
+    private final CircuitBreaker batchCircuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final int retryMaxAttempts;
+    private final Duration retryInitialBackoff;
+    private final Duration retryMaxBackoff;
+    private final int batchMaxInputs;
+    private final int batchMaxTokens;
+    private final int batchParallelism;
 
     public OpenAIEmbeddingService(
+            EmbeddingCacheService embeddingCacheService,
+            MeterRegistry meterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
             @Value("${openai.api.key}") String apiKey,
             @Value("${openai.api.url}") String apiUrl,
-            @Value("${openai.embedding.model}") String model) {
+            @Value("${openai.api.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${openai.api.response-timeout:10s}") Duration responseTimeout,
+            @Value("${openai.embedding.model}") String model,
+            @Value("${openai.embedding.encoding-format:base64}") String encodingFormat,
+            @Value("${openai.embedding.dimension:1536}") int dimension,
+            @Value("${openai.embedding.coalescer.enabled:true}") boolean coalescerEnabled,
+            @Value("${openai.embedding.coalescer.window:10ms}") Duration coalescerWindow,
+            @Value("${openai.embedding.coalescer.max-batch-size:32}") int coalescerMaxBatchSize,
+            @Value("${openai.embedding.concurrency.max-in-flight:8}") int maxInFlight,
+            @Value("${openai.embedding.concurrency.max-limit:32}") int maxInFlightLimit,
+            @Value("${openai.embedding.concurrency.max-queue-size:200}") int maxQueueSize,
+            @Value("${openai.embedding.batch.max-inputs:256}") int batchMaxInputs,
+            @Value("${openai.embedding.batch.max-tokens:100000}") int batchMaxTokens,
+            @Value("${openai.embedding.batch.parallelism:4}") int batchParallelism,
+            @Value("${openai.embedding.rate-limit.requests-per-minute:3000}") long requestsPerMinute,
+            @Value("${openai.embedding.rate-limit.tokens-per-minute:1000000}") long tokensPerMinute,
+            @Value("${openai.embedding.retry.max-attempts:5}") int retryMaxAttempts,
+            @Value("${openai.embedding.retry.initial-backoff:500ms}") Duration retryInitialBackoff,
+            @Value("${openai.embedding.retry.max-backoff:30s}") Duration retryMaxBackoff) {
         this.model = model;
+        this.encodingFormat = encodingFormat;
+        this.dimension = dimension;
+        this.meterRegistry = meterRegistry;
+        this.retryMaxAttempts = retryMaxAttempts;
+        this.retryInitialBackoff = retryInitialBackoff;
+        this.retryMaxBackoff = retryMaxBackoff;
+        this.batchMaxInputs = batchMaxInputs;
+        this.batchMaxTokens = batchMaxTokens;
+        this.batchParallelism = batchParallelism;
+        this.embeddingCacheService = embeddingCacheService;
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        // 응답 벡터 역직렬화 버퍼를 설정된 차원 크기로 할당하도록 차원을 공유 속성으로 전달
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper.setDefaultAttributes(ContextAttributes.getEmpty()
+                .withSharedAttribute(EmbeddingVectorDeserializer.DIMENSION_ATTRIBUTE, dimension));
         this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper)))
                 .baseUrl(apiUrl)
                 .defaultHeader("Authorization", "Bearer " + apiKey)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
+        this.concurrencyLimiter = new EmbeddingConcurrencyLimiter(maxInFlight, maxInFlightLimit, maxQueueSize, meterRegistry);
+        this.rateLimiter = new EmbeddingRateLimiter(requestsPerMinute, tokensPerMinute, meterRegistry);
+        // 재색인 등 대량 배치 호출이 검색어 임베딩 서킷을 열지 않도록 서킷 브레이커를 분리
+        this.searchCircuitBreaker = circuitBreakerRegistry.circuitBreaker(SEARCH_CIRCUIT_BREAKER_NAME);
+        this.batchCircuitBreaker = circuitBreakerRegistry.circuitBreaker(BATCH_CIRCUIT_BREAKER_NAME);
+        this.requestCoalescer = coalescerEnabled
+                ? new EmbeddingRequestCoalescer(texts -> sendEmbeddingRequest(texts, searchCircuitBreaker),
+                        coalescerWindow, coalescerMaxBatchSize, meterRegistry)
+                : null;
         
-        log.info("OpenAI Embedding Service initialized with model: {}", model);
+        log.info("OpenAI Embedding Service initialized with model: {}, dimension: {}, encoding: {}, timeout: connect={}, response={}, maxInFlight: {}/{}, maxQueueSize: {}, rpm: {}, tpm: {}, batch: maxInputs={}, maxTokens={}, parallelism={}, coalescer: {}",
+                model, dimension, encodingFormat, connectTimeout, responseTimeout, maxInFlight, maxInFlightLimit, maxQueueSize, requestsPerMinute, tokensPerMinute,
+                batchMaxInputs, batchMaxTokens, batchParallelism,
+                coalescerEnabled ? "window=" + coalescerWindow + ", maxBatchSize=" + coalescerMaxBatchSize : "disabled");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (requestCoalescer != null) {
+            requestCoalescer.shutdown();
+        }
     }
 
     /**
-     * 텍스트를 임베딩 벡터로 변환
+     * 텍스트를 임베딩 벡터로 변환 (블로킹)
+     * 백그라운드 작업 등 블로킹이 허용되는 곳에서만 사용하고, 요청 처리 경로에서는 {@link #generateEmbeddingAsync(String)}를 사용합니다.
      * 
      * @param text 변환할 텍스트
-     * @return 1536차원 Float 리스트
+     * @return 설정된 차원(openai.embedding.dimension)의 float 배열 (실패 시 빈 배열)
      */
-    public List<Float> generateEmbedding(String text) {
+    @Override
+    public float[] generateEmbedding(String text) {
         try {
-            if (text == null || text.trim().isEmpty()) {
-                log.warn("Empty text provided for embedding generation");
-                return Collections.emptyList();
-            }
-
-            log.debug("Generating embedding for text: {}", text.substring(0, Math.min(text.length(), 50)));
-
-            EmbeddingRequest request = EmbeddingRequest.of(model, text.trim());
-
-            EmbeddingResponse response = webClient.post()
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(EmbeddingResponse.class)
-                    .block();
-
-            if (response == null || response.data().isEmpty()) {
-                log.error(EMPTY_RESPONSE_LOG);
-                return Collections.emptyList();
-            }
-
-            List<Float> embedding = response.data().get(0).embedding();
-            log.debug("Successfully generated embedding vector (dimension: {})", embedding.size());
-
-            return embedding;
-
+            float[] embedding = generateEmbeddingAsync(text).block();
+            return embedding != null ? embedding : EMPTY_EMBEDDING;
         } catch (Exception e) {
             log.error("Failed to generate embedding: text={}", text, e);
-            return Collections.emptyList();
+            return EMPTY_EMBEDDING;
         }
     }
 
     /**
      * 여러 텍스트를 한 번에 임베딩 벡터로 변환 (배치 처리)
+     * 캐시에 없는 텍스트만 모아 토큰 예산 단위로 나눠 병렬로 OpenAI API에 요청하고, 결과는 입력 순서대로 반환합니다.
+     * 재시도를 모두 소진했거나 서킷이 열려 있는 등 하위 배치 요청이 실패하면 그 배치의 입력은 실패(null)로 반환하며,
+     * 빈 벡터로 대체하지 않으므로 호출자는 null 항목을 색인하지 말고 다시 시도해야 합니다.
      * 
      * @param texts 변환할 텍스트 리스트
-     * @return 임베딩 벡터 리스트
+     * @return 입력과 같은 크기와 순서의 임베딩 벡터 리스트 (생성하지 못한 항목은 null)
      */
-    public List<List<Float>> generateEmbeddings(List<String> texts) {
+    @Override
+    public List<float[]> generateEmbeddings(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            log.warn("Empty text list provided for embedding generation");
+            return List.of();
+        }
+
+        Map<String, float[]> embeddingsByKey = new HashMap<>();
+        List<String> cacheKeys = new ArrayList<>(texts.size());
         try {
-            if (texts == null || texts.isEmpty()) {
-                log.warn("Empty text list provided for embedding generation");
-                return List.of();
+            Map<String, String> missingTexts = new LinkedHashMap<>();
+            for (String text : texts) {
+                String normalizedText = EmbeddingCacheService.normalize(text);
+                String cacheKey = normalizedText.isEmpty() ? null : embeddingCacheService.createCacheKey(model, dimension, normalizedText);
+                cacheKeys.add(cacheKey);
+                if (cacheKey != null) {
+                    missingTexts.put(cacheKey, normalizedText);
+                }
             }
 
-            log.debug("Generating embeddings for {} texts", texts.size());
+            embeddingsByKey.putAll(embeddingCacheService.getAll(missingTexts.keySet()));
+            missingTexts.keySet().removeAll(embeddingsByKey.keySet());
 
-            EmbeddingRequest request = new EmbeddingRequest(model, texts);
+            log.debug("Generating embeddings for {} texts (cache hits: {}, misses: {})",
+                    texts.size(), embeddingsByKey.size(), missingTexts.size());
 
-            EmbeddingResponse response = webClient.post()
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(EmbeddingResponse.class)
-                    .block();
-
-            if (response == null || response.data().isEmpty()) {
-                log.error(EMPTY_RESPONSE_LOG);
-                return List.of();
+            if (!missingTexts.isEmpty()) {
+                embeddingsByKey.putAll(requestEmbeddings(missingTexts));
             }
+        } catch (Exception e) {
+            // 캐시 적중분은 그대로 반환하고, 생성하지 못한 항목만 실패(null)로 남김
+            log.error("Failed to generate embeddings for {} texts", texts.size(), e);
+        }
 
-            List<List<Float>> embeddings = response.data().stream()
-                    .map(EmbeddingData::embedding)
-                    .toList();
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        int failedCount = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            String cacheKey = i < cacheKeys.size() ? cacheKeys.get(i) : null;
+            float[] embedding = cacheKey != null ? embeddingsByKey.get(cacheKey) : null;
+            if (embedding == null) {
+                failedCount++;
+            }
+            embeddings.add(embedding);
+        }
 
+        if (failedCount > 0) {
+            meterRegistry.counter("openai.embedding.batch.failed-inputs").increment(failedCount);
+            log.warn("Failed to generate {} of {} embeddings in batch", failedCount, texts.size());
+        } else {
             log.debug("Successfully generated {} embedding vectors", embeddings.size());
-
-            return embeddings;
-
-        } catch (Exception e) {
-            log.error("Failed to generate embeddings for {} texts", texts != null ? texts.size() : 0, e);
-            return List.of();
         }
+
+        return embeddings;
     }
 
     /**
-     * 비동기로 텍스트를 임베딩 벡터로 변환
+     * 비동기로 텍스트를 임베딩 벡터로 변환 (검색어 임베딩 경로)
+     * OpenAI 호출은 논블로킹 WebClient로 수행하므로 호출 스레드를 점유하지 않습니다.
+     * 검색어는 사용자 입력이라 종류가 무한하므로 DB 임베딩 캐시는 조회/저장하지 않으며,
+     * 캐시는 크기와 TTL이 제한된 QueryEmbeddingCache가 담당합니다.
      * 
      * @param text 변환할 텍스트
-     * @return 1536차원 Float 리스트를 반환하는 Mono
+     * @return 설정된 차원의 float 배열을 반환하는 Mono (실패 시 빈 배열)
      */
-    public Mono<List<Float>> generateEmbeddingAsync(String text) {
-        try {
-            if (text == null || text.trim().isEmpty()) {
-                log.warn("Empty text provided for embedding generation");
-                return Mono.just(Collections.<Float>emptyList());
-            }
+    @Override
+    public Mono<float[]> generateEmbeddingAsync(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            log.warn("Empty text provided for embedding generation");
+            return Mono.just(EMPTY_EMBEDDING);
+        }
+
+        String normalizedText = EmbeddingCacheService.normalize(text);
+        String logText = normalizedText.substring(0, Math.min(normalizedText.length(), 50));
+
+        log.debug("Generating embedding asynchronously for text: {}", logText);
+        return requestSingleEmbedding(normalizedText)
+                .filter(this::hasExpectedDimension)
+                .doOnNext(embedding -> log.debug("Successfully generated embedding vector (dimension: {})", embedding.length))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error(EMPTY_RESPONSE_LOG);
+                    return EMPTY_EMBEDDING;
+                }))
+                .onErrorResume(e -> {
+                    if (e instanceof CallNotPermittedException) {
+                        // 서킷 OPEN 상태에서는 요청마다 스택 트레이스를 남기지 않음
+                        log.debug("OpenAI circuit breaker is open, skipping embedding: text={}", logText);
+                    } else {
+                        log.error("Failed to generate embedding asynchronously: text={}", logText, e);
+                    }
+                    return Mono.just(EMPTY_EMBEDDING);
+                });
+    }
+
+    /**
+     * 캐시에 없는 텍스트를 토큰 예산 기준 하위 배치로 나누어 병렬 요청하고 캐시에 저장
+     * 응답 순서가 아닌 EmbeddingData.index로 입력과 매핑하며, 하위 배치 하나가 실패해도 나머지 결과는 유지합니다.
+     *
+     * @return 캐시 키별로 생성에 성공한 임베딩 (실패한 입력은 포함하지 않음)
+     */
+    private Map<String, float[]> requestEmbeddings(Map<String, String> textsByKey) {
+        List<String> keys = new ArrayList<>(textsByKey.keySet());
+        List<String> texts = new ArrayList<>(textsByKey.values());
+        List<List<Integer>> subBatches = EmbeddingBatchSplitter.split(texts, batchMaxInputs, batchMaxTokens);
+
+        log.debug("Requesting embeddings in {} sub-batches: texts={}, parallelism={}",
+                subBatches.size(), texts.size(), batchParallelism);
 
-            log.debug("Generating embedding asynchronously for text: {}", 
-                    text.substring(0, Math.min(text.length(), 50)));
+        Map<String, float[]> generated = Flux.fromIterable(subBatches)
+                .flatMap(subBatch -> requestSubBatch(keys, texts, subBatch), batchParallelism)
+                .collect(HashMap<String, float[]>::new, Map::putAll)
+                .block();
 
-            EmbeddingRequest request = EmbeddingRequest.of(model, text.trim());
+        return generated != null ? generated : Map.of();
+    }
 
-            return webClient.post()
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(EmbeddingResponse.class)
-                    .map(response -> {
-                        if (response == null || response.data().isEmpty()) {
-                            log.error(EMPTY_RESPONSE_LOG);
-                            return Collections.<Float>emptyList();
+    /**
+     * 하위 배치 요청
+     * 요청이 실패하면 배치의 모든 입력을, 응답에 빠졌거나 차원이 맞지 않는 벡터는 해당 입력만 결과에서 제외해 실패로 남깁니다.
+     */
+    private Mono<Map<String, float[]>> requestSubBatch(List<String> keys, List<String> texts, List<Integer> subBatch) {
+        List<String> subBatchTexts = subBatch.stream()
+                .map(texts::get)
+                .toList();
+
+        return sendEmbeddingRequest(subBatchTexts, batchCircuitBreaker)
+                .map(response -> {
+                    Map<String, float[]> generated = new HashMap<>();
+                    for (EmbeddingData data : response.data()) {
+                        if (data.index() >= 0 && data.index() < subBatch.size() && hasExpectedDimension(data.embedding())) {
+                            generated.put(keys.get(subBatch.get(data.index())), data.embedding());
                         }
-                        List<Float> embedding = response.data().get(0).embedding();
-                        log.debug("Successfully generated embedding vector (dimension: {})", embedding.size());
-                        return embedding;
-                    })
-                    .onErrorResume(e -> {
-                        log.error("Failed to generate embedding asynchronously: text={}", text, e);
-                        return Mono.just(Collections.<Float>emptyList());
-                    });
+                    }
+                    if (generated.size() < subBatch.size()) {
+                        log.warn("OpenAI response is missing embeddings for sub-batch: expected={}, actual={}",
+                                subBatch.size(), generated.size());
+                    }
+                    return generated;
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(generated -> embeddingCacheService.putAll(model, generated))
+                .onErrorResume(e -> {
+                    // 다른 하위 배치 결과는 유지하고 이 배치의 입력만 실패로 남김 (빈 벡터로 대체하지 않음)
+                    log.error("Failed to generate embeddings for sub-batch, inputs will be reported as failed: size={}",
+                            subBatch.size(), e);
+                    return Mono.just(Map.of());
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to generate embedding asynchronously: text={}", text, e);
-            return Mono.just(Collections.<Float>emptyList());
+    /**
+     * 응답 벡터 차원 검증
+     * 설정과 다른 차원의 벡터는 dense_vector 매핑과 맞지 않아 색인이 실패하므로 버립니다.
+     */
+    private boolean hasExpectedDimension(float[] embedding) {
+        if (embedding == null || embedding.length == 0) {
+            return false;
         }
+        if (embedding.length != dimension) {
+            log.error("Unexpected embedding dimension: expected={}, actual={}", dimension, embedding.length);
+            return false;
+        }
+        return true;
     }
-}
 
+    /**
+     * 단건 임베딩 요청
+     * 병합기가 활성화되어 있으면 동시에 들어온 다른 단건 요청과 묶어서 전송합니다.
+     */
+    private Mono<float[]> requestSingleEmbedding(String normalizedText) {
+        if (requestCoalescer != null) {
+            return Mono.fromFuture(() -> requestCoalescer.submit(normalizedText));
+        }
+
+        return sendEmbeddingRequest(List.of(normalizedText), searchCircuitBreaker)
+                .map(response -> response.data().isEmpty()
+                        ? EMPTY_EMBEDDING
+                        : response.data().get(0).embedding());
+    }
+
+    /**
+     * OpenAI 임베딩 요청 전송
+     * 속도 제한기(RPM/TPM)에서 예약한 뒤 동시성 제한기를 거쳐 전송하며, 한도와 대기열을 모두 넘으면 즉시 실패합니다.
+     * 서킷 브레이커가 열려 있으면 대기 없이 즉시 실패하고, 실제 HTTP 호출 구간만 오류율/지연 호출 집계 대상입니다.
+     * 검색어 요청과 배치 요청은 서로 다른 서킷 브레이커를 사용합니다.
+     * 429/5xx/네트워크 오류는 지터를 준 지수 백오프(Retry-After 헤더 우선)로 재시도합니다.
+     */
+    private Mono<EmbeddingResponse> sendEmbeddingRequest(List<String> texts, CircuitBreaker circuitBreaker) {
+        long estimatedTokens = texts.stream()
+                .mapToLong(EmbeddingBatchSplitter::estimateTokens)
+                .sum();
+
+        return Mono.defer(() -> {
+                    if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                        return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+                    }
+
+                    return rateLimiter.acquire(estimatedTokens)
+                            .then(concurrencyLimiter.execute(() -> webClient.post()
+                                    .bodyValue(new EmbeddingRequest(model, texts, encodingFormat, dimension))
+                                    .retrieve()
+                                    .bodyToMono(EmbeddingResponse.class)
+                                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))))
+                            .doOnSuccess(response -> concurrencyLimiter.onSuccess())
+                            .doOnError(OpenAIEmbeddingService::isRateLimited, e -> concurrencyLimiter.onThrottled());
+                })
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    long attempt = signal.totalRetries() + 1;
+                    if (attempt >= retryMaxAttempts || !isRetryable(failure)) {
+                        return Mono.error(failure);
+                    }
+
+                    Duration delay = retryDelay(failure, attempt);
+                    meterRegistry.counter("openai.embedding.retries", "reason", retryReason(failure)).increment();
+                    log.warn("Retrying OpenAI embedding request: retry={}/{}, delay={}ms, inputs={}, reason={}",
+                            attempt, retryMaxAttempts - 1, delay.toMillis(), texts.size(), failure.toString());
+                    return Mono.delay(delay);
+                })));
+    }
+
+    /**
+     * 재시도 대기 시간 계산
+     * Retry-After(retry-after-ms) 헤더가 있으면 그 값을 하한으로, 없으면 지수 백오프를 사용하며
+     * 여러 요청이 동시에 재시도하지 않도록 지터를 더합니다.
+     */
+    private Duration retryDelay(Throwable failure, long attempt) {
+        Duration retryAfter = retryAfter(failure);
+        if (retryAfter != null) {
+            long jitterMillis = ThreadLocalRandom.current().nextLong(retryAfter.toMillis() / 5 + 1);
+            return retryAfter.plusMillis(jitterMillis);
+        }
+
+        long exponentialMillis = retryInitialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long cappedMillis = Math.min(exponentialMillis, retryMaxBackoff.toMillis());
+        // Equal Jitter: 절반은 고정, 절반은 무작위
+        long halfMillis = cappedMillis / 2;
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current().nextLong(halfMillis + 1));
+    }
+
+    private static Duration retryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException responseException)) {
+            return null;
+        }
+
+        HttpHeaders headers = responseException.getHeaders();
+        try {
+            String retryAfterMillis = headers.getFirst("retry-after-ms");
+            if (retryAfterMillis != null) {
+                return Duration.ofMillis((long) Double.parseDouble(retryAfterMillis));
+            }
+
+            String retryAfterSeconds = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfterSeconds != null) {
+                return Duration.ofMillis((long) (Double.parseDouble(retryAfterSeconds) * 1000));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring unparseable Retry-After header: {}", headers.getFirst(HttpHeaders.RETRY_AFTER));
+        }
+
+        return null;
+    }
+
+    private static boolean isRateLimited(Throwable failure) {
+        return failure instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
 
+    private static boolean isRetryable(Throwable failure) {
+        if (failure instanceof WebClientResponseException responseException) {
+            return isRateLimited(failure) || responseException.getStatusCode().is5xxServerError();
+        }
+        return failure instanceof WebClientRequestException || failure instanceof TimeoutException;
+    }
 
+    private static String retryReason(Throwable failure) {
+        if (isRateLimited(failure)) {
+            return "rate_limited";
+        }
+        return failure instanceof WebClientResponseException ? "server_error" : "io_error";
+    }
+}
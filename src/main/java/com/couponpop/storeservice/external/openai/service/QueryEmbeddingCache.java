@@ -0,0 +1,109 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 검색어 임베딩 캐시
+ * 인기 검색어("카페", "치킨" 등)가 반복 요청될 때 임베딩 API 왕복 없이 벡터를 재사용합니다.
+ *
+ * - 키: 정규화(공백 축약 + 소문자)된 검색어 (임베딩 입력은 대소문자를 유지한 검색어)
+ * - 크기 제한: 바이트 단위(maximumWeight)
+ * - 만료: 쓰기 후 TTL
+ *
+ * 검색어는 사용자 입력이라 종류가 무한하므로 DB 임베딩 캐시(embedding_cache)에는 저장하지 않고 이 캐시에만 둡니다.
+ */
+@Slf4j
+@Component
+public class QueryEmbeddingCache {
+
+    private static final String CACHE_NAME = "openai.embedding.query-cache";
+
+    // float[] 배열 헤더(16B)
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final EmbeddingProvider embeddingProvider;
+    private final AsyncCache<String, float[]> cache;
+    private final Duration latencyBudget;
+
+    public QueryEmbeddingCache(
+            EmbeddingProvider embeddingProvider,
+            MeterRegistry meterRegistry,
+            @Value("${openai.embedding.query-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${openai.embedding.query-cache.ttl:6h}") Duration ttl,
+            @Value("${openai.embedding.search-latency-budget:800ms}") Duration latencyBudget) {
+        this.embeddingProvider = embeddingProvider;
+        this.latencyBudget = latencyBudget;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, float[] vector) -> estimateBytes(key, vector))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".bytes", cache, c -> c.synchronous().policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .description("검색어 임베딩 캐시 추정 사용 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("Query embedding cache initialized: maxBytes={}, ttl={}, latencyBudget={}", maxBytes, ttl, latencyBudget);
+    }
+
+    /**
+     * 검색어 캐시 키: 공백 축약 후 소문자 변환
+     * 대소문자만 다른 검색어가 캐시를 공유하도록 키에만 적용하며, 임베딩 입력 텍스트에는 적용하지 않습니다.
+     */
+    public static String toCacheKey(String keyword) {
+        return EmbeddingCacheService.normalize(keyword).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어 임베딩 조회, 없으면 비동기로 생성 후 캐시
+     * 같은 검색어에 대한 동시 미스는 한 번의 API 호출로 합쳐지며, 생성 실패(빈 벡터)는 캐시하지 않습니다.
+     * 지연 예산(latency budget)을 넘기면 빈 배열을 반환해 호출자가 BM25로 폴백하게 하고,
+     * 진행 중이던 생성 요청은 취소하지 않고 끝까지 진행해 다음 요청을 위해 캐시에 채워 둡니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 임베딩 벡터 Mono (실패 또는 지연 예산 초과 시 빈 배열)
+     */
+    public Mono<float[]> getOrGenerate(String keyword) {
+        String normalizedText = EmbeddingCacheService.normalize(keyword);
+        if (normalizedText.isEmpty()) {
+            return Mono.just(EmbeddingProvider.EMPTY_EMBEDDING);
+        }
+        String cacheKey = toCacheKey(keyword);
+
+        // 비어 있는 결과(null)로 완료된 항목은 Caffeine이 자동으로 제거
+        return Mono.fromFuture(() -> cache.get(cacheKey, (key, executor) ->
+                        embeddingProvider.generateEmbeddingAsync(normalizedText)
+                                .filter(generated -> generated.length > 0)
+                                .toFuture()), true)
+                .timeout(latencyBudget)
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("Query embedding exceeded latency budget, falling back: keyword={}, budget={}ms",
+                            cacheKey, latencyBudget.toMillis());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(EmbeddingProvider.EMPTY_EMBEDDING);
+    }
+
+    private static int estimateBytes(String key, float[] vector) {
+        long bytes = (long) key.length() * Character.BYTES + ARRAY_HEADER_BYTES + (long) vector.length * Float.BYTES;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,11 @@
+-- 임베딩 캐시 테이블 생성
+CREATE TABLE embedding_cache (
+    cache_key CHAR(64) NOT NULL PRIMARY KEY COMMENT 'SHA-256(모델명 + 차원 + 정규화된 텍스트) 16진수 문자열',
+    model VARCHAR(100) NOT NULL COMMENT '임베딩 모델명',
+    dimension INT NOT NULL COMMENT '임베딩 벡터 차원 수',
+    embedding BLOB NOT NULL COMMENT '임베딩 벡터 (float32 little-endian 바이트 배열)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시',
+
+    INDEX idx_model (model)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='OpenAI 임베딩 벡터 캐시 테이블';
@@ -0,0 +1,17 @@
+-- 매장 검색 인덱스 동기화 아웃박스 테이블 생성
+CREATE TABLE store_sync_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    store_id BIGINT NOT NULL COMMENT '매장 ID',
+    operation VARCHAR(20) NOT NULL COMMENT '동기화 작업 (UPSERT, DELETE)',
+    member_username VARCHAR(100) NULL COMMENT '매장 소유자 사용자명 (검색 문서에 저장)',
+    changed_fields VARCHAR(500) NULL COMMENT '변경된 필드 목록 (쉼표 구분, NULL이면 임베딩을 포함한 전체 색인)',
+    status VARCHAR(20) NOT NULL COMMENT '처리 상태 (PENDING, DONE, FAILED)',
+    attempt_count INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수',
+    last_error VARCHAR(1000) NULL COMMENT '마지막 실패 사유',
+    available_at DATETIME(6) NOT NULL COMMENT '처리 가능 시각 (처리 중 선점 및 재시도 대기에 사용)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시',
+
+    INDEX idx_status_available_at (status, available_at, id),
+    INDEX idx_status_updated_at (status, updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='매장 검색 인덱스 동기화 아웃박스 테이블';
@@ -0,0 +1,11 @@
+-- 매장 증분 재색인 워터마크 테이블 생성
+CREATE TABLE store_index_watermark (
+    name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '워터마크 이름',
+    last_updated_at DATETIME(6) NOT NULL COMMENT '마지막으로 반영한 매장의 수정일시',
+    last_store_id BIGINT NOT NULL COMMENT '마지막으로 반영한 매장 ID (같은 수정일시 내 순서)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='매장 증분 재색인 워터마크 테이블';
+
+-- 수정일시 기준 증분 조회용 인덱스 (소프트 삭제도 수정일시를 갱신)
+CREATE INDEX idx_updated_at_id ON stores (updated_at, id);
@@ -0,0 +1,27 @@
+-- 매장 전체 재색인 작업 테이블 생성
+CREATE TABLE store_reindex_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target_index VARCHAR(100) NOT NULL COMMENT '색인 대상 버전 인덱스 이름',
+    status VARCHAR(20) NOT NULL COMMENT '작업 상태 (RUNNING, COMPLETED, FAILED)',
+    started_at DATETIME(6) NOT NULL COMMENT '재색인 시작 시각 (재개해도 유지, 검증 및 증분 재색인 기준)',
+    heartbeat_at DATETIME(6) NOT NULL COMMENT '마지막 진행 기록 시각 (lease보다 오래되면 중단된 작업으로 보고 재개)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시',
+
+    INDEX idx_status_id (status, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='매장 전체 재색인 작업 테이블';
+
+-- 매장 전체 재색인 구간별 체크포인트 테이블 생성
+CREATE TABLE store_reindex_checkpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL COMMENT '재색인 작업 ID',
+    range_start BIGINT NOT NULL COMMENT '구간 시작 매장 ID (미포함)',
+    range_end BIGINT NOT NULL COMMENT '구간 끝 매장 ID (포함)',
+    last_store_id BIGINT NOT NULL COMMENT '색인을 마친 마지막 매장 ID (재개 시 이 ID 다음부터 처리)',
+    indexed_count BIGINT NOT NULL DEFAULT 0 COMMENT '색인에 성공한 매장 수',
+    completed BOOLEAN NOT NULL DEFAULT FALSE COMMENT '구간 완료 여부',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일시',
+
+    UNIQUE KEY uk_job_id_range_start (job_id, range_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='매장 전체 재색인 구간별 체크포인트 테이블';
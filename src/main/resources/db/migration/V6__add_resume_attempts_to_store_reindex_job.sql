@@ -0,0 +1,3 @@
+-- 매장 전체 재색인 작업 재개 횟수 컬럼 추가
+ALTER TABLE store_reindex_job
+    ADD COLUMN resume_attempts INT NOT NULL DEFAULT 0 COMMENT '중단 후 선점해 재개한 횟수 (최대 재개 횟수를 넘으면 FAILED)' AFTER heartbeat_at;
@@ -0,0 +1,3 @@
+-- 매장 검색 인덱스 동기화 아웃박스 변경 필드 컬럼 삭제 (수정도 항상 외부 버전을 단 전체 문서로 색인)
+ALTER TABLE store_sync_outbox
+    DROP COLUMN changed_fields;
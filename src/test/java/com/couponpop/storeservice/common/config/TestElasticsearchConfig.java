@@ -1,7 +1,10 @@
 package com.couponpop.storeservice.common.config;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
 import com.couponpop.storeservice.domain.store.repository.StoreSearchRepository;
 import com.couponpop.storeservice.domain.store.service.StoreElasticsearchSyncService;
+import com.couponpop.storeservice.domain.store.service.StoreIndexAliasService;
 import com.couponpop.storeservice.domain.store.service.StoreSearchService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -9,15 +12,27 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
 @TestConfiguration
 @Profile("test")
 public class TestElasticsearchConfig {
 
+    /**
+     * StoreBulkIndexer 등 클라이언트를 직접 쓰는 빈은 실제 빈으로 생성하고, 요청을 보내지 않는 클라이언트 mock만 주입
+     */
+    @Bean
+    @Primary
+    public ElasticsearchClient elasticsearchClient() {
+        return Mockito.mock(ElasticsearchClient.class);
+    }
+
     @Bean
     @Primary
     public ElasticsearchOperations elasticsearchOperations() {
-        return Mockito.mock(ElasticsearchOperations.class);
+        ElasticsearchOperations elasticsearchOperations = Mockito.mock(ElasticsearchOperations.class);
+        Mockito.when(elasticsearchOperations.getIndexCoordinatesFor(StoreDocument.class)).thenReturn(IndexCoordinates.of("stores"));
+        return elasticsearchOperations;
     }
 
     @Bean
@@ -26,6 +41,12 @@ public class TestElasticsearchConfig {
         return Mockito.mock(StoreSearchRepository.class);
     }
 
+    @Bean
+    @Primary
+    public StoreIndexAliasService storeIndexAliasService() {
+        return Mockito.mock(StoreIndexAliasService.class);
+    }
+
     @Bean
     @Primary
     public StoreElasticsearchSyncService storeElasticsearchSyncService() {
@@ -0,0 +1,100 @@
+package com.couponpop.storeservice.domain.store.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreSyncCoalescingQueue 테스트")
+class StoreSyncCoalescingQueueTest {
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final List<List<Long>> flushed = new ArrayList<>();
+
+    private StoreSyncCoalescingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StoreSyncCoalescingQueue(Duration.ofMillis(200), 3, 4, flushed::add, scheduler, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 매장의 연속 항목은 모아서 한 번에 내보내고, 대기 시간 만료는 한 번만 예약")
+    void offer_SameStore_Coalesced() {
+        // when
+        queue.offer(10L, 1L);
+        queue.offer(10L, 2L);
+        queue.offer(20L, 3L);
+        queue.offer(10L, 4L);
+        queue.flush();
+
+        // then
+        assertThat(flushed).containsExactly(List.of(1L, 2L, 4L, 3L));
+        assertThat(queue.pendingStores()).isZero();
+        then(scheduler).should(times(1)).schedule(any(Runnable.class), eq(200L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("모인 매장 수가 배치 크기에 도달하면 대기 시간 전에 즉시 내보냄")
+    void offer_MaxBatchStores_FlushesImmediately() {
+        // when
+        queue.offer(10L, 1L);
+        queue.offer(20L, 2L);
+        queue.offer(30L, 3L);
+
+        // then
+        assertThat(flushed).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(queue.pendingStores()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 매장 수 상한을 넘으면 새 매장 항목을 받지 않음")
+    void offer_QueueFull_Rejected() {
+        // given
+        queue = new StoreSyncCoalescingQueue(Duration.ofMillis(200), 100, 2, flushed::add, scheduler, new SimpleMeterRegistry());
+        queue.offer(10L, 1L);
+        queue.offer(20L, 2L);
+
+        // when
+        boolean accepted = queue.offer(30L, 3L);
+        boolean coalesced = queue.offer(10L, 4L);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(coalesced).isTrue();
+        assertThat(queue.pendingStores()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내보낸 뒤 새 항목이 들어오면 대기 시간 만료를 다시 예약")
+    void flush_ReschedulesForNextWindow() {
+        // given
+        queue.offer(10L, 1L);
+        queue.flush();
+
+        // when
+        queue.offer(10L, 2L);
+
+        // then
+        then(scheduler).should(times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,260 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.utils.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreBulkIndexer 테스트")
+class StoreBulkIndexerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+    @Mock
+    private ElasticsearchTransport transport;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchConverter converter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<BulkRequest> sentRequests = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<BulkResponse>> pendingResponses = new CopyOnWriteArrayList<>();
+    private volatile Function<BulkRequest, CompletableFuture<BulkResponse>> responder;
+    private StoreBulkIndexer bulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transport.jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+        given(elasticsearchOperations.getElasticsearchConverter()).willReturn(converter);
+        given(elasticsearchOperations.getIndexCoordinatesFor(StoreDocument.class)).willReturn(IndexCoordinates.of("stores"));
+        lenient().when(converter.mapObject(any())).thenAnswer(invocation -> Document.create());
+        lenient().when(transport.performRequestAsync(any(), any(), any())).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            sentRequests.add(request);
+            return responder.apply(request);
+        });
+
+        bulkIndexer = new StoreBulkIndexer(new ElasticsearchClient(transport), elasticsearchOperations, meterRegistry,
+                500, DataSize.ofMegabytes(5), Duration.ofMinutes(1), 2, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 응답을 기다리는 요청이 남아 있으면 close가 끝나지 않으므로 먼저 완료
+        pendingResponses.forEach(response -> response.completeExceptionally(new IOException("test finished")));
+        bulkIndexer.close();
+    }
+
+    @Test
+    @DisplayName("bulk 응답 항목을 요청 순서대로 매장별 결과에 매핑하고, 버전 충돌(이미 더 최근 상태)은 성공으로 처리")
+    void index_MapsItemResultsPerStore() {
+        // given
+        responder = request -> CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                .errors(true)
+                .took(1)
+                .items(
+                        indexItem("1", 201, null, null),
+                        indexItem("2", 409, "version_conflict_engine_exception", "version conflict"),
+                        indexItem("3", 400, "mapper_parsing_exception", "failed to parse"))));
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document(1L, UPDATED_AT), document(2L, UPDATED_AT), document(3L, UPDATED_AT)));
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failures()).containsOnlyKeys(3L);
+        assertThat(result.failures().get(3L)).isEqualTo("400 mapper_parsing_exception: failed to parse");
+    }
+
+    @Test
+    @DisplayName("bulk 요청 자체가 실패하면 요청에 담긴 모든 매장을 같은 사유로 실패 처리")
+    void index_RequestFails_FailsAllStores() {
+        // given
+        responder = request -> CompletableFuture.failedFuture(new IOException("connection refused"));
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document(1L, UPDATED_AT), document(2L, UPDATED_AT)));
+
+        // then
+        assertThat(result.succeeded()).isZero();
+        assertThat(result.failures()).containsOnlyKeys(1L, 2L);
+        assertThat(result.failures().get(1L)).contains("connection refused");
+    }
+
+    @Test
+    @DisplayName("응답을 대기 시간 안에 받지 못하면 해당 매장을 실패로 반환")
+    void index_ResponseTimesOut_ReportsTimeout() {
+        // given
+        responder = request -> {
+            CompletableFuture<BulkResponse> response = new CompletableFuture<>();
+            pendingResponses.add(response);
+            return response;
+        };
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document(1L, UPDATED_AT)));
+
+        // then
+        assertThat(result.succeeded()).isZero();
+        assertThat(result.failures().get(1L)).startsWith("Timed out waiting for bulk response");
+    }
+
+    @Test
+    @DisplayName("같은 매장 문서가 여러 개면 updated_at이 가장 최근인 문서 하나만 외부 버전과 함께 색인")
+    void index_DuplicateStore_SendsLatestOnly() {
+        // given
+        responder = request -> CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                .errors(false)
+                .took(1)
+                .items(indexItem("1", 200, null, null))));
+        LocalDateTime latest = UPDATED_AT.plusSeconds(5);
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document(1L, UPDATED_AT), document(1L, latest), document(1L, UPDATED_AT.plusSeconds(1))));
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.hasFailures()).isFalse();
+        List<BulkOperation> operations = new ArrayList<>();
+        sentRequests.forEach(request -> operations.addAll(request.operations()));
+        assertThat(operations).hasSize(1);
+        assertThat(operations.get(0).index().version()).isEqualTo(StoreDocument.versionOf(latest));
+        assertThat(operations.get(0).index().versionType()).isEqualTo(VersionType.ExternalGte);
+    }
+
+    @Test
+    @DisplayName("더 최근 버전(이후 수정, 삭제)이 이미 있는 문서에 대한 지연된 색인은 409로 거절되고 덮어쓰지 않은 채 성공 처리")
+    void index_StaleVersion_SkippedAsSucceeded() {
+        // given
+        responder = request -> CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                .errors(true)
+                .took(1)
+                .items(indexItem("1", 409, "version_conflict_engine_exception",
+                        "[1]: version conflict, current version [2] is higher than the one provided [1]"))));
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document(1L, UPDATED_AT)));
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(meterRegistry.get("store.sync.bulk.item.stale").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("store.sync.bulk.item.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("임베딩 벡터는 변환기를 거치지 않고 float[] 그대로 source에 넣음")
+    void index_WritesEmbeddingAsPrimitiveArray() {
+        // given
+        responder = request -> CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                .errors(false)
+                .took(1)
+                .items(indexItem("1", 201, null, null))));
+        StoreDocument document = document(1L, UPDATED_AT);
+
+        // when
+        StoreBulkResult result = bulkIndexer.index(List.of(document));
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        then(converter).should().mapObject(argThat(mapped -> ((StoreDocument) mapped).getEmbedding() == null));
+        List<BulkOperation> operations = new ArrayList<>();
+        sentRequests.forEach(request -> operations.addAll(request.operations()));
+        assertThat(operations).hasSize(1);
+        Map<?, ?> source = (Map<?, ?>) operations.get(0).index().document();
+        assertThat(source.get("embedding")).isSameAs(document.getEmbedding());
+    }
+
+    @Test
+    @DisplayName("삭제는 삭제 시점 수정일시를 외부 버전으로 보내고, 수정일시를 모르는 매장은 버전 없이 삭제")
+    void delete_SendsDeletedRowVersion() {
+        // given
+        responder = request -> CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                .errors(false)
+                .took(1)
+                .items(deleteItem("1", 200), deleteItem("2", 404))));
+        Map<Long, LocalDateTime> deletes = new LinkedHashMap<>();
+        deletes.put(1L, UPDATED_AT);
+        deletes.put(2L, null);
+
+        // when
+        StoreBulkResult result = bulkIndexer.delete(deletes);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(2);
+        List<BulkOperation> operations = new ArrayList<>();
+        sentRequests.forEach(request -> operations.addAll(request.operations()));
+        assertThat(operations).hasSize(2);
+        assertThat(operations.get(0).delete().version()).isEqualTo(StoreDocument.versionOf(UPDATED_AT));
+        assertThat(operations.get(0).delete().versionType()).isEqualTo(VersionType.ExternalGte);
+        assertThat(operations.get(1).delete().version()).isNull();
+        assertThat(operations.get(1).delete().versionType()).isNull();
+    }
+
+    private static BulkResponseItem indexItem(String id, int status, String errorType, String errorReason) {
+        return BulkResponseItem.of(item -> {
+            item.operationType(OperationType.Index).index("stores").id(id).status(status);
+            if (errorType != null) {
+                item.error(error -> error.type(errorType).reason(errorReason));
+            }
+            return item;
+        });
+    }
+
+    private static BulkResponseItem deleteItem(String id, int status) {
+        return BulkResponseItem.of(item -> item.operationType(OperationType.Delete).index("stores").id(id).status(status));
+    }
+
+    private static StoreDocument document(Long storeId, LocalDateTime updatedAt) {
+        Store store = TestUtils.createEntity(Store.class, Map.of(
+                "id", storeId,
+                "name", "매장" + storeId,
+                "latitude", 37.5665,
+                "longitude", 126.9780,
+                "updatedAt", updatedAt));
+        return StoreDocument.from(store, null, new float[]{0.1f});
+    }
+}
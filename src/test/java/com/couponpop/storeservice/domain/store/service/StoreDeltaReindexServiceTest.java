@@ -0,0 +1,210 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.couponpopcoremodule.enums.StoreCategory;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreIndexWatermark;
+import com.couponpop.storeservice.domain.store.repository.StoreIndexWatermarkRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import com.couponpop.storeservice.utils.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreDeltaReindexService 테스트")
+class StoreDeltaReindexServiceTest {
+
+    private static final LocalDateTime WATERMARK_AT = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreIndexWatermarkRepository watermarkRepository;
+
+    @Mock
+    private StoreElasticsearchSyncService syncService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreDeltaReindexService deltaReindexService;
+
+    @BeforeEach
+    void setUp() {
+        deltaReindexService = new StoreDeltaReindexService(storeRepository, watermarkRepository, syncService,
+                transactionManager, true, 500, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("워터마크가 없으면 현재 시점으로 초기화하고 매장은 조회하지 않음")
+    void reindexDelta_NoWatermark_InitializesWatermark() {
+        // given
+        given(watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX)).willReturn(Optional.empty());
+
+        // when
+        deltaReindexService.reindexDelta();
+
+        // then
+        ArgumentCaptor<StoreIndexWatermark> captor = ArgumentCaptor.forClass(StoreIndexWatermark.class);
+        then(watermarkRepository).should(times(1)).save(captor.capture());
+        assertThat(captor.getValue().getName()).isEqualTo(StoreIndexWatermark.DELTA_REINDEX);
+        assertThat(captor.getValue().getLastUpdatedAt()).isBefore(LocalDateTime.now());
+        then(storeRepository).should(never()).findSyncStatesUpdatedAfter(any(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("주기 실행이 꺼져 있으면 스케줄은 건너뛰지만, 재색인 후 따라잡기 등 직접 호출은 실행")
+    void reindexDelta_Disabled_SkipsScheduleOnly() {
+        // given
+        StoreDeltaReindexService disabledService = new StoreDeltaReindexService(storeRepository, watermarkRepository,
+                syncService, transactionManager, false, 500, Duration.ofSeconds(10));
+        given(watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX)).willReturn(Optional.empty());
+
+        // when
+        disabledService.scheduledReindexDelta();
+        then(watermarkRepository).shouldHaveNoInteractions();
+        disabledService.reindexDelta();
+
+        // then
+        then(watermarkRepository).should(times(1)).findById(StoreIndexWatermark.DELTA_REINDEX);
+        then(watermarkRepository).should(times(1)).save(any(StoreIndexWatermark.class));
+    }
+
+    @Test
+    @DisplayName("변경된 매장은 색인하고 소프트 삭제된 매장은 문서를 삭제한 뒤 워터마크 전진")
+    void reindexDelta_IndexesChangedAndDeletesRemovedStores() {
+        // given
+        StoreIndexWatermark watermark = StoreIndexWatermark.of(StoreIndexWatermark.DELTA_REINDEX, WATERMARK_AT, 5L);
+        given(watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX)).willReturn(Optional.of(watermark));
+        given(storeRepository.findSyncStatesUpdatedAfter(eq(WATERMARK_AT), eq(5L), any(), eq(500))).willReturn(List.of(
+                state(1L, WATERMARK_AT.plusSeconds(1), null),
+                state(2L, WATERMARK_AT.plusSeconds(2), WATERMARK_AT.plusSeconds(2)),
+                state(3L, WATERMARK_AT.plusSeconds(3), null)));
+        Store store1 = createStore(1L);
+        given(storeRepository.findAllById(List.of(1L, 3L))).willReturn(List.of(store1));
+        given(syncService.findIndexedMemberUsernames(anyCollection())).willReturn(Map.of(1L, "owner"));
+        given(syncService.indexStoresBatch(List.of(store1), Map.of(1L, "owner"))).willReturn(StoreBulkResult.succeeded(1));
+        Map<Long, LocalDateTime> deletes = Map.of(2L, WATERMARK_AT.plusSeconds(2), 3L, WATERMARK_AT.plusSeconds(3));
+        given(syncService.deleteStoresBatch(deletes)).willReturn(StoreBulkResult.succeeded(2));
+
+        // when
+        deltaReindexService.reindexDelta();
+
+        // then
+        then(syncService).should(times(1)).indexStoresBatch(List.of(store1), Map.of(1L, "owner"));
+        then(syncService).should(times(1)).deleteStoresBatch(deletes);
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(WATERMARK_AT.plusSeconds(3));
+        assertThat(watermark.getLastStoreId()).isEqualTo(3L);
+        then(watermarkRepository).should(times(1)).save(watermark);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 매장이 있으면 그 앞까지만 워터마크를 전진하고 중단")
+    void reindexDelta_Failure_AdvancesWatermarkBeforeFailedStore() {
+        // given
+        StoreIndexWatermark watermark = StoreIndexWatermark.of(StoreIndexWatermark.DELTA_REINDEX, WATERMARK_AT, 0L);
+        given(watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX)).willReturn(Optional.of(watermark));
+        given(storeRepository.findSyncStatesUpdatedAfter(eq(WATERMARK_AT), eq(0L), any(), eq(500))).willReturn(List.of(
+                state(1L, WATERMARK_AT.plusSeconds(1), null),
+                state(2L, WATERMARK_AT.plusSeconds(2), null),
+                state(3L, WATERMARK_AT.plusSeconds(3), null)));
+        List<Store> stores = List.of(createStore(1L), createStore(2L), createStore(3L));
+        given(storeRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(stores);
+        given(syncService.findIndexedMemberUsernames(anyCollection())).willReturn(Map.of());
+        given(syncService.indexStoresBatch(eq(stores), anyMap()))
+                .willReturn(new StoreBulkResult(2, Map.of(2L, "429 es_rejected_execution_exception: rejected")));
+
+        // when
+        deltaReindexService.reindexDelta();
+
+        // then
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(WATERMARK_AT.plusSeconds(1));
+        assertThat(watermark.getLastStoreId()).isEqualTo(1L);
+        then(storeRepository).should(times(1)).findSyncStatesUpdatedAfter(any(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 완료 시 워터마크를 재색인 시작 시점 기준으로 전진")
+    void markFullReindexed_AdvancesWatermark() {
+        // given
+        StoreIndexWatermark watermark = StoreIndexWatermark.of(StoreIndexWatermark.DELTA_REINDEX, WATERMARK_AT, 5L);
+        given(watermarkRepository.findById(StoreIndexWatermark.DELTA_REINDEX)).willReturn(Optional.of(watermark));
+        LocalDateTime startedAt = WATERMARK_AT.plusHours(1);
+
+        // when
+        deltaReindexService.markFullReindexed(startedAt);
+
+        // then
+        assertThat(watermark.getLastUpdatedAt()).isEqualTo(startedAt.minusSeconds(10));
+        assertThat(watermark.getLastStoreId()).isZero();
+        then(watermarkRepository).should(times(1)).save(watermark);
+    }
+
+    private static StoreSyncState state(Long id, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        return new StoreSyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return deletedAt;
+            }
+        };
+    }
+
+    private Store createStore(Long storeId) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", storeId);
+        fieldValues.put("memberId", 1L);
+        fieldValues.put("name", "스타벅스 홍대점");
+        fieldValues.put("phone", "02123456789");
+        fieldValues.put("description", "홍대 중심가에 위치한 스타벅스입니다.");
+        fieldValues.put("businessNumber", "1234567890");
+        fieldValues.put("address", "서울시 마포구 홍익로 123");
+        fieldValues.put("dong", "홍대동");
+        fieldValues.put("latitude", 37.5665);
+        fieldValues.put("longitude", 126.9780);
+        fieldValues.put("imageUrl", "https://example.com/store-image.jpg");
+        fieldValues.put("storeCategory", StoreCategory.CAFE);
+        fieldValues.put("weekdayOpenTime", LocalTime.of(7, 0));
+        fieldValues.put("weekdayCloseTime", LocalTime.of(22, 0));
+        fieldValues.put("weekendOpenTime", LocalTime.of(8, 0));
+        fieldValues.put("weekendCloseTime", LocalTime.of(23, 0));
+
+        return TestUtils.createEntity(Store.class, fieldValues);
+    }
+}
@@ -3,9 +3,8 @@ package com.couponpop.storeservice.domain.store.service;
 import com.couponpop.storeservice.domain.store.document.StoreDocument;
 import com.couponpop.storeservice.domain.store.entity.Store;
 import com.couponpop.couponpopcoremodule.enums.StoreCategory;
-import com.couponpop.storeservice.domain.store.repository.StoreSearchRepository;
 import com.couponpop.storeservice.utils.TestUtils;
-import com.couponpop.storeservice.external.openai.service.OpenAIEmbeddingService;
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,184 +12,130 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StoreElasticsearchSyncService 테스트")
 class StoreElasticsearchSyncServiceTest {
 
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+    @Mock
+    private EmbeddingProvider embeddingProvider;
+
     @Mock
-    private StoreSearchRepository storeSearchRepository;
+    private ElasticsearchOperations elasticsearchOperations;
 
     @Mock
-    private OpenAIEmbeddingService openAIEmbeddingService;
+    private StoreBulkIndexer storeBulkIndexer;
 
     @InjectMocks
     private StoreElasticsearchSyncService elasticsearchSyncService;
 
-    private void mockEmbeddingGeneration() {
-        given(openAIEmbeddingService.generateEmbedding(anyString()))
-                .willReturn(Collections.singletonList(0.1f));
-    }
-
     @Test
-    @DisplayName("매장 생성 시 Elasticsearch에 인덱싱 성공")
-    void indexStore_Success() {
+    @DisplayName("임베딩 텍스트 외 필드만 바뀐 매장도 색인된 문서를 읽지 않고 DB 상태의 전체 문서를 외부 버전 기준으로 색인")
+    void indexStoresBatch_FieldOnlyChange_IndexesWithoutReadingIndex() {
         // given
-        Long memberId = 1L;
-        String memberUsername = "testuser";
-        Store store = createStore(memberId);
-        mockEmbeddingGeneration();
-
-        StoreDocument document = StoreDocument.from(store);
-        given(storeSearchRepository.save(any(StoreDocument.class))).willReturn(document);
+        Store store = createStore(1L);
+        ReflectionTestUtils.setField(store, "phone", "0299998888");
+        ReflectionTestUtils.setField(store, "updatedAt", UPDATED_AT);
+        given(embeddingProvider.generateEmbeddings(anyList())).willReturn(List.of(new float[]{0.1f, 0.2f}));
+        given(storeBulkIndexer.index(anyList())).willReturn(StoreBulkResult.succeeded(1));
 
         // when
-        elasticsearchSyncService.indexStore(store, memberUsername);
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(List.of(store), Map.of(1L, "owner"));
 
         // then
-        then(storeSearchRepository).should(times(1)).save(any(StoreDocument.class));
-    }
-
-    @Test
-    @DisplayName("매장 생성 시 Elasticsearch 인덱싱 실패해도 예외 발생하지 않음")
-    void indexStore_ExceptionDoesNotPropagate() {
-        // given
-        Long memberId = 1L;
-        String memberUsername = "testuser";
-        Store store = createStore(memberId);
-        mockEmbeddingGeneration();
-
-        given(storeSearchRepository.save(any(StoreDocument.class)))
-                .willThrow(new RuntimeException("Elasticsearch error"));
-
-        // when & then
-        // 예외가 발생하지 않아야 함
-        elasticsearchSyncService.indexStore(store, memberUsername);
-
-        then(storeSearchRepository).should(times(1)).save(any(StoreDocument.class));
+        assertThat(result.hasFailures()).isFalse();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoreDocument>> captor = ArgumentCaptor.forClass(List.class);
+        then(storeBulkIndexer).should(times(1)).index(captor.capture());
+        StoreDocument document = captor.getValue().get(0);
+        assertThat(document.getPhone()).isEqualTo("0299998888");
+        assertThat(document.getUpdatedAt()).isEqualTo(UPDATED_AT);
+        assertThat(document.getEmbedding()).containsExactly(0.1f, 0.2f);
+        assertThat(document.getMemberUsername()).isEqualTo("owner");
+        then(elasticsearchOperations).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("매장 수정 시 Elasticsearch 업데이트 성공")
-    void updateStore_Success() {
+    @DisplayName("매장 문서 일괄 삭제 - 삭제 시점 수정일시와 함께 한 번의 bulk 삭제")
+    void deleteStoresBatch_Success() {
         // given
-        Long memberId = 1L;
-        String memberUsername = "testuser";
-        Store store = createStore(memberId);
-        mockEmbeddingGeneration();
-        store.updateStoreInfo(
-                "스타벅스 홍대점 (수정)",
-                "02123456789",
-                "수정된 설명",
-                "1234567890",
-                "서울시 마포구 홍익로 124",
-                "홍대동",
-                37.5666,
-                126.9781,
-                "https://example.com/updated.jpg",
-                StoreCategory.CAFE,
-                LocalTime.of(8, 0),
-                LocalTime.of(23, 0),
-                LocalTime.of(9, 0),
-                LocalTime.of(23, 30)
-        );
-
-        StoreDocument document = StoreDocument.from(store);
-        given(storeSearchRepository.save(any(StoreDocument.class))).willReturn(document);
+        Map<Long, LocalDateTime> deletes = Map.of(1L, UPDATED_AT, 2L, UPDATED_AT);
+        given(storeBulkIndexer.delete(deletes)).willReturn(StoreBulkResult.succeeded(2));
 
         // when
-        elasticsearchSyncService.updateStore(store, memberUsername);
+        StoreBulkResult result = elasticsearchSyncService.deleteStoresBatch(deletes);
 
         // then
-        then(storeSearchRepository).should(times(1)).save(any(StoreDocument.class));
+        assertThat(result.succeeded()).isEqualTo(2);
+        then(storeBulkIndexer).should(times(1)).delete(deletes);
+        then(elasticsearchOperations).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("매장 수정 시 Elasticsearch 업데이트 실패해도 예외 발생하지 않음")
-    void updateStore_ExceptionDoesNotPropagate() {
+    @DisplayName("매장 문서 일괄 삭제 - 실패한 매장 ID 반환 (아웃박스 재시도 대상)")
+    void deleteStoresBatch_ItemFailure_ReturnsFailedStores() {
         // given
-        Long memberId = 1L;
-        String memberUsername = "testuser";
-        Store store = createStore(memberId);
-        mockEmbeddingGeneration();
-
-        given(storeSearchRepository.save(any(StoreDocument.class)))
-                .willThrow(new RuntimeException("Elasticsearch error"));
-
-        // when & then
-        // 예외가 발생하지 않아야 함
-        elasticsearchSyncService.updateStore(store, memberUsername);
-
-        then(storeSearchRepository).should(times(1)).save(any(StoreDocument.class));
-    }
-
-    @Test
-    @DisplayName("매장 삭제 시 Elasticsearch에서 삭제 성공")
-    void deleteStore_Success() {
-        // given
-        Long storeId = 1L;
+        Map<Long, LocalDateTime> deletes = Map.of(1L, UPDATED_AT, 2L, UPDATED_AT);
+        given(storeBulkIndexer.delete(deletes))
+                .willReturn(new StoreBulkResult(1, Map.of(1L, "503 unavailable_shards_exception: primary shard is not active")));
 
         // when
-        elasticsearchSyncService.deleteStore(storeId);
+        StoreBulkResult result = elasticsearchSyncService.deleteStoresBatch(deletes);
 
         // then
-        then(storeSearchRepository).should(times(1)).deleteByStoreId(storeId);
+        assertThat(result.failedIds()).containsExactly(1L);
     }
 
     @Test
-    @DisplayName("매장 삭제 시 Elasticsearch 삭제 실패해도 예외 발생하지 않음")
-    void deleteStore_ExceptionDoesNotPropagate() {
-        // given
-        Long storeId = 1L;
-        doThrow(new RuntimeException("Elasticsearch error"))
-                .when(storeSearchRepository).deleteByStoreId(storeId);
-
-        // when & then
-        // 예외가 발생하지 않아야 함
-        elasticsearchSyncService.deleteStore(storeId);
+    @DisplayName("매장 문서 일괄 삭제 - 삭제할 매장이 없으면 요청하지 않음")
+    void deleteStoresBatch_EmptyList() {
+        // when
+        StoreBulkResult result = elasticsearchSyncService.deleteStoresBatch(Map.of());
 
-        then(storeSearchRepository).should(times(1)).deleteByStoreId(storeId);
+        // then
+        assertThat(result.hasFailures()).isFalse();
+        then(storeBulkIndexer).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("다양한 카테고리 매장 인덱싱 성공")
-    void indexStore_DifferentCategories_Success() {
+    @DisplayName("배치 인덱싱 시 매장별 소유자 사용자명을 문서에 저장")
+    void indexStoresBatch_WithMemberUsernames() {
         // given
-        Long memberId = 1L;
-        String memberUsername = "testuser";
-        mockEmbeddingGeneration();
-        
-        Store cafeStore = createStoreWithCategory(memberId, StoreCategory.CAFE);
-        Store foodStore = createStoreWithCategory(memberId, StoreCategory.FOOD);
-        Store convenienceStore = createStoreWithCategory(memberId, StoreCategory.CONVENIENCE);
-
-        given(storeSearchRepository.save(any(StoreDocument.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        List<Store> stores = List.of(createStore(1L, 1L, "매장1"), createStore(1L, 2L, "매장2"));
+        given(embeddingProvider.generateEmbeddings(anyList()))
+                .willReturn(List.of(new float[]{0.1f}, new float[]{0.2f}));
+        given(storeBulkIndexer.index(anyList())).willReturn(StoreBulkResult.succeeded(stores.size()));
 
         // when
-        elasticsearchSyncService.indexStore(cafeStore, memberUsername);
-        elasticsearchSyncService.indexStore(foodStore, memberUsername);
-        elasticsearchSyncService.indexStore(convenienceStore, memberUsername);
+        elasticsearchSyncService.indexStoresBatch(stores, Map.of(1L, "owner1"));
 
         // then
-        then(storeSearchRepository).should(times(3)).save(any(StoreDocument.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoreDocument>> captor = ArgumentCaptor.forClass(List.class);
+        then(storeBulkIndexer).should().index(captor.capture());
+
+        List<StoreDocument> savedDocuments = captor.getValue();
+        assertThat(savedDocuments.get(0).getMemberUsername()).isEqualTo("owner1");
+        assertThat(savedDocuments.get(1).getMemberUsername()).isNull();
     }
 
     @Test
@@ -203,70 +148,121 @@ class StoreElasticsearchSyncServiceTest {
                 createStore(memberId, 2L, "매장2")
         );
 
-        given(openAIEmbeddingService.generateEmbeddings(anyList()))
+        given(embeddingProvider.generateEmbeddings(anyList()))
                 .willReturn(List.of(
-                        Collections.singletonList(0.1f),
-                        Collections.singletonList(0.2f)
+                        new float[]{0.1f},
+                        new float[]{0.2f}
                 ));
-        given(storeSearchRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(storeBulkIndexer.index(anyList())).willReturn(StoreBulkResult.succeeded(stores.size()));
 
         // when
-        int processed = elasticsearchSyncService.indexStoresBatch(stores);
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(stores);
 
         // then
-        assertThat(processed).isEqualTo(stores.size());
-        then(openAIEmbeddingService).should(times(1)).generateEmbeddings(anyList());
-        then(storeSearchRepository).should(times(1)).saveAll(anyList());
+        assertThat(result.succeeded()).isEqualTo(stores.size());
+        assertThat(result.hasFailures()).isFalse();
+        then(embeddingProvider).should(times(1)).generateEmbeddings(anyList());
+        then(storeBulkIndexer).should(times(1)).index(anyList());
     }
 
     @Test
     @DisplayName("배치 인덱싱 - 처리할 매장이 없으면 바로 종료")
     void indexStoresBatch_EmptyList_ReturnsZero() {
         // when
-        int processed = elasticsearchSyncService.indexStoresBatch(Collections.emptyList());
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(Collections.emptyList());
 
         // then
-        assertThat(processed).isZero();
-        then(openAIEmbeddingService).shouldHaveNoInteractions();
-        then(storeSearchRepository).shouldHaveNoInteractions();
+        assertThat(result.succeeded()).isZero();
+        assertThat(result.hasFailures()).isFalse();
+        then(embeddingProvider).shouldHaveNoInteractions();
+        then(storeBulkIndexer).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("배치 인덱싱 - 임베딩 개수가 부족해도 null로 저장")
-    void indexStoresBatch_EmbeddingsMismatch_SavesWithNullEmbedding() {
+    @DisplayName("배치 인덱싱 - 임베딩을 받지 못한 매장은 색인하지 않고 매장별 실패로 반환")
+    void indexStoresBatch_MissingEmbedding_ReportsStoreAsFailed() {
         // given
         Long memberId = 1L;
         List<Store> stores = List.of(
                 createStore(memberId, 1L, "매장1"),
-                createStore(memberId, 2L, "매장2")
+                createStore(memberId, 2L, "매장2"),
+                createStore(memberId, 3L, "매장3")
         );
 
-        given(openAIEmbeddingService.generateEmbeddings(anyList()))
-                .willReturn(List.of(Collections.singletonList(0.1f)));
+        given(embeddingProvider.generateEmbeddings(anyList()))
+                .willReturn(Arrays.asList(new float[]{0.1f}, null, new float[0]));
 
-        given(storeSearchRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(storeBulkIndexer.index(anyList())).willReturn(StoreBulkResult.succeeded(1));
 
         // when
-        int processed = elasticsearchSyncService.indexStoresBatch(stores);
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(stores);
 
         // then
-        assertThat(processed).isEqualTo(stores.size());
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failedIds()).containsExactlyInAnyOrder(2L, 3L);
 
         @SuppressWarnings("unchecked")
-        ArgumentCaptor<Iterable<StoreDocument>> captor = ArgumentCaptor.forClass(Iterable.class);
-        then(storeSearchRepository).should().saveAll(captor.capture());
+        ArgumentCaptor<List<StoreDocument>> captor = ArgumentCaptor.forClass(List.class);
+        then(storeBulkIndexer).should().index(captor.capture());
 
-        List<StoreDocument> savedDocuments = StreamSupport.stream(captor.getValue().spliterator(), false)
-                .toList();
+        List<StoreDocument> savedDocuments = captor.getValue();
+        assertThat(savedDocuments).hasSize(1);
+        assertThat(savedDocuments.get(0).getStoreId()).isEqualTo(1L);
+        assertThat(savedDocuments.get(0).getEmbedding()).containsExactly(0.1f);
+    }
+
+    @Test
+    @DisplayName("배치 인덱싱 - 임베딩을 하나도 받지 못하면 색인 요청 없이 모든 매장을 실패로 반환")
+    void indexStoresBatch_AllEmbeddingsMissing_SkipsIndexing() {
+        // given
+        Long memberId = 1L;
+        List<Store> stores = List.of(
+                createStore(memberId, 1L, "매장1"),
+                createStore(memberId, 2L, "매장2")
+        );
+
+        given(embeddingProvider.generateEmbeddings(anyList()))
+                .willReturn(Arrays.asList(null, null));
+
+        // when
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(stores);
+
+        // then
+        assertThat(result.succeeded()).isZero();
+        assertThat(result.failedIds()).containsExactlyInAnyOrder(1L, 2L);
+        then(storeBulkIndexer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치 인덱싱 - bulk 항목 단위 실패는 매장별 실패 사유로 반환")
+    void indexStoresBatch_ItemFailures_ReturnsFailedStores() {
+        // given
+        Long memberId = 1L;
+        List<Store> stores = List.of(
+                createStore(memberId, 1L, "매장1"),
+                createStore(memberId, 2L, "매장2")
+        );
+
+        given(embeddingProvider.generateEmbeddings(anyList()))
+                .willReturn(List.of(
+                        new float[]{0.1f},
+                        new float[]{0.2f}
+                ));
+        given(storeBulkIndexer.index(anyList()))
+                .willReturn(new StoreBulkResult(1, Map.of(2L, "400 mapper_parsing_exception: failed to parse")));
 
-        assertThat(savedDocuments).hasSize(stores.size());
-        assertThat(savedDocuments.get(0).getEmbedding()).isEqualTo(Collections.singletonList(0.1f));
-        assertThat(savedDocuments.get(1).getEmbedding()).isNull();
+        // when
+        StoreBulkResult result = elasticsearchSyncService.indexStoresBatch(stores);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failedIds()).containsExactly(2L);
+        assertThat(result.failures().get(2L)).contains("mapper_parsing_exception");
     }
 
     @Test
-    @DisplayName("배치 인덱싱 - 저장 실패 시 예외 전파")
-    void indexStoresBatch_SaveAllThrows_ExceptionPropagates() {
+    @DisplayName("배치 인덱싱 - 색인 요청 중 예외 발생 시 예외 전파")
+    void indexStoresBatch_IndexerThrows_ExceptionPropagates() {
         // given
         Long memberId = 1L;
         List<Store> stores = List.of(
@@ -274,12 +270,12 @@ class StoreElasticsearchSyncServiceTest {
                 createStore(memberId, 2L, "매장2")
         );
 
-        given(openAIEmbeddingService.generateEmbeddings(anyList()))
+        given(embeddingProvider.generateEmbeddings(anyList()))
                 .willReturn(List.of(
-                        Collections.singletonList(0.1f),
-                        Collections.singletonList(0.2f)
+                        new float[]{0.1f},
+                        new float[]{0.2f}
                 ));
-        given(storeSearchRepository.saveAll(anyList()))
+        given(storeBulkIndexer.index(anyList()))
                 .willThrow(new RuntimeException("Elasticsearch error"));
 
         // when & then
@@ -331,27 +327,5 @@ class StoreElasticsearchSyncServiceTest {
         
         return TestUtils.createEntity(Store.class, fieldValues);
     }
-
-    private Store createStoreWithCategory(Long memberId, StoreCategory category) {
-        Map<String, Object> fieldValues = new HashMap<>();
-        fieldValues.put("id", 1L);
-        fieldValues.put("memberId", memberId);
-        fieldValues.put("name", "테스트 매장");
-        fieldValues.put("phone", "02123456789");
-        fieldValues.put("description", "테스트 매장입니다.");
-        fieldValues.put("businessNumber", "1234567890");
-        fieldValues.put("address", "서울시 테스트구");
-        fieldValues.put("dong", "테스트동");
-        fieldValues.put("latitude", 37.5665);
-        fieldValues.put("longitude", 126.9780);
-        fieldValues.put("imageUrl", "https://example.com/image.jpg");
-        fieldValues.put("storeCategory", category);
-        fieldValues.put("weekdayOpenTime", LocalTime.of(9, 0));
-        fieldValues.put("weekdayCloseTime", LocalTime.of(22, 0));
-        fieldValues.put("weekendOpenTime", LocalTime.of(10, 0));
-        fieldValues.put("weekendCloseTime", LocalTime.of(23, 0));
-        
-        return TestUtils.createEntity(Store.class, fieldValues);
-    }
 }
 
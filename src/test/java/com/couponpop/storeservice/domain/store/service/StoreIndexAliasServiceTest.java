@@ -0,0 +1,177 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import com.couponpop.storeservice.utils.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreIndexAliasService 테스트")
+class StoreIndexAliasServiceTest {
+
+    private static final String ALIAS = "stores";
+    private static final String INDEX_NAME = "stores_v2";
+    private static final int DIMENSION = 3;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_000_000);
+    private static final LocalDateTime STARTED_AT = UPDATED_AT.plusMinutes(10);
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private StoreIndexMappingService mappingService;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private StoreIndexAliasService aliasService;
+
+    @BeforeEach
+    void setUp() {
+        aliasService = new StoreIndexAliasService(elasticsearchOperations, mappingService, storeRepository, 1, 0.99, 1.0, 50);
+        given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willReturn(indexOperations);
+    }
+
+    @Test
+    @DisplayName("문서 수와 벡터가 있는 문서 수, 표본 문서의 벡터 차원이 모두 맞으면 검증 통과")
+    void validate_AllDocumentsEmbedded_Passes() {
+        // given
+        givenCounts(2L, 2L);
+        givenSamples(document(1L, new float[]{0.1f, 0.2f, 0.3f}), document(2L, new float[]{0.4f, 0.5f, 0.6f}));
+
+        // when & then
+        assertThatCode(() -> aliasService.validate(INDEX_NAME, 2, STARTED_AT)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("벡터가 있는 문서 수가 색인 성공 수에 못 미치면 교체하지 않음")
+    void validate_MissingEmbeddings_Fails() {
+        // given
+        givenCounts(2L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> aliasService.validate(INDEX_NAME, 2, STARTED_AT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Embedded document count 1");
+    }
+
+    @Test
+    @DisplayName("표본 문서의 벡터가 없거나 설정한 차원과 다르면 교체하지 않음")
+    void validate_SpotCheckInvalidEmbedding_Fails() {
+        // given
+        givenCounts(2L, 2L);
+        givenSamples(document(1L, new float[]{0.1f, 0.2f, 0.3f}), document(2L, new float[]{0.4f}));
+
+        // when & then
+        assertThatThrownBy(() -> aliasService.validate(INDEX_NAME, 2, STARTED_AT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("invalidEmbedding=[2]");
+    }
+
+    @Test
+    @DisplayName("현재 인덱스에 있는 소유자 사용자명이 새 인덱스 표본 문서에 없으면 교체하지 않음")
+    void validate_SpotCheckMissingMemberUsername_Fails() {
+        // given
+        givenCounts(2L, 2L);
+        givenSampleStates(document(1L, new float[]{0.1f, 0.2f, 0.3f}), document(2L, new float[]{0.4f, 0.5f, 0.6f}));
+        given(indexOperations.exists()).willReturn(true);
+        given(elasticsearchOperations.multiGet(any(Query.class), eq(StoreDocument.class), any(IndexCoordinates.class)))
+                .willReturn(
+                        items(document(1L, new float[]{0.1f, 0.2f, 0.3f}), document(2L, new float[]{0.4f, 0.5f, 0.6f}, "owner2")),
+                        items(document(1L, null, "owner1"), document(2L, null, "owner2")));
+
+        // when & then
+        assertThatThrownBy(() -> aliasService.validate(INDEX_NAME, 2, STARTED_AT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missingMemberUsername=[1]");
+    }
+
+    private void givenCounts(long documentCount, long embeddedCount) {
+        given(elasticsearchOperations.count(any(Query.class), eq(StoreDocument.class), any(IndexCoordinates.class)))
+                .willReturn(documentCount, embeddedCount);
+        given(storeRepository.count()).willReturn(documentCount);
+    }
+
+    private void givenSamples(StoreDocument... documents) {
+        givenSampleStates(documents);
+        given(elasticsearchOperations.multiGet(any(Query.class), eq(StoreDocument.class), any(IndexCoordinates.class)))
+                .willReturn(items(documents));
+    }
+
+    private void givenSampleStates(StoreDocument... documents) {
+        List<StoreSyncState> states = Arrays.stream(documents)
+                .map(document -> state(document.getStoreId()))
+                .toList();
+        given(mappingService.getEmbeddingDimension()).willReturn(DIMENSION);
+        given(mappingService.aliasName()).willReturn(ALIAS);
+        given(storeRepository.findMaxIdIncludingDeleted()).willReturn((long) documents.length);
+        given(storeRepository.findSyncStatesAfter(anyLong(), anyInt())).willReturn(states);
+    }
+
+    private static List<MultiGetItem<StoreDocument>> items(StoreDocument... documents) {
+        return Arrays.stream(documents)
+                .map(document -> MultiGetItem.of(document, null))
+                .toList();
+    }
+
+    private static StoreSyncState state(Long id) {
+        return new StoreSyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return UPDATED_AT;
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return null;
+            }
+        };
+    }
+
+    private static StoreDocument document(Long storeId, float[] embedding) {
+        return document(storeId, embedding, null);
+    }
+
+    private static StoreDocument document(Long storeId, float[] embedding, String memberUsername) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", String.valueOf(storeId));
+        fieldValues.put("storeId", storeId);
+        fieldValues.put("updatedAt", UPDATED_AT);
+        fieldValues.put("embedding", embedding);
+        fieldValues.put("memberUsername", memberUsername);
+        return TestUtils.createEntity(StoreDocument.class, fieldValues);
+    }
+}
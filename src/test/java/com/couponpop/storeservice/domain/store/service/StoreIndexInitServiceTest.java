@@ -1,30 +1,47 @@
 package com.couponpop.storeservice.domain.store.service;
 
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
 import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJob;
 import com.couponpop.couponpopcoremodule.enums.StoreCategory;
 import com.couponpop.storeservice.domain.store.repository.StoreRepository;
 import com.couponpop.storeservice.domain.store.repository.StoreSearchRepository;
 import com.couponpop.storeservice.utils.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -32,6 +49,12 @@ import static org.mockito.Mockito.verifyNoInteractions;
 @DisplayName("StoreIndexInitService 테스트")
 class StoreIndexInitServiceTest {
 
+    private static final String NEW_INDEX = "stores_v2";
+    private static final Long JOB_ID = 7L;
+    private static final Long CHECKPOINT_ID = 10L;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 1, 15, 10, 0);
+    private static final int MAX_RESUME_ATTEMPTS = 3;
+
     @Mock
     private StoreRepository storeRepository;
 
@@ -41,9 +64,24 @@ class StoreIndexInitServiceTest {
     @Mock
     private StoreElasticsearchSyncService syncService;
 
-    @InjectMocks
+    @Mock
+    private StoreDeltaReindexService deltaReindexService;
+
+    @Mock
+    private StoreIndexAliasService storeIndexAliasService;
+
+    @Mock
+    private StoreReindexCheckpointService checkpointService;
+
     private StoreIndexInitService storeIndexInitService;
 
+    @BeforeEach
+    void setUp() {
+        storeIndexInitService = new StoreIndexInitService(storeRepository, storeSearchRepository, syncService,
+                deltaReindexService, storeIndexAliasService, checkpointService, new SyncTaskExecutor(),
+                2, 2, 2, 2, false, MAX_RESUME_ATTEMPTS);
+    }
+
     @Test
     @DisplayName("전체 매장 재색인 성공")
     void reindexAllStores_Success() {
@@ -56,13 +94,48 @@ class StoreIndexInitServiceTest {
         );
 
         given(storeRepository.streamAll()).willReturn(stores.stream());
-        given(syncService.indexStoresBatch(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), any())).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
         // when
         storeIndexInitService.reindexAllStores();
 
         // then
         then(storeRepository).should(times(1)).streamAll();
-        then(syncService).should(times(1)).indexStoresBatch(anyList());
+        then(syncService).should(times(1)).indexDocuments(anyList(), any());
+        then(deltaReindexService).should(times(1)).markFullReindexed(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("전체 매장 재색인 - 색인된 소유자 사용자명을 배치마다 읽어 문서에 유지")
+    void reindexAllStores_KeepsIndexedMemberUsernames() {
+        // given
+        List<Store> stores = List.of(createStore(1L, 1L, "스타벅스 홍대점"), createStore(1L, 2L, "카페베네"));
+        Map<Long, String> memberUsernames = Map.of(1L, "owner1", 2L, "owner2");
+        given(storeRepository.streamAll()).willReturn(stores.stream());
+        given(syncService.findIndexedMemberUsernames(List.of(1L, 2L))).willReturn(memberUsernames);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), any())).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
+
+        // when
+        storeIndexInitService.reindexAllStores();
+
+        // then
+        then(syncService).should(times(1)).buildDocuments(stores, memberUsernames);
+    }
+
+    @Test
+    @DisplayName("전체 매장 재색인 - 소유자 사용자명을 읽지 못하면 사용자명을 지우지 않도록 색인하지 않음")
+    void reindexAllStores_MemberUsernameLookupFails_SkipsIndexing() {
+        // given
+        List<Store> stores = List.of(createStore(1L, 1L, "스타벅스 홍대점"));
+        given(storeRepository.streamAll()).willReturn(stores.stream());
+        given(syncService.findIndexedMemberUsernames(List.of(1L))).willThrow(new RuntimeException("Elasticsearch error"));
+
+        // when & then
+        assertThatThrownBy(() -> storeIndexInitService.reindexAllStores())
+                .isInstanceOf(RuntimeException.class);
+        then(syncService).should(never()).buildDocuments(anyList(), anyMap());
+        then(syncService).should(never()).indexDocuments(anyList(), any());
     }
 
     @Test
@@ -87,8 +160,9 @@ class StoreIndexInitServiceTest {
         List<Store> stores = Arrays.asList(createStore(memberId, 1L, "스타벅스 홍대점"));
 
         given(storeRepository.streamAll()).willReturn(stores.stream());
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
         doThrow(new RuntimeException("Elasticsearch error"))
-                .when(syncService).indexStoresBatch(anyList());
+                .when(syncService).indexDocuments(anyList(), any());
 
         // when & then
         assertThatThrownBy(() -> storeIndexInitService.reindexAllStores())
@@ -96,7 +170,8 @@ class StoreIndexInitServiceTest {
                 .hasMessageContaining("Reindexing failed");
 
         then(storeRepository).should(times(1)).streamAll();
-        then(syncService).should(times(1)).indexStoresBatch(anyList());
+        then(syncService).should(times(1)).indexDocuments(anyList(), any());
+        then(deltaReindexService).should(never()).markFullReindexed(any());
     }
 
     @Test
@@ -111,7 +186,9 @@ class StoreIndexInitServiceTest {
         );
 
         given(storeRepository.streamAll()).willReturn(stores.stream());
-        given(syncService.indexStoresBatch(anyList())).willReturn(stores.size() - 1);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), any()))
+                .willReturn(new StoreBulkResult(stores.size() - 1, Map.of(3L, "429 es_rejected_execution_exception: rejected")));
 
         // when & then
         assertThatThrownBy(() -> storeIndexInitService.reindexAllStores())
@@ -119,7 +196,51 @@ class StoreIndexInitServiceTest {
                 .hasMessageContaining("Reindexing failed");
 
         then(storeRepository).should(times(1)).streamAll();
-        then(syncService).should(times(1)).indexStoresBatch(anyList());
+        then(syncService).should(times(1)).indexDocuments(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("전체 매장 재색인 - 임베딩 생성 실패 시 색인하지 않고 예외 전파")
+    void reindexAllStores_EmbeddingError_ThrowsException() {
+        // given
+        Long memberId = 1L;
+        List<Store> stores = Arrays.asList(createStore(memberId, 1L, "스타벅스 홍대점"));
+
+        given(storeRepository.streamAll()).willReturn(stores.stream());
+        given(syncService.buildDocuments(anyList(), anyMap())).willThrow(new RuntimeException("OpenAI error"));
+
+        // when & then
+        assertThatThrownBy(() -> storeIndexInitService.reindexAllStores())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Reindexing failed");
+
+        then(syncService).should(never()).indexDocuments(anyList(), any());
+        then(deltaReindexService).should(never()).markFullReindexed(any());
+    }
+
+    @Test
+    @DisplayName("전체 매장 재색인 - 임베딩을 받지 못한 매장은 벡터 없이 색인하지 않고 실패로 집계")
+    void reindexAllStores_MissingEmbedding_FailsWithoutIndexingStore() {
+        // given
+        Long memberId = 1L;
+        List<Store> stores = Arrays.asList(
+                createStore(memberId, 1L, "스타벅스 홍대점"),
+                createStore(memberId, 2L, "투썸플레이스 강남점"));
+        StoreDocuments built = new StoreDocuments(
+                List.of(StoreDocument.from(stores.get(0), null, new float[]{0.1f})),
+                Map.of(2L, "Embedding generation failed"));
+
+        given(storeRepository.streamAll()).willReturn(stores.stream());
+        given(syncService.buildDocuments(anyList(), anyMap())).willReturn(built);
+        given(syncService.indexDocuments(anyList(), any())).willReturn(StoreBulkResult.succeeded(1));
+
+        // when & then
+        assertThatThrownBy(() -> storeIndexInitService.reindexAllStores())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Reindexing failed");
+
+        then(syncService).should(times(1)).indexDocuments(eq(built.documents()), any());
+        then(deltaReindexService).should(never()).markFullReindexed(any());
     }
 
     @Test
@@ -148,7 +269,7 @@ class StoreIndexInitServiceTest {
     }
 
     @Test
-    @DisplayName("전체 재색인 (삭제 후 재생성) 성공")
+    @DisplayName("전체 재색인 (새 인덱스 생성 후 별칭 교체) 성공")
     void fullReindex_Success() {
         // given
         Long memberId = 1L;
@@ -157,15 +278,25 @@ class StoreIndexInitServiceTest {
                 createStore(memberId, 2L, "카페베네")
         );
 
-        given(storeRepository.streamAll()).willReturn(stores.stream());
-        given(syncService.indexStoresBatch(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        givenNewJob(2L);
+        givenRange(0L, 2L, stores);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), eq(NEW_INDEX))).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
+        given(checkpointService.countIndexed(JOB_ID)).willReturn((long) stores.size());
         // when
         storeIndexInitService.fullReindex();
 
         // then
-        then(storeSearchRepository).should(times(1)).deleteAll();
-        then(storeRepository).should(times(1)).streamAll();
-        then(syncService).should(times(1)).indexStoresBatch(anyList());
+        then(storeSearchRepository).should(never()).deleteAll();
+        then(storeRepository).should(never()).streamAll();
+        then(syncService).should(times(1)).indexDocuments(anyList(), eq(NEW_INDEX));
+        then(checkpointService).should(atLeastOnce()).saveProgress(eq(JOB_ID), eq(CHECKPOINT_ID), eq(2L), anyLong(), eq(true));
+        then(storeIndexAliasService).should(times(1)).validate(NEW_INDEX, stores.size(), STARTED_AT);
+        then(storeIndexAliasService).should(times(1)).swap(NEW_INDEX);
+        then(deltaReindexService).should(times(1)).markFullReindexed(STARTED_AT);
+        then(deltaReindexService).should(times(1)).reindexDelta();
+        then(storeIndexAliasService).should(times(1)).deleteOldIndices(NEW_INDEX);
+        then(checkpointService).should(times(1)).complete(JOB_ID);
     }
 
     @Test
@@ -179,15 +310,182 @@ class StoreIndexInitServiceTest {
                 createStoreWithCategory(memberId, 3L, "편의점", StoreCategory.CONVENIENCE)
         );
 
-        given(storeRepository.streamAll()).willReturn(stores.stream());
-        given(syncService.indexStoresBatch(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        givenNewJob(3L);
+        givenRange(0L, 3L, stores);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), eq(NEW_INDEX))).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
+        given(checkpointService.countIndexed(JOB_ID)).willReturn((long) stores.size());
         // when
         storeIndexInitService.fullReindex();
 
         // then
-        then(storeSearchRepository).should(times(1)).deleteAll();
-        then(storeRepository).should(times(1)).streamAll();
-        then(syncService).should(times(1)).indexStoresBatch(anyList());
+        then(storeSearchRepository).should(never()).deleteAll();
+        then(syncService).should(times(1)).indexDocuments(anyList(), eq(NEW_INDEX));
+        then(storeIndexAliasService).should(times(1)).validate(NEW_INDEX, stores.size(), STARTED_AT);
+        then(storeIndexAliasService).should(times(1)).swap(NEW_INDEX);
+        then(deltaReindexService).should(times(1)).markFullReindexed(STARTED_AT);
+        then(deltaReindexService).should(times(1)).reindexDelta();
+        then(storeIndexAliasService).should(times(1)).deleteOldIndices(NEW_INDEX);
+        then(checkpointService).should(times(1)).complete(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 검증 실패 시 별칭을 교체하지 않고 새 인덱스 삭제")
+    void fullReindex_ValidationFails_KeepsCurrentIndex() {
+        // given
+        List<Store> stores = Arrays.asList(createStore(1L, 1L, "스타벅스 홍대점"));
+
+        givenNewJob(1L);
+        givenRange(0L, 1L, stores);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), eq(NEW_INDEX))).willReturn(StoreBulkResult.succeeded(1));
+        given(checkpointService.countIndexed(JOB_ID)).willReturn(1L);
+        willThrow(new IllegalStateException("Spot check failed"))
+                .given(storeIndexAliasService).validate(NEW_INDEX, 1, STARTED_AT);
+
+        // when & then
+        assertThatThrownBy(() -> storeIndexInitService.fullReindex())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Full reindex failed");
+
+        then(storeIndexAliasService).should(times(1)).deleteIndex(NEW_INDEX);
+        then(checkpointService).should(times(1)).fail(JOB_ID);
+        then(storeIndexAliasService).should(never()).swap(any());
+        then(deltaReindexService).should(never()).markFullReindexed(any());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 색인 실패 구간이 있으면 인덱스와 체크포인트를 유지하고 미완료로 종료")
+    void fullReindex_IndexingFails_KeepsCheckpointsForResume() {
+        // given
+        List<Store> stores = Arrays.asList(createStore(1L, 1L, "스타벅스 홍대점"));
+
+        givenNewJob(1L);
+        givenRange(0L, 1L, stores);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), eq(NEW_INDEX)))
+                .willReturn(StoreBulkResult.failed(List.of(1L), "429 es_rejected_execution_exception: rejected"));
+
+        // when & then
+        assertThatThrownBy(() -> storeIndexInitService.fullReindex())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Full reindex incomplete");
+
+        then(checkpointService).should(never()).saveProgress(any(), any(), any(), anyLong(), eq(true));
+        then(storeIndexAliasService).should(never()).validate(any(), anyInt(), any());
+        then(storeIndexAliasService).should(never()).deleteIndex(any());
+        then(checkpointService).should(never()).fail(any());
+        then(storeIndexAliasService).should(never()).swap(any());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 중단된 작업이 있으면 새 인덱스를 만들지 않고 체크포인트부터 재개")
+    void fullReindex_InterruptedJob_ResumesFromCheckpoint() {
+        // given
+        StoreReindexJob job = createJob();
+        given(checkpointService.findRunningJob()).willReturn(Optional.of(job));
+        given(checkpointService.claim(job)).willReturn(true);
+        given(storeIndexAliasService.exists(NEW_INDEX)).willReturn(true);
+        given(checkpointService.findPendingCheckpoints(JOB_ID)).willReturn(List.of(createCheckpoint(0L, 120L, 100L)));
+        List<Store> remaining = IntStream.rangeClosed(101, 120)
+                .mapToObj(i -> createStore(1L, (long) i, "매장" + i))
+                .collect(Collectors.toList());
+        given(storeRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(eq(100L), eq(120L), any())).willReturn(remaining);
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), eq(NEW_INDEX))).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
+        given(checkpointService.countIndexed(JOB_ID)).willReturn(120L);
+
+        // when
+        storeIndexInitService.fullReindex();
+
+        // then
+        then(storeIndexAliasService).should(never()).createNextIndex();
+        then(checkpointService).should(never()).startJob(any(), any(), anyLong());
+        then(syncService).should(times(1)).buildDocuments(eq(remaining), anyMap());
+        then(storeIndexAliasService).should(times(1)).validate(NEW_INDEX, 120, STARTED_AT);
+        then(storeIndexAliasService).should(times(1)).swap(NEW_INDEX);
+        then(deltaReindexService).should(times(1)).markFullReindexed(STARTED_AT);
+        then(checkpointService).should(times(1)).complete(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 다른 인스턴스가 진행 중인 작업이 있으면 실행하지 않음")
+    void fullReindex_JobRunningElsewhere_Skips() {
+        // given
+        StoreReindexJob job = createJob();
+        given(checkpointService.findRunningJob()).willReturn(Optional.of(job));
+        given(checkpointService.claim(job)).willReturn(false);
+
+        // when
+        storeIndexInitService.fullReindex();
+
+        // then
+        then(storeIndexAliasService).should(never()).createNextIndex();
+        then(checkpointService).should(never()).findPendingCheckpoints(any());
+        verifyNoInteractions(syncService);
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 최대 재개 횟수를 채운 작업은 재개하지 않고 실패 처리 후 인덱스 삭제")
+    void fullReindex_ResumeAttemptsExceeded_FailsJobAndDeletesIndex() {
+        // given
+        StoreReindexJob job = createJob(MAX_RESUME_ATTEMPTS);
+        given(checkpointService.findRunningJob()).willReturn(Optional.of(job));
+        given(checkpointService.claim(job)).willReturn(true);
+
+        // when
+        storeIndexInitService.fullReindex();
+
+        // then
+        then(checkpointService).should(times(1)).fail(JOB_ID);
+        then(storeIndexAliasService).should(times(1)).deleteIndex(NEW_INDEX);
+        then(checkpointService).should(never()).findPendingCheckpoints(any());
+        then(storeIndexAliasService).should(never()).swap(any());
+        verifyNoInteractions(syncService);
+    }
+
+    @Test
+    @DisplayName("중단된 재색인 자동 재개 - 스케줄러 스레드에서는 선점만 하고 재색인은 실행기에 넘김")
+    void resumeInterruptedReindex_ClaimedJob_HandsOffToExecutor() {
+        // given
+        TaskExecutor taskExecutor = mock(TaskExecutor.class);
+        StoreIndexInitService service = new StoreIndexInitService(storeRepository, storeSearchRepository, syncService,
+                deltaReindexService, storeIndexAliasService, checkpointService, taskExecutor,
+                2, 2, 2, 2, true, MAX_RESUME_ATTEMPTS);
+        StoreReindexJob job = createJob(MAX_RESUME_ATTEMPTS);
+        given(checkpointService.findRunningJob()).willReturn(Optional.of(job));
+        given(checkpointService.claim(job)).willReturn(true);
+
+        // when
+        service.resumeInterruptedReindex();
+
+        // then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        then(taskExecutor).should(times(1)).execute(task.capture());
+        then(checkpointService).should(never()).fail(any());
+
+        task.getValue().run();
+        then(checkpointService).should(times(1)).fail(JOB_ID);
+        then(storeIndexAliasService).should(times(1)).deleteIndex(NEW_INDEX);
+    }
+
+    @Test
+    @DisplayName("중단된 재색인 자동 재개 - 다른 인스턴스가 진행 중이면 실행기에 넘기지 않음")
+    void resumeInterruptedReindex_JobRunningElsewhere_Skips() {
+        // given
+        TaskExecutor taskExecutor = mock(TaskExecutor.class);
+        StoreIndexInitService service = new StoreIndexInitService(storeRepository, storeSearchRepository, syncService,
+                deltaReindexService, storeIndexAliasService, checkpointService, taskExecutor,
+                2, 2, 2, 2, true, MAX_RESUME_ATTEMPTS);
+        StoreReindexJob job = createJob();
+        given(checkpointService.findRunningJob()).willReturn(Optional.of(job));
+        given(checkpointService.claim(job)).willReturn(false);
+
+        // when
+        service.resumeInterruptedReindex();
+
+        // then
+        verifyNoInteractions(taskExecutor);
     }
 
     @Test
@@ -202,14 +500,58 @@ class StoreIndexInitServiceTest {
                 .collect(Collectors.toList());
 
         given(storeRepository.streamAll()).willReturn(stores.stream());
-        given(syncService.indexStoresBatch(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        given(syncService.buildDocuments(anyList(), anyMap())).willAnswer(invocation -> documentsOf(invocation.getArgument(0)));
+        given(syncService.indexDocuments(anyList(), any())).willAnswer(invocation -> StoreBulkResult.succeeded(((List<?>) invocation.getArgument(0)).size()));
         // when
         storeIndexInitService.reindexAllStores();
 
         // then
         then(storeRepository).should(times(1)).streamAll();
         int expectedBatchCalls = (int) Math.ceil((double) stores.size() / StoreIndexInitService.REINDEX_BATCH_SIZE);
-        then(syncService).should(times(expectedBatchCalls)).indexStoresBatch(anyList());
+        then(syncService).should(times(expectedBatchCalls)).buildDocuments(anyList(), anyMap());
+        then(syncService).should(times(expectedBatchCalls)).indexDocuments(anyList(), any());
+    }
+
+    private void givenNewJob(long maxStoreId) {
+        given(checkpointService.findRunningJob()).willReturn(Optional.empty());
+        given(storeIndexAliasService.createNextIndex()).willReturn(NEW_INDEX);
+        given(storeRepository.findMaxIdIncludingDeleted()).willReturn(maxStoreId);
+        given(checkpointService.startJob(eq(NEW_INDEX), any(LocalDateTime.class), eq(maxStoreId))).willReturn(createJob());
+        given(storeIndexAliasService.exists(NEW_INDEX)).willReturn(true);
+    }
+
+    private void givenRange(Long rangeStart, Long rangeEnd, List<Store> stores) {
+        given(checkpointService.findPendingCheckpoints(JOB_ID)).willReturn(List.of(createCheckpoint(rangeStart, rangeEnd, rangeStart)));
+        given(storeRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(eq(rangeStart), eq(rangeEnd), any())).willReturn(stores);
+    }
+
+    private StoreReindexJob createJob() {
+        return createJob(0);
+    }
+
+    private StoreReindexJob createJob(int resumeAttempts) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", JOB_ID);
+        fieldValues.put("targetIndex", NEW_INDEX);
+        fieldValues.put("startedAt", STARTED_AT);
+        fieldValues.put("resumeAttempts", resumeAttempts);
+        return TestUtils.createEntity(StoreReindexJob.class, fieldValues);
+    }
+
+    private StoreReindexCheckpoint createCheckpoint(Long rangeStart, Long rangeEnd, Long lastStoreId) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", CHECKPOINT_ID);
+        fieldValues.put("jobId", JOB_ID);
+        fieldValues.put("rangeStart", rangeStart);
+        fieldValues.put("rangeEnd", rangeEnd);
+        fieldValues.put("lastStoreId", lastStoreId);
+        return TestUtils.createEntity(StoreReindexCheckpoint.class, fieldValues);
+    }
+
+    private static StoreDocuments documentsOf(List<Store> stores) {
+        return new StoreDocuments(stores.stream()
+                .map(store -> StoreDocument.from(store, null, new float[]{0.1f}))
+                .toList(), Map.of());
     }
 
     private Store createStore(Long memberId, Long storeId, String name) {
@@ -0,0 +1,116 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreIndexMappingService 테스트")
+class StoreIndexMappingServiceTest {
+
+    private static final int DIMENSION = 1536;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private IndexOperations aliasIndexOps;
+
+    @Mock
+    private IndexOperations versionedIndexOps;
+
+    private StoreIndexMappingService mappingService;
+
+    @BeforeEach
+    void setUp() {
+        mappingService = new StoreIndexMappingService(elasticsearchOperations, DIMENSION);
+        given(elasticsearchOperations.indexOps(StoreDocument.class)).willReturn(aliasIndexOps);
+    }
+
+    @Test
+    @DisplayName("빈 싱글톤 초기화 직후 인덱스가 없으면 설정된 차원의 매핑으로 첫 버전 인덱스를 만들고 별칭 연결")
+    void afterSingletonsInstantiated_NoIndex_CreatesVersionedIndexWithAlias() {
+        // given
+        given(aliasIndexOps.exists()).willReturn(false);
+        given(elasticsearchOperations.getIndexCoordinatesFor(StoreDocument.class)).willReturn(IndexCoordinates.of("stores"));
+        given(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).willReturn(versionedIndexOps);
+        given(aliasIndexOps.createSettings()).willReturn(new Settings());
+        given(aliasIndexOps.createMapping()).willReturn(mappingWithEmbedding(Map.of("type", "dense_vector")));
+
+        // when
+        mappingService.afterSingletonsInstantiated();
+
+        // then
+        ArgumentCaptor<IndexCoordinates> coordinatesCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
+        ArgumentCaptor<Document> mappingCaptor = ArgumentCaptor.forClass(Document.class);
+        then(elasticsearchOperations).should(times(2)).indexOps(coordinatesCaptor.capture());
+        then(versionedIndexOps).should().create(anyMap(), mappingCaptor.capture());
+        then(versionedIndexOps).should().alias(any(AliasActions.class));
+        assertThat(coordinatesCaptor.getAllValues())
+                .extracting(IndexCoordinates::getIndexName)
+                .containsOnly("stores_v1");
+        assertThat(embeddingProperty(mappingCaptor.getValue())).containsEntry("dims", DIMENSION);
+    }
+
+    @Test
+    @DisplayName("인덱스가 이미 있으면 새로 만들지 않음")
+    void ensureIndex_IndexExists_DoesNotCreate() {
+        // given
+        given(aliasIndexOps.exists()).willReturn(true);
+        given(aliasIndexOps.getMapping()).willReturn(mappingWithEmbedding(Map.of("type", "dense_vector", "dims", DIMENSION)));
+
+        // when
+        mappingService.ensureIndex();
+
+        // then
+        then(elasticsearchOperations).should(never()).indexOps(any(IndexCoordinates.class));
+    }
+
+    @Test
+    @DisplayName("Elasticsearch에 연결할 수 없어도 애플리케이션 시작을 막지 않음")
+    void ensureIndex_ElasticsearchUnavailable_DoesNotThrow() {
+        // given
+        given(aliasIndexOps.exists()).willThrow(new RuntimeException("connection refused"));
+
+        // when
+        mappingService.afterSingletonsInstantiated();
+
+        // then
+        then(elasticsearchOperations).should(never()).indexOps(any(IndexCoordinates.class));
+    }
+
+    private static Document mappingWithEmbedding(Map<String, Object> embedding) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("embedding", new HashMap<>(embedding));
+        Document mapping = Document.create();
+        mapping.put("properties", properties);
+        return mapping;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> embeddingProperty(Document mapping) {
+        return (Map<String, Object>) ((Map<String, Object>) mapping.get("properties")).get("embedding");
+    }
+}
@@ -0,0 +1,119 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.document.StoreDocument;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import com.couponpop.storeservice.domain.store.service.StoreIndexReconciler.ChunkChecksum;
+import com.couponpop.storeservice.domain.store.service.StoreIndexReconciler.Divergence;
+import com.couponpop.storeservice.utils.TestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StoreIndexReconciler 테스트")
+class StoreIndexReconcilerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+    private static final LocalDateTime CUTOFF = UPDATED_AT.plusMinutes(10);
+
+    @Test
+    @DisplayName("구간 체크섬은 삭제되지 않은 매장만 밀리초 단위 수정일시로 계산")
+    void chunkChecksum_CountsLiveStoresOnly() {
+        // given
+        List<StoreSyncState> states = List.of(
+                state(1L, UPDATED_AT, null),
+                state(2L, UPDATED_AT.plusSeconds(1), null),
+                state(3L, UPDATED_AT, UPDATED_AT));
+
+        // when
+        ChunkChecksum checksum = ChunkChecksum.ofLiveStores(states);
+
+        // then
+        long millis = StoreIndexReconciler.epochMillis(UPDATED_AT);
+        assertThat(checksum).isEqualTo(new ChunkChecksum(2, 3L, millis * 2 + 1000));
+    }
+
+    @Test
+    @DisplayName("색인된 수정일시가 DB와 밀리초 단위로 같으면 어긋나지 않은 것으로 판단")
+    void findDivergence_SameMillis_NoDivergence() {
+        // given
+        List<StoreSyncState> states = List.of(state(1L, UPDATED_AT, null));
+        Map<Long, StoreDocument> indexed = Map.of(1L, document(1L, UPDATED_AT.withNano(123_000_000)));
+
+        // when
+        Divergence divergence = StoreIndexReconciler.findDivergence(states, indexed, CUTOFF);
+
+        // then
+        assertThat(divergence.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("누락되거나 이전 상태인 문서는 재색인, 삭제된 매장(삭제 시점 버전)과 DB에 없는 매장의 문서는 삭제")
+    void findDivergence_FindsMissingStaleAndOrphanDocuments() {
+        // given
+        List<StoreSyncState> states = List.of(
+                state(1L, UPDATED_AT, null),
+                state(2L, UPDATED_AT, null),
+                state(3L, UPDATED_AT, UPDATED_AT),
+                state(4L, UPDATED_AT, UPDATED_AT));
+        Map<Long, StoreDocument> indexed = Map.of(
+                2L, document(2L, UPDATED_AT.minusMinutes(1)),
+                3L, document(3L, UPDATED_AT),
+                9L, document(9L, UPDATED_AT));
+
+        // when
+        Divergence divergence = StoreIndexReconciler.findDivergence(states, indexed, CUTOFF);
+
+        // then
+        assertThat(divergence.reindexIds()).containsExactly(1L, 2L);
+        assertThat(divergence.deletes().keySet()).containsExactly(3L, 9L);
+        assertThat(divergence.deletes().get(3L)).isEqualTo(UPDATED_AT);
+        assertThat(divergence.deletes().get(9L)).isNull();
+    }
+
+    @Test
+    @DisplayName("최근 수정된 매장은 동기화가 진행 중일 수 있으므로 복구 대상에서 제외")
+    void findDivergence_SkipsRecentlyUpdatedStores() {
+        // given
+        List<StoreSyncState> states = List.of(
+                state(1L, CUTOFF.plusSeconds(1), null),
+                state(2L, CUTOFF.plusSeconds(1), CUTOFF.plusSeconds(1)));
+        Map<Long, StoreDocument> indexed = Map.of(2L, document(2L, UPDATED_AT));
+
+        // when
+        Divergence divergence = StoreIndexReconciler.findDivergence(states, indexed, CUTOFF);
+
+        // then
+        assertThat(divergence.isEmpty()).isTrue();
+    }
+
+    private static StoreSyncState state(Long id, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        return new StoreSyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return deletedAt;
+            }
+        };
+    }
+
+    private static StoreDocument document(Long storeId, LocalDateTime updatedAt) {
+        return TestUtils.createEntity(StoreDocument.class, Map.of(
+                "id", String.valueOf(storeId),
+                "storeId", storeId,
+                "updatedAt", updatedAt));
+    }
+}
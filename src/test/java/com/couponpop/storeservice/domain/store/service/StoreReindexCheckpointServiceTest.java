@@ -0,0 +1,153 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.entity.StoreReindexCheckpoint;
+import com.couponpop.storeservice.domain.store.entity.StoreReindexJob;
+import com.couponpop.storeservice.domain.store.repository.StoreReindexCheckpointRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreReindexJobRepository;
+import com.couponpop.storeservice.utils.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreReindexCheckpointService 테스트")
+class StoreReindexCheckpointServiceTest {
+
+    private static final Long JOB_ID = 7L;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    @Mock
+    private StoreReindexJobRepository jobRepository;
+
+    @Mock
+    private StoreReindexCheckpointRepository checkpointRepository;
+
+    private StoreReindexCheckpointService checkpointService;
+
+    @BeforeEach
+    void setUp() {
+        checkpointService = new StoreReindexCheckpointService(jobRepository, checkpointRepository,
+                10000L, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("작업 시작 시 매장 ID 공간을 구간 크기로 나눠 체크포인트 생성")
+    @SuppressWarnings("unchecked")
+    void startJob_SplitsIdSpaceIntoRanges() {
+        // given
+        given(jobRepository.save(any(StoreReindexJob.class))).willReturn(createJob());
+
+        // when
+        StoreReindexJob job = checkpointService.startJob("stores_v2", STARTED_AT, 25000L);
+
+        // then
+        assertThat(job.getId()).isEqualTo(JOB_ID);
+        ArgumentCaptor<List<StoreReindexCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        then(checkpointRepository).should(times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(StoreReindexCheckpoint::getJobId, StoreReindexCheckpoint::getRangeStart,
+                        StoreReindexCheckpoint::getRangeEnd, StoreReindexCheckpoint::getLastStoreId)
+                .containsExactly(
+                        tuple(JOB_ID, 0L, 10000L, 0L),
+                        tuple(JOB_ID, 10000L, 20000L, 10000L),
+                        tuple(JOB_ID, 20000L, 25000L, 20000L));
+    }
+
+    @Test
+    @DisplayName("매장이 없으면 체크포인트 없이 작업 시작")
+    @SuppressWarnings("unchecked")
+    void startJob_NoStores_CreatesNoRanges() {
+        // given
+        given(jobRepository.save(any(StoreReindexJob.class))).willReturn(createJob());
+
+        // when
+        checkpointService.startJob("stores_v2", STARTED_AT, 0L);
+
+        // then
+        ArgumentCaptor<List<StoreReindexCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        then(checkpointRepository).should(times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("진행 기록 시 체크포인트를 전진시키고 색인 수를 누적하며 작업 진행 시각 갱신")
+    void saveProgress_AdvancesCheckpointAndHeartbeat() {
+        // given
+        StoreReindexCheckpoint checkpoint = StoreReindexCheckpoint.of(JOB_ID, 0L, 10000L);
+        StoreReindexJob job = createJob();
+        given(checkpointRepository.findById(1L)).willReturn(Optional.of(checkpoint));
+        given(jobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+
+        // when
+        checkpointService.saveProgress(JOB_ID, 1L, 50L, 50, false);
+        checkpointService.saveProgress(JOB_ID, 1L, 10000L, 30, true);
+
+        // then
+        assertThat(checkpoint.getLastStoreId()).isEqualTo(10000L);
+        assertThat(checkpoint.getIndexedCount()).isEqualTo(80L);
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(job.getHeartbeatAt()).isAfter(STARTED_AT);
+    }
+
+    @Test
+    @DisplayName("이미 지난 위치로의 진행 기록은 무시")
+    void saveProgress_StalePosition_Ignored() {
+        // given
+        StoreReindexCheckpoint checkpoint = StoreReindexCheckpoint.of(JOB_ID, 0L, 10000L);
+        checkpoint.advanceTo(500L, 500);
+        given(checkpointRepository.findById(1L)).willReturn(Optional.of(checkpoint));
+
+        // when
+        checkpointService.saveProgress(JOB_ID, 1L, 300L, 50, false);
+
+        // then
+        assertThat(checkpoint.getLastStoreId()).isEqualTo(500L);
+        assertThat(checkpoint.getIndexedCount()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("lease 동안 진행 기록이 없는 작업만 선점")
+    void claim_UsesLease() {
+        // given
+        StoreReindexJob job = createJob();
+        given(jobRepository.claimStale(eq(JOB_ID), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        boolean claimed = checkpointService.claim(job);
+
+        // then
+        assertThat(claimed).isTrue();
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(jobRepository).should(times(1)).claimStale(eq(JOB_ID), now.capture(), staleBefore.capture());
+        assertThat(Duration.between(staleBefore.getValue(), now.getValue())).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private StoreReindexJob createJob() {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", JOB_ID);
+        fieldValues.put("targetIndex", "stores_v2");
+        fieldValues.put("startedAt", STARTED_AT);
+        fieldValues.put("heartbeatAt", STARTED_AT);
+        return TestUtils.createEntity(StoreReindexJob.class, fieldValues);
+    }
+}
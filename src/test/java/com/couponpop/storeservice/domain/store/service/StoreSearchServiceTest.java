@@ -6,7 +6,7 @@ import com.couponpop.storeservice.domain.store.dto.response.StoreResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreSearchResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreSuggestResponse;
 import com.couponpop.couponpopcoremodule.enums.StoreCategory;
-import com.couponpop.storeservice.external.openai.service.OpenAIEmbeddingService;
+import com.couponpop.storeservice.external.openai.service.QueryEmbeddingCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +20,7 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.data.elasticsearch.core.query.Query;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -41,7 +42,7 @@ class StoreSearchServiceTest {
     private ElasticsearchOperations elasticsearchOperations;
 
     @Mock
-    private OpenAIEmbeddingService openAIEmbeddingService;
+    private QueryEmbeddingCache queryEmbeddingCache;
 
     @InjectMocks
     private StoreSearchService storeSearchService;
@@ -478,11 +479,11 @@ class StoreSearchServiceTest {
 
         StoreSearchService spyService = spy(storeSearchService);
 
-        doReturn(null).when(openAIEmbeddingService).generateEmbedding(keyword);
+        doReturn(Mono.just(new float[0])).when(queryEmbeddingCache).getOrGenerate(keyword);
         doReturn(fallbackResults).when(spyService).searchStoresWithRecommendation(keyword);
 
         // when
-        List<StoreSearchResponse> result = spyService.executeHybridSearch(keyword);
+        List<StoreSearchResponse> result = spyService.executeHybridSearch(keyword).block();
 
         // then
         assertThat(result).isEqualTo(fallbackResults);
@@ -509,19 +510,66 @@ class StoreSearchServiceTest {
         given(hit.getScore()).willReturn(7.5f);
         SearchHits<StoreDocument> searchHits = createSearchHits(List.of(hit));
 
-        doReturn(List.of(0.1f, 0.2f, 0.3f)).when(openAIEmbeddingService).generateEmbedding(keyword);
+        doReturn(Mono.just(new float[]{0.1f, 0.2f, 0.3f})).when(queryEmbeddingCache).getOrGenerate(keyword);
         given(elasticsearchOperations.search(any(Query.class), eq(StoreDocument.class)))
                 .willReturn(searchHits);
 
         // when
-        List<StoreSearchResponse> result = storeSearchService.executeSemanticSearch(keyword);
+        List<StoreSearchResponse> result = storeSearchService.executeSemanticSearch(keyword).block();
 
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).name()).isEqualTo("스위트 카페");
         assertThat(result.get(0).score()).isEqualTo(7.5f);
-        verify(openAIEmbeddingService, times(1)).generateEmbedding(keyword);
+        verify(queryEmbeddingCache, times(1)).getOrGenerate(keyword);
         verify(elasticsearchOperations, times(1)).search(any(Query.class), eq(StoreDocument.class));
     }
-}
 
+    @Test
+    @DisplayName("시맨틱 검색 - 임베딩 생성 실패(브레이커 열림, 지연 예산 초과) 시 키워드 검색으로 폴백")
+    void executeSemanticSearch_EmbeddingFailure_FallbackToKeywordSearch() {
+        // given
+        String keyword = "카페";
+        List<StoreSearchResponse> fallbackResults = List.of(
+                new StoreSearchResponse(1L, "카페 모카", "서울시 마포구", "홍대동", StoreCategory.CAFE,
+                        "https://example.com/image.jpg", 37.56, 126.97, 1.0f)
+        );
+
+        StoreSearchService spyService = spy(storeSearchService);
+
+        doReturn(Mono.just(new float[0])).when(queryEmbeddingCache).getOrGenerate(keyword);
+        doReturn(fallbackResults).when(spyService).searchStoresWithRecommendation(keyword);
+
+        // when
+        List<StoreSearchResponse> result = spyService.executeSemanticSearch(keyword).block();
+
+        // then
+        assertThat(result).isEqualTo(fallbackResults);
+        verify(spyService, times(1)).searchStoresWithRecommendation(keyword);
+        verifyNoInteractions(elasticsearchOperations);
+    }
+
+    @Test
+    @DisplayName("시맨틱 검색 - 검색 중 에러 발생 시 키워드 검색으로 폴백")
+    void executeSemanticSearch_Error_FallbackToKeywordSearch() {
+        // given
+        String keyword = "카페";
+        List<StoreSearchResponse> fallbackResults = List.of(
+                new StoreSearchResponse(1L, "카페 모카", "서울시 마포구", "홍대동", StoreCategory.CAFE,
+                        "https://example.com/image.jpg", 37.56, 126.97, 1.0f)
+        );
+
+        StoreSearchService spyService = spy(storeSearchService);
+
+        doReturn(Mono.error(new IllegalStateException("embedding timeout"))).when(queryEmbeddingCache).getOrGenerate(keyword);
+        doReturn(fallbackResults).when(spyService).searchStoresWithRecommendation(keyword);
+
+        // when
+        List<StoreSearchResponse> result = spyService.executeSemanticSearch(keyword).block();
+
+        // then
+        assertThat(result).isEqualTo(fallbackResults);
+        verify(spyService, times(1)).searchStoresWithRecommendation(keyword);
+        verifyNoInteractions(elasticsearchOperations);
+    }
+}
@@ -5,8 +5,11 @@ import com.couponpop.storeservice.domain.store.dto.request.CreateStoreRequest;
 import com.couponpop.storeservice.domain.store.dto.response.StoreMapResponse;
 import com.couponpop.storeservice.domain.store.dto.response.StoreResponse;
 import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOperation;
+import com.couponpop.storeservice.domain.store.event.StoreSyncRequestedEvent;
 import com.couponpop.couponpopcoremodule.enums.StoreCategory;
 import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
 import com.couponpop.storeservice.utils.TestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalTime;
 import java.util.Arrays;
@@ -25,7 +29,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
@@ -38,7 +42,10 @@ class StoreServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private StoreElasticsearchSyncService elasticsearchSyncService;
+    private StoreSyncOutboxRepository storeSyncOutboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
     private StoreSearchService storeSearchService;
@@ -82,7 +89,10 @@ class StoreServiceTest {
         assertThat(result.weekendCloseTime()).isEqualTo(request.weekendCloseTime());
 
         then(storeRepository).should(times(1)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).indexStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT
+                        && memberUsername.equals(outbox.getMemberUsername())));
+        then(eventPublisher).should(times(1)).publishEvent(any(StoreSyncRequestedEvent.class));
     }
 
     @Test
@@ -102,7 +112,9 @@ class StoreServiceTest {
 
         // then
         then(storeRepository).should(times(1)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).indexStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT
+                        && memberUsername.equals(outbox.getMemberUsername())));
     }
 
     @Test
@@ -126,7 +138,9 @@ class StoreServiceTest {
         assertThat(result.memberId()).isEqualTo(memberId);
 
         then(storeRepository).should(times(1)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).indexStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT
+                        && memberUsername.equals(outbox.getMemberUsername())));
     }
 
     @Test
@@ -182,7 +196,9 @@ class StoreServiceTest {
         assertThat(result.name()).isEqualTo("테스트 매장");
 
         then(storeRepository).should(times(1)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).indexStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT
+                        && memberUsername.equals(outbox.getMemberUsername())));
     }
 
     @Test
@@ -208,7 +224,8 @@ class StoreServiceTest {
 
         then(storeRepository).should(times(1)).findById(storeId);
         then(storeRepository).should(times(0)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).updateStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT && storeId.equals(outbox.getStoreId())));
     }
 
     @Test
@@ -254,7 +271,8 @@ class StoreServiceTest {
 
         then(storeRepository).should(times(1)).findById(storeId);
         then(storeRepository).should(times(0)).save(any(Store.class));
-        then(elasticsearchSyncService).should(times(1)).updateStore(any(Store.class), eq(memberUsername));
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.UPSERT && storeId.equals(outbox.getStoreId())));
     }
 
     @Test
@@ -298,7 +316,9 @@ class StoreServiceTest {
         // then
         assertThat(existingStore.getDeletedAt()).isNotNull();
         then(storeRepository).should(times(1)).findByIdIncludingDeleted(storeId);
-        then(elasticsearchSyncService).should(times(1)).deleteStore(storeId);
+        then(storeSyncOutboxRepository).should(times(1)).save(argThat(outbox ->
+                outbox.getOperation() == StoreSyncOperation.DELETE && storeId.equals(outbox.getStoreId())));
+        then(eventPublisher).should(times(1)).publishEvent(any(StoreSyncRequestedEvent.class));
     }
 
     @Test
@@ -0,0 +1,87 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.storeservice.domain.store.dto.response.StoreSyncDeadLetterResponse;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOperation;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncStatus;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreSyncDeadLetterService 테스트")
+class StoreSyncDeadLetterServiceTest {
+
+    @Mock
+    private StoreSyncOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private StoreSyncDeadLetterService deadLetterService;
+
+    @Test
+    @DisplayName("dead letter 수와 오래된 항목을 실패 사유와 함께 조회")
+    void getBacklog_ReturnsCountAndEntries() {
+        // given
+        StoreSyncOutbox entry = StoreSyncOutbox.delete(10L);
+        ReflectionTestUtils.setField(entry, "id", 1L);
+        entry.markFailed("429 es_rejected_execution_exception: rejected", null, 1);
+        given(outboxRepository.countByStatus(StoreSyncStatus.FAILED)).willReturn(42L);
+        given(outboxRepository.findByStatusOrderByIdAsc(StoreSyncStatus.FAILED, PageRequest.of(0, 20)))
+                .willReturn(List.of(entry));
+
+        // when
+        StoreSyncDeadLetterResponse response = deadLetterService.getBacklog(20);
+
+        // then
+        assertThat(response.backlog()).isEqualTo(42L);
+        assertThat(response.entries()).hasSize(1);
+        StoreSyncDeadLetterResponse.Entry first = response.entries().get(0);
+        assertThat(first.storeId()).isEqualTo(10L);
+        assertThat(first.operation()).isEqualTo(StoreSyncOperation.DELETE);
+        assertThat(first.attemptCount()).isEqualTo(1);
+        assertThat(first.lastError()).contains("es_rejected_execution_exception");
+    }
+
+    @Test
+    @DisplayName("조회 항목 수는 최대값으로 제한")
+    void getBacklog_LimitsEntries() {
+        // given
+        given(outboxRepository.findByStatusOrderByIdAsc(StoreSyncStatus.FAILED,
+                PageRequest.of(0, StoreSyncDeadLetterService.MAX_ENTRIES))).willReturn(List.of());
+
+        // when
+        deadLetterService.getBacklog(10_000);
+
+        // then
+        then(outboxRepository).should(times(1))
+                .findByStatusOrderByIdAsc(StoreSyncStatus.FAILED, PageRequest.of(0, StoreSyncDeadLetterService.MAX_ENTRIES));
+    }
+
+    @Test
+    @DisplayName("모든 dead letter를 대기 항목으로 되돌림")
+    void replayAll_RequeuesDeadLetters() {
+        // given
+        given(outboxRepository.replayDeadLetters(any())).willReturn(3);
+
+        // when
+        int replayed = deadLetterService.replayAll();
+
+        // then
+        assertThat(replayed).isEqualTo(3);
+        then(outboxRepository).should(times(1)).replayDeadLetters(any());
+    }
+}
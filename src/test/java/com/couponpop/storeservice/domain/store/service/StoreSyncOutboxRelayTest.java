@@ -0,0 +1,348 @@
+package com.couponpop.storeservice.domain.store.service;
+
+import com.couponpop.couponpopcoremodule.enums.StoreCategory;
+import com.couponpop.storeservice.domain.store.entity.Store;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncOutbox;
+import com.couponpop.storeservice.domain.store.entity.StoreSyncStatus;
+import com.couponpop.storeservice.domain.store.repository.StoreRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncOutboxRepository;
+import com.couponpop.storeservice.domain.store.repository.StoreSyncState;
+import com.couponpop.storeservice.utils.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreSyncOutboxRelay 테스트")
+class StoreSyncOutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final LocalDateTime DELETED_AT = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+    @Mock
+    private StoreSyncOutboxRepository outboxRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreElasticsearchSyncService syncService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StoreSyncOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new StoreSyncOutboxRelay(outboxRepository, storeRepository, syncService, transactionManager,
+                meterRegistry, 100, Duration.ofMinutes(2), MAX_ATTEMPTS,
+                Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofDays(1),
+                Duration.ofMinutes(30), Duration.ofHours(12));
+    }
+
+    @Test
+    @DisplayName("같은 매장의 여러 항목은 한 번만 반영하고 모두 완료 처리")
+    void relayBatch_CoalescesEntriesPerStore() {
+        // given
+        StoreSyncOutbox created = outbox(1L, StoreSyncOutbox.index(10L, "owner"));
+        StoreSyncOutbox updated = outbox(2L, StoreSyncOutbox.index(10L, "owner"));
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(created, updated));
+        given(storeRepository.findAllById(List.of(10L))).willReturn(List.of(createStore(10L)));
+        given(syncService.indexStoresBatch(anyList(), anyMap())).willReturn(StoreBulkResult.succeeded(1));
+
+        // when
+        int claimed = relay.relayBatch();
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        then(syncService).should(times(1)).indexStoresBatch(anyList(), eq(Map.of(10L, "owner")));
+        then(outboxRepository).should(times(1)).updateStatus(eq(List.of(1L, 2L)), eq(StoreSyncStatus.DONE), any());
+    }
+
+    @Test
+    @DisplayName("매장별 소유자 사용자명과 함께 한 번의 bulk 색인으로 반영")
+    void relayBatch_IndexesStoresWithMemberUsernames() {
+        // given
+        StoreSyncOutbox phone = outbox(1L, StoreSyncOutbox.index(10L, "owner"));
+        StoreSyncOutbox image = outbox(2L, StoreSyncOutbox.index(20L, "owner2"));
+        Store store1 = createStore(10L);
+        Store store2 = createStore(20L);
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(phone, image));
+        given(storeRepository.findAllById(List.of(10L, 20L))).willReturn(List.of(store1, store2));
+        given(syncService.indexStoresBatch(anyList(), anyMap())).willReturn(StoreBulkResult.succeeded(2));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        then(syncService).should(times(1)).indexStoresBatch(List.of(store1, store2), Map.of(10L, "owner", 20L, "owner2"));
+        then(outboxRepository).should(times(1)).updateStatus(eq(List.of(1L, 2L)), eq(StoreSyncStatus.DONE), any());
+    }
+
+    @Test
+    @DisplayName("삭제 항목이 있는 매장과 이미 삭제된 매장의 색인 항목은 문서 삭제로 반영")
+    void relayBatch_DeletesRemovedStores() {
+        // given
+        StoreSyncOutbox updated = outbox(1L, StoreSyncOutbox.index(10L, "owner"));
+        StoreSyncOutbox deleted = outbox(2L, StoreSyncOutbox.delete(10L));
+        StoreSyncOutbox staleUpsert = outbox(3L, StoreSyncOutbox.index(20L, "owner"));
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(updated, deleted, staleUpsert));
+        given(storeRepository.findAllById(List.of(20L))).willReturn(List.of());
+        given(storeRepository.findSyncStatesByIdIn(List.of(10L, 20L))).willReturn(List.of(state(10L, DELETED_AT)));
+        given(syncService.deleteStoresBatch(anyMap())).willReturn(StoreBulkResult.succeeded(2));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        Map<Long, LocalDateTime> deletes = new HashMap<>();
+        deletes.put(10L, DELETED_AT);
+        deletes.put(20L, null);
+        then(syncService).should(times(1)).deleteStoresBatch(deletes);
+        then(syncService).should(never()).indexStoresBatch(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 시도 횟수를 늘리고 백오프 후 재시도하도록 기록")
+    void relayBatch_Failure_SchedulesRetry() {
+        // given
+        StoreSyncOutbox entry = outbox(1L, StoreSyncOutbox.index(10L, "owner"));
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(entry));
+        given(storeRepository.findAllById(List.of(10L))).willReturn(List.of(createStore(10L)));
+        given(syncService.indexStoresBatch(anyList(), anyMap())).willThrow(new RuntimeException("OpenAI unavailable"));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(entry.getAttemptCount()).isEqualTo(1);
+        assertThat(entry.getStatus()).isEqualTo(StoreSyncStatus.PENDING);
+        assertThat(entry.getLastError()).contains("OpenAI unavailable");
+        then(outboxRepository).should(times(1)).saveAll(List.of(entry));
+        then(outboxRepository).should(never()).updateStatus(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("bulk 항목 단위로 실패한 매장의 항목만 재시도하도록 기록")
+    void relayBatch_ItemFailure_RetriesOnlyFailedStores() {
+        // given
+        StoreSyncOutbox succeeded = outbox(1L, StoreSyncOutbox.index(10L, "owner"));
+        StoreSyncOutbox failed = outbox(2L, StoreSyncOutbox.index(20L, "owner"));
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(succeeded, failed));
+        given(storeRepository.findAllById(List.of(10L, 20L))).willReturn(List.of(createStore(10L), createStore(20L)));
+        given(syncService.indexStoresBatch(anyList(), anyMap()))
+                .willReturn(new StoreBulkResult(1, Map.of(20L, "429 es_rejected_execution_exception: rejected")));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(failed.getAttemptCount()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("es_rejected_execution_exception");
+        assertThat(succeeded.getAttemptCount()).isZero();
+        then(outboxRepository).should(times(1)).updateStatus(eq(List.of(1L)), eq(StoreSyncStatus.DONE), any());
+        then(outboxRepository).should(times(1)).saveAll(List.of(failed));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 FAILED로 전환")
+    void relayBatch_ExhaustedRetries_MarkedFailed() {
+        // given
+        StoreSyncOutbox entry = outbox(1L, StoreSyncOutbox.delete(10L));
+        ReflectionTestUtils.setField(entry, "attemptCount", MAX_ATTEMPTS - 1);
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(entry));
+        willThrow(new RuntimeException("Elasticsearch error")).given(syncService).deleteStoresBatch(anyMap());
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(entry.getStatus()).isEqualTo(StoreSyncStatus.FAILED);
+        assertThat(entry.getAttemptCount()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(entry.getAvailableAt()).isAfter(LocalDateTime.now().plusMinutes(29));
+    }
+
+    @Test
+    @DisplayName("dead letter 재시도에 성공하면 완료 처리")
+    void redriveDeadLetterBatch_Success_MarksDone() {
+        // given
+        StoreSyncOutbox entry = deadLetter(1L, StoreSyncOutbox.delete(10L));
+        given(outboxRepository.findDeadLettersDue(any(), anyInt())).willReturn(List.of(entry));
+        given(storeRepository.findSyncStatesByIdIn(List.of(10L))).willReturn(List.of(state(10L, DELETED_AT)));
+        given(syncService.deleteStoresBatch(Map.of(10L, DELETED_AT))).willReturn(StoreBulkResult.succeeded(1));
+
+        // when
+        int claimed = relay.redriveDeadLetterBatch();
+
+        // then
+        assertThat(claimed).isEqualTo(1);
+        then(outboxRepository).should(times(1)).updateStatus(eq(List.of(1L)), eq(StoreSyncStatus.DONE), any());
+        then(outboxRepository).should(never()).findClaimable(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("dead letter 재시도에 다시 실패하면 FAILED를 유지하고 더 긴 백오프 후 재시도")
+    void redriveDeadLetterBatch_Failure_BacksOffLonger() {
+        // given
+        StoreSyncOutbox entry = deadLetter(1L, StoreSyncOutbox.delete(10L));
+        given(outboxRepository.findDeadLettersDue(any(), anyInt())).willReturn(List.of(entry));
+        willThrow(new RuntimeException("Elasticsearch error")).given(syncService).deleteStoresBatch(anyMap());
+
+        // when
+        relay.redriveDeadLetterBatch();
+
+        // then
+        assertThat(entry.getStatus()).isEqualTo(StoreSyncStatus.FAILED);
+        assertThat(entry.getAttemptCount()).isEqualTo(MAX_ATTEMPTS + 1);
+        assertThat(entry.getAvailableAt()).isAfter(LocalDateTime.now().plusMinutes(59));
+        then(outboxRepository).should(times(1)).saveAll(List.of(entry));
+    }
+
+    @Test
+    @DisplayName("커밋 후 이벤트로 지정한 항목만 선점해 즉시 반영")
+    void relayEntries_ProcessesGivenEntries() {
+        // given
+        StoreSyncOutbox entry = outbox(5L, StoreSyncOutbox.delete(10L));
+        given(outboxRepository.findClaimableByIds(eq(List.of(5L)), any())).willReturn(List.of(entry));
+        given(storeRepository.findSyncStatesByIdIn(List.of(10L))).willReturn(List.of(state(10L, DELETED_AT)));
+        given(syncService.deleteStoresBatch(Map.of(10L, DELETED_AT))).willReturn(StoreBulkResult.succeeded(1));
+
+        // when
+        relay.relayEntries(List.of(5L));
+
+        // then
+        then(syncService).should(times(1)).deleteStoresBatch(Map.of(10L, DELETED_AT));
+        then(outboxRepository).should(times(1)).updateStatus(eq(List.of(5L)), eq(StoreSyncStatus.DONE), any());
+        then(outboxRepository).should(never()).findClaimable(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대기 항목이 없으면 아무것도 반영하지 않음")
+    void relayBatch_NoEntries() {
+        // given
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of());
+
+        // when
+        int claimed = relay.relayBatch();
+
+        // then
+        assertThat(claimed).isZero();
+        then(syncService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("대기 항목 수 게이지는 릴레이 주기에서 센 값을 노출하고 스크레이프 시에는 조회하지 않음")
+    void relay_RefreshesPendingGaugeOnTick() {
+        // given
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of());
+        given(outboxRepository.countByStatus(StoreSyncStatus.PENDING)).willReturn(7L);
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(meterRegistry.get("store.sync.outbox.pending").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("store.sync.outbox.pending").gauge().value()).isEqualTo(7);
+        then(outboxRepository).should(times(1)).countByStatus(StoreSyncStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("dead letter 수 게이지는 재시도 주기에서 다시 세고, 그 사이 dead letter로 전환된 건수만큼 보정")
+    void redriveDeadLetters_RefreshesBacklogGauge() {
+        // given
+        given(outboxRepository.findDeadLettersDue(any(), anyInt())).willReturn(List.of());
+        given(outboxRepository.countByStatus(StoreSyncStatus.FAILED)).willReturn(3L);
+        StoreSyncOutbox entry = outbox(1L, StoreSyncOutbox.delete(10L));
+        ReflectionTestUtils.setField(entry, "attemptCount", MAX_ATTEMPTS - 1);
+        given(outboxRepository.findClaimable(any(), anyInt())).willReturn(List.of(entry));
+        willThrow(new RuntimeException("Elasticsearch error")).given(syncService).deleteStoresBatch(anyMap());
+
+        // when
+        relay.redriveDeadLetters();
+        relay.relayBatch();
+
+        // then
+        assertThat(meterRegistry.get("store.sync.deadletter.backlog").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("store.sync.deadletter.added").counter().count()).isEqualTo(1);
+        then(outboxRepository).should(times(1)).countByStatus(StoreSyncStatus.FAILED);
+    }
+
+    private static StoreSyncOutbox outbox(Long id, StoreSyncOutbox entry) {
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+
+    private static StoreSyncOutbox deadLetter(Long id, StoreSyncOutbox entry) {
+        ReflectionTestUtils.setField(entry, "status", StoreSyncStatus.FAILED);
+        ReflectionTestUtils.setField(entry, "attemptCount", MAX_ATTEMPTS);
+        return outbox(id, entry);
+    }
+
+    private static StoreSyncState state(Long id, LocalDateTime updatedAt) {
+        return new StoreSyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private Store createStore(Long storeId) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        fieldValues.put("id", storeId);
+        fieldValues.put("memberId", 1L);
+        fieldValues.put("name", "스타벅스 홍대점");
+        fieldValues.put("phone", "02123456789");
+        fieldValues.put("description", "홍대 중심가에 위치한 스타벅스입니다.");
+        fieldValues.put("businessNumber", "1234567890");
+        fieldValues.put("address", "서울시 마포구 홍익로 123");
+        fieldValues.put("dong", "홍대동");
+        fieldValues.put("latitude", 37.5665);
+        fieldValues.put("longitude", 126.9780);
+        fieldValues.put("imageUrl", "https://example.com/store-image.jpg");
+        fieldValues.put("storeCategory", StoreCategory.CAFE);
+        fieldValues.put("weekdayOpenTime", LocalTime.of(7, 0));
+        fieldValues.put("weekdayCloseTime", LocalTime.of(22, 0));
+        fieldValues.put("weekendOpenTime", LocalTime.of(8, 0));
+        fieldValues.put("weekendCloseTime", LocalTime.of(23, 0));
+
+        return TestUtils.createEntity(Store.class, fieldValues);
+    }
+}
@@ -0,0 +1,64 @@
+package com.couponpop.storeservice.external.embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HashedNgramEmbedder 테스트")
+class HashedNgramEmbedderTest {
+
+    private static final int DIMENSION = 256;
+
+    @Test
+    @DisplayName("같은 입력은 정규화 후 같은 벡터로 변환")
+    void embed_Deterministic() {
+        // when
+        float[] first = HashedNgramEmbedder.embed("강남 카페", DIMENSION);
+        float[] second = HashedNgramEmbedder.embed("  강남   카페 ", DIMENSION);
+
+        // then
+        assertThat(first).hasSize(DIMENSION).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("벡터는 단위 길이로 정규화")
+    void embed_UnitLength() {
+        // when
+        float[] vector = HashedNgramEmbedder.embed("치킨 맛집", DIMENSION);
+
+        // then
+        assertThat(dot(vector, vector)).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("글자를 많이 공유하는 텍스트일수록 유사도가 높음")
+    void embed_SimilarTextCloser() {
+        // given
+        float[] query = HashedNgramEmbedder.embed("강남 카페", DIMENSION);
+        float[] similar = HashedNgramEmbedder.embed("강남역 카페 거리", DIMENSION);
+        float[] unrelated = HashedNgramEmbedder.embed("부산 돼지국밥", DIMENSION);
+
+        // when & then
+        assertThat(dot(query, similar)).isGreaterThan(dot(query, unrelated));
+    }
+
+    @Test
+    @DisplayName("빈 텍스트는 영벡터로 변환")
+    void embed_Blank() {
+        // when
+        float[] vector = HashedNgramEmbedder.embed("   ", DIMENSION);
+
+        // then
+        assertThat(vector).hasSize(DIMENSION).containsOnly(0f);
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,107 @@
+package com.couponpop.storeservice.external.openai.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmbeddingVectorDeserializer 테스트")
+class EmbeddingVectorDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("OpenAI 응답의 숫자 배열을 float[]로 역직렬화")
+    void deserialize_NumberArray() throws Exception {
+        // given
+        String json = """
+                {"data":[{"embedding":[0.5,-1.25,3,1e-3],"index":0}],"model":"text-embedding-3-small","usage":{"prompt_tokens":1,"total_tokens":1}}
+                """;
+
+        // when
+        EmbeddingResponse response = objectMapper.readValue(json, EmbeddingResponse.class);
+
+        // then
+        assertThat(response.data()).hasSize(1);
+        assertThat(response.data().get(0).embedding()).containsExactly(0.5f, -1.25f, 3.0f, 0.001f);
+    }
+
+    @Test
+    @DisplayName("초기 버퍼(1536)보다 긴 벡터도 모두 읽음")
+    void deserialize_LargerThanInitialCapacity() throws Exception {
+        // given
+        StringBuilder json = new StringBuilder("{\"embedding\":[");
+        for (int i = 0; i < 3000; i++) {
+            json.append(i > 0 ? "," : "").append(i);
+        }
+        json.append("],\"index\":0}");
+
+        // when
+        EmbeddingData data = objectMapper.readValue(json.toString(), EmbeddingData.class);
+
+        // then
+        assertThat(data.embedding()).hasSize(3000);
+        assertThat(data.embedding()[2999]).isEqualTo(2999f);
+    }
+
+    @Test
+    @DisplayName("설정된 차원을 속성으로 전달하면 그 크기의 벡터를 그대로 반환")
+    void deserialize_ConfiguredDimension() throws Exception {
+        // given
+        ObjectMapper configuredMapper = new ObjectMapper();
+        configuredMapper.setDefaultAttributes(ContextAttributes.getEmpty()
+                .withSharedAttribute(EmbeddingVectorDeserializer.DIMENSION_ATTRIBUTE, 4));
+
+        // when
+        EmbeddingData data = configuredMapper.readValue("{\"embedding\":[1,2,3,4],\"index\":0}", EmbeddingData.class);
+        EmbeddingData shorter = configuredMapper.readValue("{\"embedding\":[1,2],\"index\":0}", EmbeddingData.class);
+        EmbeddingData longer = configuredMapper.readValue("{\"embedding\":[1,2,3,4,5,6],\"index\":0}", EmbeddingData.class);
+
+        // then
+        assertThat(data.embedding()).containsExactly(1f, 2f, 3f, 4f);
+        assertThat(shorter.embedding()).containsExactly(1f, 2f);
+        assertThat(longer.embedding()).containsExactly(1f, 2f, 3f, 4f, 5f, 6f);
+    }
+
+    @Test
+    @DisplayName("encoding_format=base64 응답을 리틀 엔디언 float 배열로 디코딩")
+    void deserialize_Base64() throws Exception {
+        // given
+        float[] expected = {0.5f, -1.25f, 3.0f};
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(expected);
+        String encoded = Base64.getEncoder().encodeToString(buffer.array());
+
+        // when
+        EmbeddingData data = objectMapper.readValue("{\"embedding\":\"" + encoded + "\",\"index\":1}", EmbeddingData.class);
+
+        // then
+        assertThat(data.index()).isEqualTo(1);
+        assertThat(data.embedding()).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("base64 바이트 길이가 4의 배수가 아니면 예외 발생")
+    void deserialize_Base64InvalidLength_Throws() {
+        String encoded = Base64.getEncoder().encodeToString(new byte[]{1, 2, 3});
+
+        assertThatThrownBy(() -> objectMapper.readValue("{\"embedding\":\"" + encoded + "\",\"index\":0}", EmbeddingData.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 원소가 있으면 예외 발생")
+    void deserialize_NonNumericElement_Throws() {
+        assertThatThrownBy(() -> objectMapper.readValue("{\"embedding\":[1,\"x\"],\"index\":0}", EmbeddingData.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmbeddingBatchSplitter 테스트")
+class EmbeddingBatchSplitterTest {
+
+    @Test
+    @DisplayName("최대 입력 수 기준으로 순서를 유지하며 분할")
+    void split_ByMaxInputs() {
+        // given
+        List<String> texts = List.of("a", "b", "c", "d", "e");
+
+        // when
+        List<List<Integer>> batches = EmbeddingBatchSplitter.split(texts, 2, 1000);
+
+        // then
+        assertThat(batches).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    @DisplayName("추정 토큰 예산을 넘으면 새 배치로 분할")
+    void split_ByTokenBudget() {
+        // given
+        String longText = "x".repeat(20);   // 10 토큰
+        String shortText = "x".repeat(4);   // 2 토큰
+        List<String> texts = List.of(shortText, longText, shortText, shortText);
+
+        // when
+        List<List<Integer>> batches = EmbeddingBatchSplitter.split(texts, 100, 12);
+
+        // then
+        assertThat(batches).containsExactly(List.of(0, 1), List.of(2, 3));
+    }
+
+    @Test
+    @DisplayName("단일 입력이 토큰 예산을 넘으면 단독 배치로 포함")
+    void split_OversizedInput_IsolatedBatch() {
+        // given
+        List<String> texts = List.of("ab", "x".repeat(100), "cd");
+
+        // when
+        List<List<Integer>> batches = EmbeddingBatchSplitter.split(texts, 100, 10);
+
+        // then
+        assertThat(batches).containsExactly(List.of(0), List.of(1), List.of(2));
+    }
+
+    @Test
+    @DisplayName("한글은 음절당 약 1.5토큰으로 보수적으로 추정")
+    void estimateTokens_Korean() {
+        assertThat(EmbeddingBatchSplitter.estimateTokens("카페")).isEqualTo(3);
+        assertThat(EmbeddingBatchSplitter.estimateTokens("cafe")).isEqualTo(2);
+        assertThat(EmbeddingBatchSplitter.estimateTokens("")).isZero();
+    }
+}
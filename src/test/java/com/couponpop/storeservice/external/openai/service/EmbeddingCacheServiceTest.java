@@ -0,0 +1,131 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.openai.entity.EmbeddingCache;
+import com.couponpop.storeservice.external.openai.repository.EmbeddingCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmbeddingCacheService 테스트")
+class EmbeddingCacheServiceTest {
+
+    private static final String MODEL = "text-embedding-3-small";
+    private static final int DIMENSION = 1536;
+
+    @Mock
+    private EmbeddingCacheRepository embeddingCacheRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmbeddingCacheService embeddingCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        embeddingCacheService = new EmbeddingCacheService(embeddingCacheRepository, meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("텍스트 정규화 - 연속 공백 축약 및 앞뒤 공백 제거")
+    void normalize_CollapsesWhitespace() {
+        assertThat(EmbeddingCacheService.normalize("  스타벅스   홍대점\n\t카페 ")).isEqualTo("스타벅스 홍대점 카페");
+        assertThat(EmbeddingCacheService.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 키 - 같은 입력은 같은 키, 모델이나 차원이 다르면 다른 키")
+    void createCacheKey_DependsOnModelDimensionAndText() {
+        String key = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "스타벅스 홍대점");
+
+        assertThat(key).hasSize(64);
+        assertThat(embeddingCacheService.createCacheKey(MODEL, DIMENSION, "스타벅스 홍대점")).isEqualTo(key);
+        assertThat(embeddingCacheService.createCacheKey("text-embedding-3-large", DIMENSION, "스타벅스 홍대점")).isNotEqualTo(key);
+        assertThat(embeddingCacheService.createCacheKey(MODEL, 256, "스타벅스 홍대점")).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("메모리 캐시 적중 시 DB를 조회하지 않음")
+    void getAll_MemoryHit_SkipsDatabase() {
+        // given
+        String key = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "카페");
+        embeddingCacheService.putAll(MODEL, Map.of(key, new float[]{0.1f, 0.2f}));
+
+        // when
+        Map<String, float[]> result = embeddingCacheService.getAll(List.of(key));
+
+        // then
+        assertThat(result.get(key)).containsExactly(0.1f, 0.2f);
+        then(embeddingCacheRepository).should(never()).findAllById(anyIterable());
+        assertThat(meterRegistry.get("openai.embedding.cache.hits").tag("tier", "memory").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB 캐시 적중 및 미스 카운트 집계")
+    void getAll_DatabaseHitAndMiss_CountsMetrics() {
+        // given
+        String hitKey = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "치킨");
+        String missKey = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "피자");
+        given(embeddingCacheRepository.findAllById(anyIterable()))
+                .willReturn(List.of(EmbeddingCache.of(hitKey, MODEL, new float[]{0.5f, -0.5f})));
+
+        // when
+        Map<String, float[]> result = embeddingCacheService.getAll(List.of(hitKey, missKey));
+
+        // then
+        assertThat(result).containsOnlyKeys(hitKey);
+        assertThat(result.get(hitKey)).containsExactly(0.5f, -0.5f);
+        assertThat(meterRegistry.get("openai.embedding.cache.hits").tag("tier", "database").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("openai.embedding.cache.misses").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DB 저장 실패해도 예외 발생하지 않고 메모리 캐시는 유지")
+    void putAll_DatabaseFailure_DoesNotPropagate() {
+        // given
+        String key = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "편의점");
+        given(embeddingCacheRepository.insertIfAbsent(eq(key), eq(MODEL), anyInt(), any(byte[].class)))
+                .willThrow(new RuntimeException("DB error"));
+
+        // when
+        embeddingCacheService.putAll(MODEL, Map.of(key, new float[]{1.0f}));
+
+        // then
+        assertThat(embeddingCacheService.getAll(List.of(key)).get(key)).containsExactly(1.0f);
+    }
+
+    @Test
+    @DisplayName("항목별로 저장하므로 한 항목이 실패해도 나머지 항목은 저장")
+    void putAll_OneEntryFails_PersistsOthers() {
+        // given
+        String failingKey = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "편의점");
+        String savedKey = embeddingCacheService.createCacheKey(MODEL, DIMENSION, "베이커리");
+        given(embeddingCacheRepository.insertIfAbsent(eq(failingKey), eq(MODEL), anyInt(), any(byte[].class)))
+                .willThrow(new RuntimeException("Lock wait timeout exceeded"));
+        given(embeddingCacheRepository.insertIfAbsent(eq(savedKey), eq(MODEL), anyInt(), any(byte[].class)))
+                .willReturn(1);
+
+        // when
+        embeddingCacheService.putAll(MODEL, Map.of(failingKey, new float[]{1.0f}, savedKey, new float[]{0.5f, 0.25f}));
+
+        // then
+        then(embeddingCacheRepository).should(times(1)).insertIfAbsent(eq(savedKey), eq(MODEL), eq(2), any(byte[].class));
+        then(embeddingCacheRepository).should(never()).saveAll(anyIterable());
+    }
+}
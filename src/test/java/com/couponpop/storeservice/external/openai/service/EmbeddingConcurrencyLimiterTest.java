@@ -0,0 +1,123 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmbeddingConcurrencyLimiter 테스트")
+class EmbeddingConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("현재 한도만큼 연속으로 성공하면 한도를 1 늘리고, 최대 한도를 넘지 않음")
+    void onSuccess_AdditiveIncrease_CappedAtMaxLimit() {
+        // given
+        EmbeddingConcurrencyLimiter limiter = new EmbeddingConcurrencyLimiter(2, 3, 10, meterRegistry);
+
+        // when & then
+        limiter.onSuccess();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        limiter.onSuccess();
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("429 응답 시 한도를 절반으로 줄이고, 유예 시간 안의 연속 429는 한 번만 반영")
+    void onThrottled_MultiplicativeDecrease_WithCooldown() {
+        // given
+        EmbeddingConcurrencyLimiter limiter = new EmbeddingConcurrencyLimiter(8, 32, 10, meterRegistry);
+
+        // when
+        limiter.onThrottled();
+        limiter.onThrottled();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 대기열에 넣고, 대기열도 가득 차면 즉시 거절")
+    void execute_QueueFull_Rejects() {
+        // given
+        EmbeddingConcurrencyLimiter limiter = new EmbeddingConcurrencyLimiter(1, 1, 1, meterRegistry);
+        Sinks.One<String> first = Sinks.one();
+        limiter.execute(first::asMono).subscribe();
+        limiter.execute(() -> Mono.just("queued")).subscribe();
+
+        // when
+        AtomicReference<Throwable> rejection = new AtomicReference<>();
+        limiter.execute(() -> Mono.just("rejected")).subscribe(value -> { }, rejection::set);
+
+        // then
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+        assertThat(rejection.get()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("openai.embedding.requests.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("앞선 요청이 끝나면 대기 중인 요청을 도착 순서대로 시작")
+    void execute_Release_StartsWaitingTasksInOrder() {
+        // given
+        EmbeddingConcurrencyLimiter limiter = new EmbeddingConcurrencyLimiter(1, 1, 10, meterRegistry);
+        List<String> started = new ArrayList<>();
+        List<Sinks.One<String>> responses = new ArrayList<>();
+        for (String name : List.of("A", "B", "C")) {
+            Sinks.One<String> response = Sinks.one();
+            responses.add(response);
+            limiter.execute(() -> {
+                started.add(name);
+                return response.asMono();
+            }).subscribe();
+        }
+        assertThat(started).containsExactly("A");
+
+        // when
+        responses.get(0).tryEmitValue("a");
+        responses.get(1).tryEmitValue("b");
+
+        // then
+        assertThat(started).containsExactly("A", "B", "C");
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("즉시 완료되는 요청이 길게 대기 중이어도 재귀 없이 모두 실행")
+    void execute_LongQueueOfSynchronousTasks_DoesNotGrowStack() {
+        // given
+        int queuedCount = 50_000;
+        EmbeddingConcurrencyLimiter limiter = new EmbeddingConcurrencyLimiter(1, 1, queuedCount, meterRegistry);
+        Sinks.One<Integer> first = Sinks.one();
+        limiter.execute(first::asMono).subscribe();
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < queuedCount; i++) {
+            int value = i;
+            limiter.execute(() -> Mono.just(value)).subscribe(v -> completed.incrementAndGet());
+        }
+
+        // when
+        first.tryEmitValue(-1);
+
+        // then
+        assertThat(completed.get()).isEqualTo(queuedCount);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueued()).isZero();
+    }
+}
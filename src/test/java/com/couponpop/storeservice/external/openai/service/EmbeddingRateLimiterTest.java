@@ -0,0 +1,61 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmbeddingRateLimiter 테스트")
+class EmbeddingRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    @DisplayName("분당 요청 한도 안에서는 대기 없이 통과")
+    void reserve_WithinRequestLimit_NoDelay() {
+        // given
+        EmbeddingRateLimiter rateLimiter = new EmbeddingRateLimiter(3, 1_000, new SimpleMeterRegistry(), clock::get);
+
+        // when & then
+        assertThat(rateLimiter.reserve(10)).isZero();
+        assertThat(rateLimiter.reserve(10)).isZero();
+        assertThat(rateLimiter.reserve(10)).isZero();
+    }
+
+    @Test
+    @DisplayName("분당 요청 한도를 넘으면 버킷이 채워질 때까지 대기")
+    void reserve_RequestLimitExceeded_Delays() {
+        // given
+        EmbeddingRateLimiter rateLimiter = new EmbeddingRateLimiter(60, 1_000_000, new SimpleMeterRegistry(), clock::get);
+        for (int i = 0; i < 60; i++) {
+            rateLimiter.reserve(1);
+        }
+
+        // when
+        Duration delay = rateLimiter.reserve(1);
+
+        // then - 분당 60건이면 1건 채우는 데 1초
+        assertThat(delay).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("분당 토큰 한도를 넘으면 부족한 토큰만큼 대기하고, 시간이 지나면 다시 통과")
+    void reserve_TokenLimitExceeded_DelaysThenRefills() {
+        // given
+        EmbeddingRateLimiter rateLimiter = new EmbeddingRateLimiter(1_000, 600, new SimpleMeterRegistry(), clock::get);
+        rateLimiter.reserve(600);
+
+        // when
+        Duration delay = rateLimiter.reserve(10);
+
+        // then - 분당 600토큰이면 10토큰 채우는 데 1초
+        assertThat(delay).isEqualTo(Duration.ofSeconds(1));
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThat(rateLimiter.reserve(100)).isZero();
+    }
+}
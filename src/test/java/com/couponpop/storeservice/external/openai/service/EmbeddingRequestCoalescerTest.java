@@ -0,0 +1,95 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.openai.dto.EmbeddingData;
+import com.couponpop.storeservice.external.openai.dto.EmbeddingResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmbeddingRequestCoalescer 테스트")
+class EmbeddingRequestCoalescerTest {
+
+    private final List<List<String>> sentBatches = new ArrayList<>();
+    private EmbeddingRequestCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 한 번의 요청으로 전송하고 index 기준으로 결과 분배")
+    void submit_MaxBatchSizeReached_SendsOneRequest() throws Exception {
+        // given
+        coalescer = new EmbeddingRequestCoalescer(this::respondInReverseOrder, Duration.ofSeconds(10), 3, new SimpleMeterRegistry());
+
+        // when
+        CompletableFuture<float[]> first = coalescer.submit("a");
+        CompletableFuture<float[]> second = coalescer.submit("bb");
+        CompletableFuture<float[]> third = coalescer.submit("ccc");
+
+        // then
+        assertThat(sentBatches).containsExactly(List.of("a", "bb", "ccc"));
+        assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly(1.0f);
+        assertThat(second.get(1, TimeUnit.SECONDS)).containsExactly(2.0f);
+        assertThat(third.get(1, TimeUnit.SECONDS)).containsExactly(3.0f);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 모인 요청을 전송하고 중복 텍스트는 한 번만 전송")
+    void submit_WindowElapsed_FlushesDistinctTexts() throws Exception {
+        // given
+        coalescer = new EmbeddingRequestCoalescer(this::respondInReverseOrder, Duration.ofMillis(20), 10, new SimpleMeterRegistry());
+
+        // when
+        CompletableFuture<float[]> first = coalescer.submit("카페");
+        CompletableFuture<float[]> duplicate = coalescer.submit("카페");
+
+        // then
+        assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly(2.0f);
+        assertThat(duplicate.get(1, TimeUnit.SECONDS)).containsExactly(2.0f);
+        assertThat(sentBatches).containsExactly(List.of("카페"));
+    }
+
+    @Test
+    @DisplayName("요청 실패 시 병합된 모든 요청에 예외 전파")
+    void submit_SenderFails_CompletesExceptionally() {
+        // given
+        coalescer = new EmbeddingRequestCoalescer(texts -> Mono.error(new RuntimeException("OpenAI error")),
+                Duration.ofSeconds(10), 2, new SimpleMeterRegistry());
+
+        // when
+        CompletableFuture<float[]> first = coalescer.submit("a");
+        CompletableFuture<float[]> second = coalescer.submit("b");
+
+        // then
+        assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).hasRootCauseMessage("OpenAI error");
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS)).hasRootCauseMessage("OpenAI error");
+    }
+
+    // 응답 순서를 뒤집어 index 기반 매핑을 검증 (벡터 값 = 텍스트 길이)
+    private Mono<EmbeddingResponse> respondInReverseOrder(List<String> texts) {
+        synchronized (sentBatches) {
+            sentBatches.add(List.copyOf(texts));
+        }
+
+        List<EmbeddingData> data = new ArrayList<>();
+        for (int i = texts.size() - 1; i >= 0; i--) {
+            data.add(new EmbeddingData(new float[]{texts.get(i).length()}, i));
+        }
+        return Mono.just(new EmbeddingResponse(data, "test-model", null));
+    }
+}
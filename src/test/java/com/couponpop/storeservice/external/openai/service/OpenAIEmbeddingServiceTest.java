@@ -0,0 +1,251 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenAIEmbeddingService 테스트")
+class OpenAIEmbeddingServiceTest {
+
+    private static final int DIMENSION = 3;
+    private static final String EMBEDDING_RESPONSE =
+            "{\"data\":[{\"embedding\":[0.1,0.2,0.3],\"index\":0}],\"model\":\"text-embedding-3-small\","
+                    + "\"usage\":{\"prompt_tokens\":1,\"total_tokens\":1}}";
+
+    @Mock
+    private EmbeddingCacheService embeddingCacheService;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .permittedNumberOfCallsInHalfOpenState(1)
+            .ignoreExceptions(WebClientResponseException.TooManyRequests.class)
+            .build());
+
+    private HttpServer server;
+    private volatile Function<String, MockResponse> responder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        lenient().when(embeddingCacheService.createCacheKey(anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(embeddingCacheService.getAll(anyCollection())).thenReturn(Map.of());
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/embeddings", exchange -> {
+            requestCount.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            MockResponse response = responder.apply(body);
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("하위 배치 요청이 실패하면 그 입력만 실패(null)로 반환하고 나머지 결과는 유지")
+    void generateEmbeddings_SubBatchFails_ReportsAffectedInputsAsFailed() {
+        // given
+        responder = body -> body.contains("\"fail\"")
+                ? new MockResponse(500, "{}")
+                : new MockResponse(200, EMBEDDING_RESPONSE);
+        OpenAIEmbeddingService service = createService(1);
+
+        // when
+        List<float[]> embeddings = service.generateEmbeddings(List.of("a", "fail", "b"));
+
+        // then
+        assertThat(embeddings).hasSize(3);
+        assertThat(embeddings.get(0)).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(embeddings.get(1)).isNull();
+        assertThat(embeddings.get(2)).containsExactly(0.1f, 0.2f, 0.3f);
+    }
+
+    @Test
+    @DisplayName("모든 요청이 실패해도 빈 리스트가 아닌 입력 크기만큼의 실패(null)를 반환")
+    void generateEmbeddings_AllFail_ReturnsFailurePerInput() {
+        // given
+        responder = body -> new MockResponse(500, "{}");
+        OpenAIEmbeddingService service = createService(1);
+
+        // when
+        List<float[]> embeddings = service.generateEmbeddings(List.of("a", "b"));
+
+        // then
+        assertThat(embeddings).hasSize(2).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("검색어 임베딩은 실패 시 빈 벡터로 폴백")
+    void generateEmbeddingAsync_Fails_FallsBackToEmptyEmbedding() {
+        // given
+        responder = body -> new MockResponse(500, "{}");
+        OpenAIEmbeddingService service = createService(1);
+
+        // when
+        float[] embedding = service.generateEmbeddingAsync("카페").block();
+
+        // then
+        assertThat(embedding).isSameAs(EmbeddingProvider.EMPTY_EMBEDDING);
+    }
+
+    @Test
+    @DisplayName("배치 요청 실패로 배치 서킷이 열려도 검색어 서킷은 닫힌 상태로 유지")
+    void generateEmbeddings_BatchFailures_DoNotOpenSearchCircuit() {
+        // given
+        responder = body -> new MockResponse(500, "{}");
+        OpenAIEmbeddingService service = createService(1);
+
+        // when
+        service.generateEmbeddings(List.of("a", "b"));
+        responder = body -> new MockResponse(200, EMBEDDING_RESPONSE);
+        float[] embedding = service.generateEmbeddingAsync("카페").block();
+
+        // then
+        assertThat(batchCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(searchCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(embedding).containsExactly(0.1f, 0.2f, 0.3f);
+    }
+
+    @Test
+    @DisplayName("배치 요청의 429 응답은 배치 서킷 실패로 집계하지 않음")
+    void generateEmbeddings_RateLimited_DoesNotOpenBatchCircuit() {
+        // given
+        responder = body -> new MockResponse(429, "{}");
+        OpenAIEmbeddingService service = createService(1);
+
+        // when
+        List<float[]> embeddings = service.generateEmbeddings(List.of("a", "b", "c"));
+
+        // then
+        assertThat(embeddings).containsOnlyNulls();
+        assertThat(batchCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(batchCircuitBreaker().getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색어 서킷이 열려 있으면 OpenAI를 호출하지 않고 빈 벡터로 폴백하며, 배치 요청은 계속 처리")
+    void generateEmbeddingAsync_SearchCircuitOpen_FallsBackWithoutCalling() {
+        // given
+        responder = body -> new MockResponse(200, EMBEDDING_RESPONSE);
+        OpenAIEmbeddingService service = createService(1);
+        searchCircuitBreaker().transitionToOpenState();
+
+        // when
+        float[] embedding = service.generateEmbeddingAsync("카페").block();
+        int searchRequests = requestCount.get();
+        List<float[]> embeddings = service.generateEmbeddings(List.of("a"));
+
+        // then
+        assertThat(embedding).isSameAs(EmbeddingProvider.EMPTY_EMBEDDING);
+        assertThat(searchRequests).isZero();
+        assertThat(embeddings.get(0)).containsExactly(0.1f, 0.2f, 0.3f);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태에서 시험 호출이 성공하면 서킷을 닫고, 실패하면 다시 연다")
+    void generateEmbeddingAsync_HalfOpen_ClosesOnSuccessAndReopensOnFailure() {
+        // given
+        OpenAIEmbeddingService service = createService(1);
+        CircuitBreaker searchCircuitBreaker = searchCircuitBreaker();
+        searchCircuitBreaker.transitionToOpenState();
+        searchCircuitBreaker.transitionToHalfOpenState();
+
+        // when
+        responder = body -> new MockResponse(200, EMBEDDING_RESPONSE);
+        float[] recovered = service.generateEmbeddingAsync("카페").block();
+
+        // then
+        assertThat(recovered).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(searchCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        searchCircuitBreaker.transitionToOpenState();
+        searchCircuitBreaker.transitionToHalfOpenState();
+        responder = body -> new MockResponse(500, "{}");
+        float[] fallback = service.generateEmbeddingAsync("카페").block();
+
+        // then
+        assertThat(fallback).isSameAs(EmbeddingProvider.EMPTY_EMBEDDING);
+        assertThat(searchCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private CircuitBreaker searchCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("openai-embedding");
+    }
+
+    private CircuitBreaker batchCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("openai-embedding-batch");
+    }
+
+    private OpenAIEmbeddingService createService(int batchMaxInputs) {
+        return new OpenAIEmbeddingService(
+                embeddingCacheService,
+                new SimpleMeterRegistry(),
+                circuitBreakerRegistry,
+                "test-api-key",
+                "http://localhost:" + server.getAddress().getPort() + "/v1/embeddings",
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                "text-embedding-3-small",
+                "float",
+                DIMENSION,
+                false,
+                Duration.ofMillis(10),
+                32,
+                8,
+                32,
+                200,
+                batchMaxInputs,
+                100000,
+                1,
+                3000,
+                1000000,
+                1,
+                Duration.ofMillis(10),
+                Duration.ofMillis(10));
+    }
+
+    private record MockResponse(int status, String body) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.couponpop.storeservice.external.openai.service;
+
+import com.couponpop.storeservice.external.embedding.EmbeddingProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryEmbeddingCache 테스트")
+class QueryEmbeddingCacheTest {
+
+    @Mock
+    private EmbeddingProvider embeddingProvider;
+
+    private QueryEmbeddingCache queryEmbeddingCache;
+
+    @BeforeEach
+    void setUp() {
+        queryEmbeddingCache = new QueryEmbeddingCache(embeddingProvider, new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(10), Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("같은 검색어 반복 조회 시 임베딩 API는 한 번만 호출")
+    void getOrGenerate_RepeatedKeyword_CallsApiOnce() {
+        // given
+        given(embeddingProvider.generateEmbeddingAsync("카페")).willReturn(Mono.just(new float[]{0.1f, 0.2f}));
+
+        // when
+        float[] first = queryEmbeddingCache.getOrGenerate("카페").block();
+        float[] second = queryEmbeddingCache.getOrGenerate("  카페 ").block();
+
+        // then
+        assertThat(first).containsExactly(0.1f, 0.2f);
+        assertThat(second).isEqualTo(first);
+        then(embeddingProvider).should(times(1)).generateEmbeddingAsync("카페");
+    }
+
+    @Test
+    @DisplayName("검색어 캐시 키 - 대소문자와 공백 차이는 같은 키로 취급")
+    void toCacheKey_IgnoresCaseAndWhitespace() {
+        assertThat(QueryEmbeddingCache.toCacheKey(" Starbucks   Coffee "))
+                .isEqualTo(QueryEmbeddingCache.toCacheKey("starbucks coffee"));
+    }
+
+    @Test
+    @DisplayName("임베딩 입력은 대소문자를 유지하고, 대소문자만 다른 검색어는 캐시를 공유")
+    void getOrGenerate_KeepsCaseForEmbeddingInput() {
+        // given
+        given(embeddingProvider.generateEmbeddingAsync("Starbucks Coffee")).willReturn(Mono.just(new float[]{0.5f}));
+
+        // when
+        float[] first = queryEmbeddingCache.getOrGenerate(" Starbucks   Coffee ").block();
+        float[] second = queryEmbeddingCache.getOrGenerate("STARBUCKS coffee").block();
+
+        // then
+        assertThat(first).containsExactly(0.5f);
+        assertThat(second).isEqualTo(first);
+        then(embeddingProvider).should(times(1)).generateEmbeddingAsync("Starbucks Coffee");
+    }
+
+    @Test
+    @DisplayName("임베딩 생성 실패 결과는 캐시하지 않음")
+    void getOrGenerate_EmptyEmbedding_NotCached() {
+        // given
+        given(embeddingProvider.generateEmbeddingAsync("치킨")).willReturn(Mono.just(new float[0]));
+
+        // when
+        float[] first = queryEmbeddingCache.getOrGenerate("치킨").block();
+        float[] second = queryEmbeddingCache.getOrGenerate("치킨").block();
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        then(embeddingProvider).should(times(2)).generateEmbeddingAsync("치킨");
+    }
+
+    @Test
+    @DisplayName("지연 예산을 넘기면 빈 리스트로 폴백하고, 진행 중이던 생성 결과는 캐시에 채워짐")
+    void getOrGenerate_LatencyBudgetExceeded_FallsBackAndCachesLater() {
+        // given
+        Sinks.One<float[]> slowResponse = Sinks.one();
+        given(embeddingProvider.generateEmbeddingAsync("피자")).willReturn(slowResponse.asMono());
+
+        // when
+        float[] first = queryEmbeddingCache.getOrGenerate("피자").block();
+        slowResponse.tryEmitValue(new float[]{0.3f, 0.4f});
+        float[] second = queryEmbeddingCache.getOrGenerate("피자").block();
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly(0.3f, 0.4f);
+        then(embeddingProvider).should(times(1)).generateEmbeddingAsync("피자");
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 API를 호출하지 않음")
+    void getOrGenerate_BlankKeyword_ReturnsEmpty() {
+        assertThat(queryEmbeddingCache.getOrGenerate("   ").block()).isEmpty();
+        verifyNoInteractions(embeddingProvider);
+    }
+}